@@ -4,6 +4,7 @@
  */
 package org.hibernate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -615,6 +616,36 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void lock(Object object, LockOptions lockOptions);
 
+	/**
+	 * Obtain the given {@linkplain LockMode lock mode} on each of the given
+	 * managed instances associated with this session.
+	 * <p>
+	 * Convenient form of {@link #lockAll(Collection, LockOptions)}.
+	 *
+	 * @param objects persistent instances associated with this session
+	 * @param lockMode the lock level
+	 *
+	 * @see #lockAll(Collection, LockOptions)
+	 *
+	 * @since 7.0
+	 */
+	void lockAll(Collection<?> objects, LockMode lockMode);
+
+	/**
+	 * Obtain a lock on each of the given managed instances associated with this
+	 * session, using the given {@linkplain LockOptions lock options}. This has
+	 * the same effect as calling {@link #lock(Object, LockOptions)} for each
+	 * instance, except that a pessimistic lock is obtained on all unlocked
+	 * instances of a given entity by a single {@code select ... for update}
+	 * statement, whenever possible.
+	 *
+	 * @param objects persistent instances associated with this session
+	 * @param lockOptions the lock options
+	 *
+	 * @since 7.0
+	 */
+	void lockAll(Collection<?> objects, LockOptions lockOptions);
+
 	/**
 	 * Reread the state of the given managed instance associated with this session
 	 * from the underlying database. This may be useful:
@@ -659,6 +690,65 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void refresh(Object object, LockOptions lockOptions);
 
+	/**
+	 * Reread the state of each of the given managed instances associated with
+	 * this session from the underlying database.
+	 * <p>
+	 * Convenient form of {@link #refreshAll(Collection, LockOptions)}.
+	 *
+	 * @param objects persistent instances associated with this session
+	 *
+	 * @see #refreshAll(Collection, LockOptions)
+	 *
+	 * @since 7.0
+	 */
+	void refreshAll(Collection<?> objects);
+
+	/**
+	 * Reread the state of each of the given managed instances associated with
+	 * this session from the underlying database, obtaining the given lock mode.
+	 * This has the same effect as calling {@link #refresh(Object, LockOptions)}
+	 * for each instance, except that the state of the instances of a given
+	 * entity is read by a single statement, whenever possible.
+	 * <p>
+	 * An instance is still refreshed by its own statement when the refresh
+	 * cascades from it to an associated instance, or when it holds a lock
+	 * stronger than the requested lock mode.
+	 *
+	 * @param objects persistent instances associated with this session
+	 * @param lockOptions contains the lock mode to use
+	 *
+	 * @since 7.0
+	 */
+	void refreshAll(Collection<?> objects, LockOptions lockOptions);
+
+	/**
+	 * Initialize the association with the given path for each of the given
+	 * managed entities or proxies associated with this session, using as few
+	 * queries as possible: one query for each collection role or entity type
+	 * reached along the path, with the exact set of keys to initialize,
+	 * regardless of the configured {@linkplain org.hibernate.annotations.BatchSize
+	 * batch size}. The number of keys bound to a single query may be limited
+	 * by the database.
+	 * <p>
+	 * The path is a sequence of association attribute names, separated by dots.
+	 * For example, if {@code orders} is a list of {@code Order}s:
+	 * <pre>
+	 * session.initializeAll(orders, "lines.product");
+	 * </pre>
+	 * initializes the collection {@code lines} of every order, and then the
+	 * proxy {@code product} of every order line.
+	 *
+	 * @param objects persistent instances associated with this session
+	 * @param attributePath the path of the association to initialize
+	 *
+	 * @throws IllegalArgumentException if an element of the path is not an
+	 *         association of the entity it is applied to
+	 *
+	 * @since 7.0
+	 */
+	void initializeAll(Collection<?> objects, String attributePath);
+
 	/**
 	 * Mark a persistence instance associated with this session for removal from
 	 * the underlying database. Ths operation cascades to associated instances if
@@ -60,5 +60,36 @@ public interface SessionEventListener extends Serializable {
 	default void dirtyCalculationStart() {}
 	default void dirtyCalculationEnd(boolean dirty) {}
 
+	/**
+	 * Called before an association is fetched from the database by a separate
+	 * select, that is, when a proxy or collection is initialized, or when an
+	 * eager association is fetched by a subsequent select.
+	 *
+	 * @since 7.0
+	 */
+	default void associationFetchStart() {}
+
+	/**
+	 * Called after an association was fetched from the database by a separate
+	 * select.
+	 *
+	 * @param role the name of the fetched entity, or the role of the fetched
+	 *             collection
+	 *
+	 * @since 7.0
+	 */
+	default void associationFetchEnd(String role) {}
+
+	/**
+	 * Called when the estimated size of the persistence context first exceeds
+	 * the {@linkplain org.hibernate.cfg.SessionEventSettings#SESSION_MEMORY_SOFT_CAP
+	 * soft cap}. Not called again until the estimate has dropped back under the cap.
+	 *
+	 * @param estimatedSize the estimated size, in bytes
+	 *
+	 * @since 7.0
+	 */
+	default void memorySoftCapExceeded(long estimatedSize) {}
+
 	default void end() {}
 }
@@ -23,6 +23,7 @@ public final class CollectionRemoveAction extends CollectionAction {
 
 	private final Object affectedOwner;
 	private final boolean emptySnapshot;
+	private final boolean removeElements;
 
 	/**
 	 * Removes a persistent collection from its loaded owner.
@@ -48,6 +49,7 @@ public final class CollectionRemoveAction extends CollectionAction {
 			throw new AssertionFailure("collection == null");
 		}
 		this.emptySnapshot = emptySnapshot;
+		this.removeElements = false;
 		// the loaded owner will be set to null after the collection is removed,
 		// so capture its value as the affected owner so it is accessible to
 		// both pre- and post- events
@@ -78,6 +80,7 @@ public final class CollectionRemoveAction extends CollectionAction {
 			throw new AssertionFailure("affectedOwner == null");
 		}
 		this.emptySnapshot = emptySnapshot;
+		this.removeElements = false;
 		this.affectedOwner = affectedOwner;
 	}
 
@@ -96,11 +99,42 @@ public final class CollectionRemoveAction extends CollectionAction {
 			final EventSource session) {
 		super( persister, null, id, session );
 		emptySnapshot = false;
+		removeElements = false;
 		affectedOwner = null;
 	}
 
+	/**
+	 * Removes the entities belonging to an uninitialized collection, without
+	 * loading them, when the owner of a one-to-many association is deleted.
+	 * <p>
+	 * The collection itself is left to the usual processing at flush time.
+	 *
+	 * @param collection The uninitialized collection
+	 * @param persister The collection's persister
+	 * @param id The collection key
+	 * @param session The session
+	 *
+	 * @see CollectionPersister#removeElements(Object, SharedSessionContractImplementor)
+	 */
+	public CollectionRemoveAction(
+			final PersistentCollection<?> collection,
+			final CollectionPersister persister,
+			final Object id,
+			final EventSource session) {
+		super( persister, collection, id, session );
+		emptySnapshot = false;
+		removeElements = true;
+		affectedOwner = session.getPersistenceContextInternal().getLoadedCollectionOwnerOrNull( collection );
+	}
+
 	@Override
 	public void execute() throws HibernateException {
+		if ( removeElements ) {
+			getPersister().removeElements( getKey(), getSession() );
+			evict();
+			return;
+		}
+
 		preRemove();
 		final SharedSessionContractImplementor session = getSession();
 		if ( !emptySnapshot ) {
@@ -156,4 +190,12 @@ public final class CollectionRemoveAction extends CollectionAction {
 	public Object getAffectedOwner() {
 		return affectedOwner;
 	}
+
+	/**
+	 * Does this action delete the entities belonging to the collection,
+	 * rather than the collection itself?
+	 */
+	public boolean isRemoveElements() {
+		return removeElements;
+	}
 }
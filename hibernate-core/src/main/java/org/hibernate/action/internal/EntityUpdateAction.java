@@ -7,12 +7,14 @@ package org.hibernate.action.internal;
 import org.hibernate.AssertionFailure;
 import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.HashedSnapshot;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -33,6 +35,7 @@ import org.hibernate.stat.internal.StatsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.TypeHelper;
+import org.hibernate.type.descriptor.java.JavaType;
 
 import static org.hibernate.engine.internal.Versioning.getVersion;
 
@@ -263,11 +266,36 @@ public class EntityUpdateAction extends EntityAction {
 			if ( persister.isVersionPropertyGenerated() ) {
 				nextVersion = getVersion( state, persister );
 			}
-			entry.postUpdate( instance, state, nextVersion );
+			entry.postUpdate( instance, hashSnapshots( state, persister, session ), nextVersion );
 			entry.setMaybeLazySet( null );
 		}
 	}
 
+	/**
+	 * A copy of the given state with a {@link HashedSnapshot} in place of the value
+	 * of each attribute which {@linkplain EntityPersister#getHashedSnapshotJavaTypes()
+	 * is snapshotted as a hash}, or the state itself if there is no such attribute.
+	 */
+	private static Object[] hashSnapshots(
+			Object[] state,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		final JavaType<?>[] hashedSnapshotJavaTypes = HashedSnapshot.getJavaTypes( persister, session );
+		if ( hashedSnapshotJavaTypes == null ) {
+			return state;
+		}
+		else {
+			final Object[] loadedState = state.clone();
+			for ( int i = 0; i < hashedSnapshotJavaTypes.length; i++ ) {
+				if ( hashedSnapshotJavaTypes[i] != null
+						&& loadedState[i] != LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+					loadedState[i] = HashedSnapshot.of( loadedState[i], hashedSnapshotJavaTypes[i] );
+				}
+			}
+			return loadedState;
+		}
+	}
+
 	/*
 	 * Used by Hibernate Reactive
 	 */
@@ -52,7 +52,17 @@ public @interface UuidGenerator {
 		 * @implNote Can be a bottleneck, since synchronization is used when
 		 *           incrementing an internal counter as part of the algorithm.
 		 */
-		TIME
+		TIME,
+		/**
+		 * Use a time-ordered generation strategy consistent with RFC 9562
+		 * version 7, with a millisecond timestamp in the most significant
+		 * bits. Since the generated values are roughly ordered by creation
+		 * time, inserts into an index on the identifier column are local.
+		 *
+		 * @see org.hibernate.id.uuid.UuidVersion7Strategy
+		 * @since 7.0
+		 */
+		VERSION_7
 	}
 
 	/**
@@ -97,6 +97,7 @@ import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLEC
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.INCREMENTAL_BAG_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
@@ -204,10 +205,28 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private final boolean incrementalBagUpdatesEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean UnownedAssociationTransientCheck;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
+	private final boolean scopedAutoFlushEnabled;
+	private final long sessionMemorySoftCap;
+	private final boolean sessionMemorySoftCapEvictionEnabled;
+	private final boolean hashedSnapshotsEnabled;
+	private final boolean mergeMultiLoadEnabled;
+	private final int adaptiveBatchFetchMaxSize;
+	private final int nPlusOneThreshold;
+	private final double fetchAdvisorSamplingRate;
+	private final boolean fetchAdvisorApplyEnabled;
+	private final int rowReaderOptimizationThreshold;
+	private final int queryCacheColumnarThreshold;
+	private final boolean fetchGraphColumnPruningEnabled;
+	private final boolean queryIdsOnlyEnabled;
+	private final int jdbcStatementCacheSize;
+	private final int adaptiveFetchSizeMax;
+	private final int adaptiveFetchSizeMin;
+	private final int parallelHydrationThreshold;
 
 	// JPA callbacks
 	private final boolean callbacksEnabled;
@@ -397,6 +416,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 		this.orderUpdatesEnabled = getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = getBoolean( ORDER_INSERTS, configurationSettings );
+		this.incrementalBagUpdatesEnabled = getBoolean( INCREMENTAL_BAG_UPDATES, configurationSettings );
 
 		this.callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -640,6 +660,107 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				false
 		);
+
+		this.scopedAutoFlushEnabled = ConfigurationHelper.getBoolean(
+				AvailableSettings.SCOPED_AUTO_FLUSH,
+				configurationSettings,
+				false
+		);
+
+		this.sessionMemorySoftCap = ConfigurationHelper.getLong(
+				AvailableSettings.SESSION_MEMORY_SOFT_CAP,
+				configurationSettings,
+				0
+		);
+		this.sessionMemorySoftCapEvictionEnabled = ConfigurationHelper.getBoolean(
+				AvailableSettings.SESSION_MEMORY_SOFT_CAP_EVICTION,
+				configurationSettings,
+				false
+		);
+
+		this.hashedSnapshotsEnabled = ConfigurationHelper.getBoolean(
+				AvailableSettings.HASHED_SNAPSHOTS,
+				configurationSettings,
+				false
+		);
+
+		this.mergeMultiLoadEnabled = ConfigurationHelper.getBoolean(
+				AvailableSettings.MERGE_MULTI_LOAD,
+				configurationSettings,
+				false
+		);
+
+		this.adaptiveBatchFetchMaxSize = ConfigurationHelper.getInt(
+				AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE,
+				configurationSettings,
+				0
+		);
+
+		this.nPlusOneThreshold = ConfigurationHelper.getInt(
+				AvailableSettings.N_PLUS_ONE_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
+		this.fetchAdvisorSamplingRate = configurationService.getSetting(
+				AvailableSettings.FETCH_ADVISOR_SAMPLING_RATE,
+				value -> value instanceof Number number ? number.doubleValue() : Double.parseDouble( value.toString() ),
+				0.0
+		);
+
+		this.fetchAdvisorApplyEnabled = ConfigurationHelper.getBoolean(
+				AvailableSettings.FETCH_ADVISOR_APPLY,
+				configurationSettings,
+				false
+		);
+
+		this.rowReaderOptimizationThreshold = ConfigurationHelper.getInt(
+				AvailableSettings.ROW_READER_OPTIMIZATION_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
+		this.queryCacheColumnarThreshold = ConfigurationHelper.getInt(
+				AvailableSettings.QUERY_CACHE_COLUMNAR_THRESHOLD,
+				configurationSettings,
+				0
+		);
+
+		this.fetchGraphColumnPruningEnabled = ConfigurationHelper.getBoolean(
+				AvailableSettings.FETCH_GRAPH_COLUMN_PRUNING,
+				configurationSettings,
+				false
+		);
+
+		this.queryIdsOnlyEnabled = ConfigurationHelper.getBoolean(
+				AvailableSettings.QUERY_IDS_ONLY,
+				configurationSettings,
+				false
+		);
+
+		this.jdbcStatementCacheSize = ConfigurationHelper.getInt(
+				AvailableSettings.STATEMENT_CACHE_SIZE,
+				configurationSettings,
+				0
+		);
+
+		this.adaptiveFetchSizeMax = ConfigurationHelper.getInt(
+				AvailableSettings.ADAPTIVE_FETCH_SIZE_MAX,
+				configurationSettings,
+				0
+		);
+
+		this.adaptiveFetchSizeMin = ConfigurationHelper.getInt(
+				AvailableSettings.ADAPTIVE_FETCH_SIZE_MIN,
+				configurationSettings,
+				10
+		);
+
+		this.parallelHydrationThreshold = ConfigurationHelper.getInt(
+				AvailableSettings.PARALLEL_HYDRATION_THRESHOLD,
+				configurationSettings,
+				0
+		);
 	}
 
 	private boolean disallowBatchUpdates(Dialect dialect, ExtractedDatabaseMetaData meta) {
@@ -1061,6 +1182,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isIncrementalBagUpdatesEnabled() {
+		return incrementalBagUpdatesEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1336,6 +1462,91 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return preferJdbcDatetimeTypes;
 	}
 
+	@Override
+	public boolean isScopedAutoFlushEnabled() {
+		return scopedAutoFlushEnabled;
+	}
+
+	@Override
+	public long getSessionMemorySoftCap() {
+		return sessionMemorySoftCap;
+	}
+
+	@Override
+	public boolean isSessionMemorySoftCapEvictionEnabled() {
+		return sessionMemorySoftCapEvictionEnabled;
+	}
+
+	@Override
+	public boolean isHashedSnapshotsEnabled() {
+		return hashedSnapshotsEnabled;
+	}
+
+	@Override
+	public boolean isMergeMultiLoadEnabled() {
+		return mergeMultiLoadEnabled;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return adaptiveBatchFetchMaxSize;
+	}
+
+	@Override
+	public int getNPlusOneThreshold() {
+		return nPlusOneThreshold;
+	}
+
+	@Override
+	public double getFetchAdvisorSamplingRate() {
+		return fetchAdvisorSamplingRate;
+	}
+
+	@Override
+	public boolean isFetchAdvisorApplyEnabled() {
+		return fetchAdvisorApplyEnabled;
+	}
+
+	@Override
+	public int getRowReaderOptimizationThreshold() {
+		return rowReaderOptimizationThreshold;
+	}
+
+	@Override
+	public int getQueryCacheColumnarThreshold() {
+		return queryCacheColumnarThreshold;
+	}
+
+	@Override
+	public boolean isFetchGraphColumnPruningEnabled() {
+		return fetchGraphColumnPruningEnabled;
+	}
+
+	@Override
+	public boolean isQueryIdsOnlyEnabled() {
+		return queryIdsOnlyEnabled;
+	}
+
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMax() {
+		return adaptiveFetchSizeMax;
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMin() {
+		return adaptiveFetchSizeMin;
+	}
+
+	@Override
+	public int getParallelHydrationThreshold() {
+		return parallelHydrationThreshold;
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
 
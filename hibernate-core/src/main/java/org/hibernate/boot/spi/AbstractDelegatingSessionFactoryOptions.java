@@ -202,6 +202,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isIncrementalBagUpdatesEnabled() {
+		return delegate.isIncrementalBagUpdatesEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -515,4 +520,89 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isPreferJdbcDatetimeTypesInNativeQueriesEnabled() {
 		return delegate.isPreferJdbcDatetimeTypesInNativeQueriesEnabled();
 	}
+
+	@Override
+	public boolean isScopedAutoFlushEnabled() {
+		return delegate.isScopedAutoFlushEnabled();
+	}
+
+	@Override
+	public long getSessionMemorySoftCap() {
+		return delegate.getSessionMemorySoftCap();
+	}
+
+	@Override
+	public boolean isSessionMemorySoftCapEvictionEnabled() {
+		return delegate.isSessionMemorySoftCapEvictionEnabled();
+	}
+
+	@Override
+	public boolean isHashedSnapshotsEnabled() {
+		return delegate.isHashedSnapshotsEnabled();
+	}
+
+	@Override
+	public boolean isMergeMultiLoadEnabled() {
+		return delegate.isMergeMultiLoadEnabled();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMaxSize() {
+		return delegate.getAdaptiveBatchFetchMaxSize();
+	}
+
+	@Override
+	public int getNPlusOneThreshold() {
+		return delegate.getNPlusOneThreshold();
+	}
+
+	@Override
+	public double getFetchAdvisorSamplingRate() {
+		return delegate.getFetchAdvisorSamplingRate();
+	}
+
+	@Override
+	public boolean isFetchAdvisorApplyEnabled() {
+		return delegate.isFetchAdvisorApplyEnabled();
+	}
+
+	@Override
+	public int getRowReaderOptimizationThreshold() {
+		return delegate.getRowReaderOptimizationThreshold();
+	}
+
+	@Override
+	public int getQueryCacheColumnarThreshold() {
+		return delegate.getQueryCacheColumnarThreshold();
+	}
+
+	@Override
+	public boolean isFetchGraphColumnPruningEnabled() {
+		return delegate.isFetchGraphColumnPruningEnabled();
+	}
+
+	@Override
+	public boolean isQueryIdsOnlyEnabled() {
+		return delegate.isQueryIdsOnlyEnabled();
+	}
+
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMax() {
+		return delegate.getAdaptiveFetchSizeMax();
+	}
+
+	@Override
+	public int getAdaptiveFetchSizeMin() {
+		return delegate.getAdaptiveFetchSizeMin();
+	}
+
+	@Override
+	public int getParallelHydrationThreshold() {
+		return delegate.getParallelHydrationThreshold();
+	}
 }
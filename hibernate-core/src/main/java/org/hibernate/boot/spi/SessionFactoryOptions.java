@@ -146,6 +146,17 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * Should bags be updated incrementally, instead of being recreated?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#INCREMENTAL_BAG_UPDATES
+	 */
+	default boolean isIncrementalBagUpdatesEnabled() {
+		return false;
+	}
+
 	boolean isMultiTenancyEnabled();
 
 	CurrentTenantIdentifierResolver<Object> getCurrentTenantIdentifierResolver();
@@ -373,4 +384,203 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 * @see org.hibernate.cfg.QuerySettings#NATIVE_PREFER_JDBC_DATETIME_TYPES
 	 */
 	boolean isPreferJdbcDatetimeTypesInNativeQueriesEnabled();
+
+	/**
+	 * Should the automatic flush before a query dirty check only the
+	 * entities and collections affecting the query?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SCOPED_AUTO_FLUSH
+	 */
+	default boolean isScopedAutoFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * The approximate number of bytes of persistence context state above which
+	 * a session notifies its listeners, or zero if there is no limit.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.SessionEventSettings#SESSION_MEMORY_SOFT_CAP
+	 */
+	default long getSessionMemorySoftCap() {
+		return 0;
+	}
+
+	/**
+	 * Should read-only entities be evicted from a session which exceeds its
+	 * {@linkplain #getSessionMemorySoftCap() soft cap}?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.SessionEventSettings#SESSION_MEMORY_SOFT_CAP_EVICTION
+	 */
+	default boolean isSessionMemorySoftCapEvictionEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the loaded state of large mutable attributes be kept as a hash?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#HASHED_SNAPSHOTS
+	 */
+	default boolean isHashedSnapshotsEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should merge load the detached entities of a graph with one multi-id load per entity type?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MERGE_MULTI_LOAD
+	 */
+	default boolean isMergeMultiLoadEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum batch size used by adaptive batch fetching, or {@code 0} if batch sizes are fixed.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 */
+	default int getAdaptiveBatchFetchMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * The number of separate fetches of the same association, between two flushes, which is reported as an N+1 select problem, or {@code 0} if detection is disabled.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.SessionEventSettings#N_PLUS_ONE_THRESHOLD
+	 */
+	default int getNPlusOneThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The fraction of sessions in which fetched and accessed associations are
+	 * profiled to produce fetch plan advice, or {@code 0} if disabled.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_SAMPLING_RATE
+	 */
+	default double getFetchAdvisorSamplingRate() {
+		return 0.0;
+	}
+
+	/**
+	 * Should the associations which fetch plan advice recommends fetching be
+	 * applied to queries as a load graph?
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_APPLY
+	 */
+	default boolean isFetchAdvisorApplyEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of times the results of a query plan must have been read before
+	 * its row reading is optimized by a generated class, or {@code 0} if row reading
+	 * is never optimized.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#ROW_READER_OPTIMIZATION_THRESHOLD
+	 */
+	default int getRowReaderOptimizationThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The minimum number of rows of a query result for which the query cache
+	 * entry is encoded column by column, or {@code 0} if query cache entries
+	 * are never encoded column by column.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR_THRESHOLD
+	 */
+	default int getQueryCacheColumnarThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Whether basic attributes excluded by a fetch graph are left out of the
+	 * SQL select list of entities enhanced for lazy loading.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#FETCH_GRAPH_COLUMN_PRUNING
+	 */
+	default boolean isFetchGraphColumnPruningEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether queries returning cacheable entities select only identifiers by default.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_IDS_ONLY
+	 */
+	default boolean isQueryIdsOnlyEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of idle prepared statements cached by each logical connection.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * The largest fetch size set adaptively from the row counts of previous
+	 * executions, or {@code 0} if the fetch size is not adapted.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_MAX
+	 */
+	default int getAdaptiveFetchSizeMax() {
+		return 0;
+	}
+
+	/**
+	 * The smallest fetch size set adaptively from the row counts of previous executions.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_MIN
+	 */
+	default int getAdaptiveFetchSizeMin() {
+		return 10;
+	}
+
+	/**
+	 * The number of rows of a query result beyond which the remaining rows are
+	 * hydrated in parallel.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_THRESHOLD
+	 */
+	default int getParallelHydrationThreshold() {
+		return 0;
+	}
 }
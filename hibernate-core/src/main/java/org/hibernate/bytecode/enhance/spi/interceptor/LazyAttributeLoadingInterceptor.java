@@ -17,6 +17,7 @@ import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.FetchPlanProfiler;
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.asSelfDirtinessTracker;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
@@ -53,6 +54,13 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 
 	@Override
 	protected Object handleRead(Object target, String attributeName, Object value) {
+		final SharedSessionContractImplementor session = getLinkedSession();
+		if ( session != null ) {
+			final FetchPlanProfiler fetchPlanProfiler = session.getFetchPlanProfiler();
+			if ( fetchPlanProfiler != null ) {
+				fetchPlanProfiler.attributeRead( target, attributeName );
+			}
+		}
 		if ( !isAttributeLoaded( attributeName ) ) {
 			Object loadedValue = fetchAttribute( target, attributeName );
 			attributeInitialized( attributeName );
@@ -135,6 +135,24 @@ public final class ByteBuddyState {
 		.getLoaded();
 	}
 
+	/**
+	 * Load a class generated by ByteBuddy as a hidden class, which can be unloaded
+	 * as soon as it is no longer referenced.
+	 *
+	 * @param lookup A lookup with full privilege access to the package of the generated class.
+	 * @param makeClassFunction A function building the class.
+	 * @return The loaded generated class.
+	 */
+	public Class<?> loadHidden(MethodHandles.Lookup lookup, Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		final Unloaded<?> result = make( makeClassFunction.apply( byteBuddy ) );
+		try {
+			return lookup.defineHiddenClass( result.getBytes(), true ).lookupClass();
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to define hidden class '" + result.getTypeDescription().getName() + "'", e );
+		}
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
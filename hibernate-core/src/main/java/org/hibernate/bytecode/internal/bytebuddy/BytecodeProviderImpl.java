@@ -29,6 +29,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterc
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.Managed;
@@ -46,6 +47,7 @@ import org.hibernate.property.access.spi.Setter;
 import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
@@ -1306,6 +1308,17 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public @Nullable RowReaderOptimizer getRowReaderOptimizer(JdbcValuesMappingResolution resolution) {
+		try {
+			return RowReaderOptimizerGenerator.generate( byteBuddyState, resolution );
+		}
+		catch (RuntimeException | LinkageError e) {
+			LOG.warn( "Unable to generate row reader optimizer, rows will be read without it", e );
+			return null;
+		}
+	}
+
 	@Override
 	public @Nullable Enhancer getEnhancer(EnhancementContext enhancementContext) {
 		return new EnhancerImpl( enhancementContext, byteBuddyState );
@@ -0,0 +1,427 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * Generates a {@link RowReaderOptimizer} for the initializers and assemblers of a
+ * resolved JDBC values mapping, as a hidden class which holds each initializer and
+ * assembler in a field typed with its concrete class, and which unrolls the loops
+ * of {@link org.hibernate.sql.results.internal.StandardRowReader} over them.
+ * <p>
+ * Since every query plan gets its own class, every call to an initializer or
+ * assembler is made from its own call site, which the JIT sees as monomorphic
+ * and can inline, instead of the megamorphic call sites of the loops.
+ */
+final class RowReaderOptimizerGenerator {
+	private static final String ROW_READER_OPTIMIZER_NAMING_SUFFIX = "HibernateRowReaderOptimizer";
+
+	private static final Method RESOLVE_KEY = getMethod( Initializer.class, "resolveKey", InitializerData.class );
+	private static final Method RESOLVE_INSTANCE = getMethod( Initializer.class, "resolveInstance", InitializerData.class );
+	private static final Method INITIALIZE_INSTANCE = getMethod( Initializer.class, "initializeInstance", InitializerData.class );
+	private static final Method ASSEMBLE = getMethod( DomainResultAssembler.class, "assemble", RowProcessingState.class );
+	private static final Method GET_STATE = getMethod( InitializerData.class, "getState" );
+	private static final Method SET_STATE = getMethod( InitializerData.class, "setState", Initializer.State.class );
+
+	private static final String STATE_INTERNAL_NAME = Type.getInternalName( Initializer.State.class );
+	private static final String STATE_DESCRIPTOR = Type.getDescriptor( Initializer.State.class );
+
+	private RowReaderOptimizerGenerator() {
+	}
+
+	static RowReaderOptimizer generate(ByteBuddyState byteBuddyState, JdbcValuesMappingResolution resolution) {
+		final List<GeneratedField> fields = new ArrayList<>();
+		final List<GeneratedField> resultInitializers =
+				addFields( fields, "resultInitializer", resolution.getResultInitializers(), Initializer.class );
+		final List<GeneratedField> sortedForResolveInstance =
+				addFields( fields, "sortedForResolveInstance", resolution.getSortedForResolveInstance(), Initializer.class );
+		final List<GeneratedField> initializers =
+				addFields( fields, "initializer", resolution.getInitializers(), Initializer.class );
+		final List<GeneratedField> assemblers =
+				addFields( fields, "assembler", resolution.getDomainResultAssemblers(), DomainResultAssembler.class );
+
+		final Class<?> optimizerClass = byteBuddyState.loadHidden( MethodHandles.lookup(), byteBuddy -> {
+			DynamicType.Builder<?> builder = byteBuddy
+					.with( new NamingStrategy.SuffixingRandom(
+							ROW_READER_OPTIMIZER_NAMING_SUFFIX,
+							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue(
+									RowReaderOptimizerGenerator.class.getName()
+							)
+					) )
+					.subclass( Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS )
+					.implement( RowReaderOptimizer.class );
+			for ( GeneratedField field : fields ) {
+				builder = builder.defineField( field.name, field.type, Visibility.PRIVATE, FieldManifestation.FINAL );
+			}
+			return builder
+					.defineConstructor( Visibility.PUBLIC )
+					.withParameters( Object[].class )
+					.intercept( new Implementation.Simple( new InitializeFields( fields ) ) )
+					.method( named( "coordinateInitializers" ) )
+					.intercept( new Implementation.Simple(
+							new CoordinateInitializers( resultInitializers, sortedForResolveInstance, initializers )
+					) )
+					.method( named( "assembleFirst" ) )
+					.intercept( new Implementation.Simple( new AssembleFirst( assemblers ) ) )
+					.method( named( "assembleRow" ) )
+					.intercept( new Implementation.Simple( new AssembleRow( assemblers ) ) )
+					.method( named( "finishUpRow" ) )
+					.intercept( new Implementation.Simple( new FinishUpRow( initializers.size() ) ) );
+		} );
+
+		final Object[] values = new Object[fields.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = fields.get( i ).value;
+		}
+		try {
+			return (RowReaderOptimizer) optimizerClass.getConstructor( Object[].class ).newInstance( (Object) values );
+		}
+		catch (Exception e) {
+			throw new HibernateException( "Unable to instantiate row reader optimizer", e );
+		}
+	}
+
+	private static List<GeneratedField> addFields(
+			List<GeneratedField> fields,
+			String namePrefix,
+			Object[] values,
+			Class<?> contract) {
+		final List<GeneratedField> addedFields = new ArrayList<>( values.length );
+		for ( int i = 0; i < values.length; i++ ) {
+			final GeneratedField field = new GeneratedField(
+					namePrefix + i,
+					accessibleType( values[i].getClass(), contract ),
+					values[i]
+			);
+			fields.add( field );
+			addedFields.add( field );
+		}
+		return addedFields;
+	}
+
+	/**
+	 * The most specific class of the given object which the generated class is
+	 * able to reference, or else the contract it implements.
+	 */
+	private static Class<?> accessibleType(Class<?> type, Class<?> contract) {
+		for ( Class<?> candidate = type; candidate != null && candidate != Object.class; candidate = candidate.getSuperclass() ) {
+			if ( contract.isAssignableFrom( candidate ) && isAccessible( candidate ) ) {
+				return candidate;
+			}
+		}
+		return contract;
+	}
+
+	private static boolean isAccessible(Class<?> type) {
+		if ( !Modifier.isPublic( type.getModifiers() ) || type.isHidden() ) {
+			return false;
+		}
+		try {
+			return Class.forName( type.getName(), false, RowReaderOptimizerGenerator.class.getClassLoader() ) == type;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+		try {
+			return type.getMethod( name, parameterTypes );
+		}
+		catch (NoSuchMethodException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	private static void pushInt(MethodVisitor methodVisitor, int value) {
+		if ( value <= 5 ) {
+			methodVisitor.visitInsn( Opcodes.ICONST_0 + value );
+		}
+		else if ( value <= Byte.MAX_VALUE ) {
+			methodVisitor.visitIntInsn( Opcodes.BIPUSH, value );
+		}
+		else if ( value <= Short.MAX_VALUE ) {
+			methodVisitor.visitIntInsn( Opcodes.SIPUSH, value );
+		}
+		else {
+			methodVisitor.visitLdcInsn( value );
+		}
+	}
+
+	private static void getField(MethodVisitor methodVisitor, Implementation.Context implementationContext, GeneratedField field) {
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+		methodVisitor.visitFieldInsn(
+				Opcodes.GETFIELD,
+				implementationContext.getInstrumentedType().getInternalName(),
+				field.name,
+				Type.getDescriptor( field.type )
+		);
+	}
+
+	private static void invoke(MethodVisitor methodVisitor, Class<?> owner, Method method) {
+		methodVisitor.visitMethodInsn(
+				owner.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+				Type.getInternalName( owner ),
+				method.getName(),
+				Type.getMethodDescriptor( method ),
+				owner.isInterface()
+		);
+	}
+
+	private static void loadArrayElement(MethodVisitor methodVisitor, int arrayIndex, int elementIndex) {
+		methodVisitor.visitVarInsn( Opcodes.ALOAD, arrayIndex );
+		pushInt( methodVisitor, elementIndex );
+		methodVisitor.visitInsn( Opcodes.AALOAD );
+	}
+
+	private static class GeneratedField {
+		private final String name;
+		private final Class<?> type;
+		private final Object value;
+
+		private GeneratedField(String name, Class<?> type, Object value) {
+			this.name = name;
+			this.type = type;
+			this.value = value;
+		}
+	}
+
+	private static class InitializeFields implements ByteCodeAppender {
+		private final List<GeneratedField> fields;
+
+		private InitializeFields(List<GeneratedField> fields) {
+			this.fields = fields;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKESPECIAL,
+					Type.getInternalName( Object.class ),
+					MethodDescription.CONSTRUCTOR_INTERNAL_NAME,
+					"()V",
+					false
+			);
+			for ( int i = 0; i < fields.size(); i++ ) {
+				final GeneratedField field = fields.get( i );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+				loadArrayElement( methodVisitor, 1, i );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( field.type ) );
+				methodVisitor.visitFieldInsn(
+						Opcodes.PUTFIELD,
+						implementationContext.getInstrumentedType().getInternalName(),
+						field.name,
+						Type.getDescriptor( field.type )
+				);
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class CoordinateInitializers implements ByteCodeAppender {
+		private final List<GeneratedField> resultInitializers;
+		private final List<GeneratedField> sortedForResolveInstance;
+		private final List<GeneratedField> initializers;
+
+		private CoordinateInitializers(
+				List<GeneratedField> resultInitializers,
+				List<GeneratedField> sortedForResolveInstance,
+				List<GeneratedField> initializers) {
+			this.resultInitializers = resultInitializers;
+			this.sortedForResolveInstance = sortedForResolveInstance;
+			this.initializers = initializers;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// resultInitializer<i>.resolveKey( resultInitializersData[i] )
+			for ( int i = 0; i < resultInitializers.size(); i++ ) {
+				final GeneratedField initializer = resultInitializers.get( i );
+				getField( methodVisitor, implementationContext, initializer );
+				loadArrayElement( methodVisitor, 1, i );
+				invoke( methodVisitor, initializer.type, RESOLVE_KEY );
+			}
+			// if ( sortedForResolveInstanceData[i].getState() == KEY_RESOLVED )
+			//     sortedForResolveInstance<i>.resolveInstance( sortedForResolveInstanceData[i] )
+			for ( int i = 0; i < sortedForResolveInstance.size(); i++ ) {
+				applyIfInState(
+						methodVisitor,
+						implementationContext,
+						sortedForResolveInstance.get( i ),
+						RESOLVE_INSTANCE,
+						2,
+						i,
+						Initializer.State.KEY_RESOLVED
+				);
+			}
+			// if ( initializersData[i].getState() == RESOLVED )
+			//     initializer<i>.initializeInstance( initializersData[i] )
+			for ( int i = 0; i < initializers.size(); i++ ) {
+				applyIfInState(
+						methodVisitor,
+						implementationContext,
+						initializers.get( i ),
+						INITIALIZE_INSTANCE,
+						3,
+						i,
+						Initializer.State.RESOLVED
+				);
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+
+		private static void applyIfInState(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				GeneratedField initializer,
+				Method method,
+				int dataArrayIndex,
+				int index,
+				Initializer.State state) {
+			loadArrayElement( methodVisitor, dataArrayIndex, index );
+			invoke( methodVisitor, InitializerData.class, GET_STATE );
+			methodVisitor.visitFieldInsn( Opcodes.GETSTATIC, STATE_INTERNAL_NAME, state.name(), STATE_DESCRIPTOR );
+			final Label skip = new Label();
+			methodVisitor.visitJumpInsn( Opcodes.IF_ACMPNE, skip );
+			getField( methodVisitor, implementationContext, initializer );
+			loadArrayElement( methodVisitor, dataArrayIndex, index );
+			invoke( methodVisitor, initializer.type, method );
+			methodVisitor.visitLabel( skip );
+			final TypeDefinition dataArrayType = TypeDescription.ForLoadedType.of( InitializerData[].class );
+			implementationContext.getFrameGeneration().full(
+					methodVisitor,
+					Collections.emptyList(),
+					Arrays.asList(
+							implementationContext.getInstrumentedType(),
+							dataArrayType,
+							dataArrayType,
+							dataArrayType
+					)
+			);
+		}
+	}
+
+	private static class AssembleFirst implements ByteCodeAppender {
+		private final List<GeneratedField> assemblers;
+
+		private AssembleFirst(List<GeneratedField> assemblers) {
+			this.assemblers = assemblers;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			if ( assemblers.isEmpty() ) {
+				methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			}
+			else {
+				final GeneratedField assembler = assemblers.get( 0 );
+				getField( methodVisitor, implementationContext, assembler );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				invoke( methodVisitor, assembler.type, ASSEMBLE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 2, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class AssembleRow implements ByteCodeAppender {
+		private final List<GeneratedField> assemblers;
+
+		private AssembleRow(List<GeneratedField> assemblers) {
+			this.assemblers = assemblers;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// resultRow[i] = assembler<i>.assemble( rowProcessingState )
+			for ( int i = 0; i < assemblers.size(); i++ ) {
+				final GeneratedField assembler = assemblers.get( i );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				pushInt( methodVisitor, i );
+				getField( methodVisitor, implementationContext, assembler );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				invoke( methodVisitor, assembler.type, ASSEMBLE );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class FinishUpRow implements ByteCodeAppender {
+		private final int initializerCount;
+
+		private FinishUpRow(int initializerCount) {
+			this.initializerCount = initializerCount;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// initializersData[i].setState( UNINITIALIZED )
+			for ( int i = 0; i < initializerCount; i++ ) {
+				loadArrayElement( methodVisitor, 1, i );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETSTATIC,
+						STATE_INTERNAL_NAME,
+						Initializer.State.UNINITIALIZED.name(),
+						STATE_DESCRIPTOR
+				);
+				invoke( methodVisitor, InitializerData.class, SET_STATE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 3, instrumentedMethod.getStackSize() );
+		}
+	}
+}
@@ -11,6 +11,7 @@ import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.JavaServiceLoadable;
 import org.hibernate.service.Service;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -20,6 +21,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>row reader optimization {@link #getRowReaderOptimizer}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -67,6 +69,19 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Retrieve a RowReaderOptimizer specialized for the initializers
+	 * and assemblers of the given resolved JDBC values mapping.
+	 *
+	 * @param resolution The resolved JDBC values mapping of a query plan.
+	 * @return The row reader optimization delegate, or {@code null} if not supported.
+	 *
+	 * @since 7.0
+	 */
+	default @Nullable RowReaderOptimizer getRowReaderOptimizer(JdbcValuesMappingResolution resolution) {
+		return null;
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
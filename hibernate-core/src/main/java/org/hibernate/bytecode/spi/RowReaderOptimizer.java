@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * Represents row reading optimized for the fixed initializers and assemblers
+ * of a particular {@linkplain org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution
+ * resolved JDBC values mapping}.
+ * <p>
+ * The arrays of initializer data passed to the methods of this contract are
+ * ordered like the initializers of the resolution, that is, like
+ * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution#getResultInitializers()},
+ * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution#getSortedForResolveInstance()}
+ * and {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution#getInitializers()}.
+ *
+ * @see BytecodeProvider#getRowReaderOptimizer
+ *
+ * @since 7.0
+ */
+public interface RowReaderOptimizer {
+	/**
+	 * Resolve the keys and instances of the initializers for the current row,
+	 * and initialize the resolved instances.
+	 */
+	void coordinateInitializers(
+			InitializerData[] resultInitializersData,
+			InitializerData[] sortedForResolveInstanceData,
+			InitializerData[] initializersData);
+
+	/**
+	 * Assemble the first domain result of the current row.
+	 */
+	Object assembleFirst(RowProcessingState rowProcessingState);
+
+	/**
+	 * Assemble all domain results of the current row into the given array.
+	 */
+	void assembleRow(RowProcessingState rowProcessingState, Object[] resultRow);
+
+	/**
+	 * Reset the state of the initializers after the current row.
+	 */
+	void finishUpRow(InitializerData[] initializersData);
+}
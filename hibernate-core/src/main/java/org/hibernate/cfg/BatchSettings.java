@@ -53,6 +53,23 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable incremental updates of {@linkplain org.hibernate.annotations.Bag bags}
+	 * which do not belong to a one-to-many association. When enabled, the rows of an
+	 * element which was removed from a bag are deleted, and the new occurrences of an
+	 * element are inserted, instead of deleting and reinserting every row of the bag.
+	 * <p>
+	 * A bag has no row identity, so this is only possible when the rows of the
+	 * collection table can be identified by the value of the element, that is, when
+	 * every element column is non-nullable, is not a formula, and is not a LOB.
+	 * Otherwise, the bag is recreated as usual.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String INCREMENTAL_BAG_UPDATES = "hibernate.incremental_bag_updates";
+
 	/**
 	 * When enabled, specifies that {@linkplain jakarta.persistence.Version versioned}
 	 * data should be included in batching.
@@ -88,6 +88,22 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * The minimum number of rows of a query result for which the entry put in the
+	 * query cache is encoded column by column, with numeric values held in primitive
+	 * arrays, strings in a dictionary per column, and nulls in bitmaps, instead of
+	 * as an array of values per row. Such entries take much less memory and are
+	 * serialized faster, which matters for large results and remote cache regions.
+	 * <p>
+	 * A value of {@code 0} disables the columnar encoding.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_COLUMNAR_THRESHOLD = "hibernate.cache.query_cache_columnar_threshold";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
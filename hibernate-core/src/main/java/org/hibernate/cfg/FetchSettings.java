@@ -46,4 +46,65 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * When enabled, {@linkplain org.hibernate.Session#merge(Object) merging} a detached
+	 * object graph first collects the identifiers of every detached entity reachable
+	 * from the merged entity by associations which cascade merge, and loads the current
+	 * state of all of them at once, with one {@linkplain org.hibernate.Session#byMultipleIds
+	 * multi-id load} per entity type, instead of one select per entity.
+	 * <p>
+	 * Entities which are already managed, which are uninitialized proxies, or which
+	 * have a composite identifier are not loaded up front.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String MERGE_MULTI_LOAD = "hibernate.merge_multi_load";
+
+	/**
+	 * When set to a value greater than the {@linkplain #DEFAULT_BATCH_FETCH_SIZE
+	 * configured batch size} of an entity or collection, enables adaptive batch
+	 * fetching, and specifies the maximum batch size it may use.
+	 * <p>
+	 * With adaptive batch fetching, each batch loader records how many keys are
+	 * pending in the {@link org.hibernate.engine.spi.BatchFetchQueue} when a batch
+	 * load is triggered. When a batch load is limited by the batch size, the batch
+	 * size is doubled, up to this maximum, and when the batch loads repeatedly use
+	 * less than half of the batch size, it is halved again, down to the configured
+	 * batch size. Each adjustment is reported to the
+	 * {@linkplain org.hibernate.stat.Statistics statistics}.
+	 * <p>
+	 * Only batch loaders which pass the keys as a single SQL {@code ARRAY}
+	 * parameter adapt their batch size, since the SQL they execute does not
+	 * depend on the number of keys.
+	 *
+	 * @settingDefault {@code 0}, that is, batch sizes are fixed
+	 *
+	 * @see org.hibernate.stat.EntityStatistics#getBatchFetchSize()
+	 * @see org.hibernate.stat.CollectionStatistics#getBatchFetchSize()
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.adaptive_batch_fetch_max_size";
+
+	/**
+	 * When enabled, the columns mapped by basic attributes of an entity
+	 * {@linkplain org.hibernate.bytecode.spi.BytecodeEnhancementMetadata#isEnhancedForLazyLoading()
+	 * enhanced for lazy loading} are left out of the SQL {@code select} list when
+	 * a {@linkplain org.hibernate.graph.GraphSemantic#FETCH fetch graph} which does
+	 * not include them is applied. The attributes left out are marked as uninitialized
+	 * lazy attributes of the loaded entity instances, and are loaded when first accessed.
+	 * <p>
+	 * Version and natural id attributes are always selected.
+	 *
+	 * @settingDefault {@code false}, that is, basic attributes are only left out
+	 * when they are mapped as lazy
+	 *
+	 * @see org.hibernate.graph.GraphSemantic#FETCH
+	 *
+	 * @since 7.0
+	 */
+	String FETCH_GRAPH_COLUMN_PRUNING = "hibernate.fetch_graph_column_pruning";
 }
@@ -360,6 +360,55 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings, AgroalSetti
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of idle {@linkplain java.sql.PreparedStatement prepared statements}
+	 * kept open by each logical connection for reuse when the same SQL is executed again
+	 * on the same physical connection. Useful with drivers and connection pools which do
+	 * not cache prepared statements themselves. If {@code 0}, every statement is closed
+	 * as soon as it is released, and statement caching is left to the driver or pool.
+	 * <p>
+	 * Cached statements are always closed when the JDBC resources of the logical connection
+	 * are released, at the latest when the transaction completes.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
+	/**
+	 * The largest {@linkplain java.sql.PreparedStatement#setFetchSize(int) fetch size}
+	 * Hibernate may set adaptively for a query. If positive, the number of rows read
+	 * by the previous executions of each compiled select statement is recorded, and
+	 * the fetch size of its next executions is set to that typical number of rows,
+	 * within the bounds set by this setting and {@value #ADAPTIVE_FETCH_SIZE_MIN}.
+	 * Large results are then read with fewer round trips.
+	 * <p>
+	 * The adaptive fetch size only ever raises the fetch size of a statement: it is
+	 * never set below {@value #STATEMENT_FETCH_SIZE}, if specified, or otherwise
+	 * below the default fetch size of the JDBC driver. A fetch size
+	 * {@linkplain org.hibernate.query.SelectionQuery#setFetchSize(int) specified
+	 * for a query} always takes precedence.
+	 *
+	 * @settingDefault {@code 0}, meaning that the fetch size is not adapted
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_FETCH_SIZE_MAX = "hibernate.jdbc.adaptive_fetch_size_max";
+
+	/**
+	 * The smallest fetch size Hibernate may set adaptively for a query. Whatever
+	 * its value, the adaptive fetch size never lowers the fetch size set by
+	 * {@value #STATEMENT_FETCH_SIZE} or by the JDBC driver.
+	 *
+	 * @settingDefault {@code 10}
+	 *
+	 * @see #ADAPTIVE_FETCH_SIZE_MAX
+	 *
+	 * @since 7.0
+	 */
+	String ADAPTIVE_FETCH_SIZE_MIN = "hibernate.jdbc.adaptive_fetch_size_min";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
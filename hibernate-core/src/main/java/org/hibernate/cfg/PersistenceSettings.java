@@ -204,4 +204,30 @@ public interface PersistenceSettings {
 	 * @settingDefault {@code false}
 	 */
 	String UNOWNED_ASSOCIATION_TRANSIENT_CHECK = "hibernate.unowned_association_transient_check";
+
+	/**
+	 * When enabled, the loaded state of an entity keeps only a SHA-256 digest of each
+	 * large mutable basic attribute, that is, an attribute holding an array, a LOB, or
+	 * a JSON or XML document, instead of a deep copy of its value. The digest is computed
+	 * over the value serialized through the {@link org.hibernate.type.descriptor.java.JavaType}
+	 * of the attribute, and dirty checking recomputes it from the current value. This
+	 * saves memory and the cost of copying each value when it is loaded, in exchange
+	 * for hashing the value again during each flush.
+	 * <p>
+	 * Since the old value of such an attribute is not kept, the loaded state always
+	 * holds full copies when an {@link org.hibernate.Interceptor} is in use, or when
+	 * listeners for update or delete events, for example, those of Envers, are
+	 * registered, or when a {@linkplain org.hibernate.CustomEntityDirtinessStrategy
+	 * custom dirtiness strategy} is configured, since it receives the loaded values.
+	 * Entities which are cached in the second-level cache or which use
+	 * {@code ALL} or {@code DIRTY} optimistic locking also keep full copies, as do
+	 * natural id attributes.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.spi.HashedSnapshot
+	 *
+	 * @since 7.0
+	 */
+	String HASHED_SNAPSHOTS = "hibernate.hashed_snapshots";
 }
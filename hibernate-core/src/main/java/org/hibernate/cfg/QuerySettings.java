@@ -261,4 +261,93 @@ public interface QuerySettings {
 	 * By default, this is set to false
 	 */
 	String QUERY_PASS_PROCEDURE_PARAMETER_NAMES = "hibernate.query.pass_procedure_paramater_names";
+
+	/**
+	 * When enabled, the automatic flush which occurs before a query is executed in
+	 * {@link org.hibernate.FlushMode#AUTO} first dirty checks only the entities and
+	 * collections mapped to the tables affecting the query, and skips the flush if
+	 * none of them has been modified. Flush-time cascades are not performed during
+	 * this check, and so a new entity which is reachable only from an entity mapped
+	 * to some other table is not inserted until the next flush.
+	 * <p>
+	 * By default, every managed entity and collection is dirty checked before each
+	 * query.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see SessionFactoryOptions#isScopedAutoFlushEnabled()
+	 *
+	 * @since 7.0
+	 */
+	String SCOPED_AUTO_FLUSH = "hibernate.query.scoped_auto_flush";
+
+	/**
+	 * The number of times the results of a query plan must have been read before
+	 * its row reading is optimized by a class generated by the
+	 * {@linkplain org.hibernate.bytecode.spi.BytecodeProvider bytecode provider}
+	 * specifically for the initializers and assemblers of the plan.
+	 * <p>
+	 * The generated class calls every initializer and assembler of the plan from
+	 * its own call site, which the JIT is able to inline, and so reading large
+	 * results is faster once the class is compiled. Since one class is generated
+	 * per plan, the threshold should be high enough for only frequently executed
+	 * plans to be optimized.
+	 * <p>
+	 * Only plans cached in the {@linkplain #QUERY_PLAN_CACHE_ENABLED query plan
+	 * cache} are optimized.
+	 *
+	 * @settingDefault {@code 0}, meaning row reading is never optimized
+	 *
+	 * @see org.hibernate.bytecode.spi.BytecodeProvider#getRowReaderOptimizer
+	 *
+	 * @since 7.0
+	 */
+	String ROW_READER_OPTIMIZATION_THRESHOLD = "hibernate.query.row_reader_optimization_threshold";
+
+	/**
+	 * When enabled, a query which returns a single entity which may be read from the
+	 * {@linkplain org.hibernate.annotations.Cache second-level cache} selects only the
+	 * identifiers of the entities. The entities are then resolved from the persistence
+	 * context and the second-level cache, and only the entities which are not found in
+	 * either are loaded, by a single multi-id load.
+	 * <p>
+	 * With a warm cache, only identifiers are read from the database. Queries with
+	 * fetch joins, an applied entity graph, a lock mode, or a tuple or result list
+	 * transformer always read the entities from the database.
+	 * <p>
+	 * May be overridden for a query by the hint
+	 * {@value org.hibernate.jpa.HibernateHints#HINT_QUERY_IDS_ONLY}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_QUERY_IDS_ONLY
+	 *
+	 * @since 7.0
+	 */
+	String QUERY_IDS_ONLY = "hibernate.query.ids_only";
+
+	/**
+	 * The number of rows of a query result beyond which the remaining rows are
+	 * hydrated in parallel, in chunks of this number of rows, by the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	 * <p>
+	 * The JDBC values of every row are still read from the result set by the
+	 * thread executing the query, but the conversion of the values to their
+	 * domain representation, the instantiation of the results, and the
+	 * application of any tuple transformer run concurrently with the reading
+	 * of subsequent rows. The results are returned in the order of the rows.
+	 * <p>
+	 * Only the results of queries which return neither entities nor collections,
+	 * such as scalar, tuple and DTO projections, are hydrated in parallel, since
+	 * their rows do not interact with the persistence context. The converters,
+	 * result classes and tuple transformers of such queries must be threadsafe.
+	 *
+	 * @settingDefault {@code 0}, meaning results are always hydrated by the
+	 *                 thread executing the query
+	 *
+	 * @see SessionFactoryOptions#getParallelHydrationThreshold()
+	 *
+	 * @since 7.0
+	 */
+	String PARALLEL_HYDRATION_THRESHOLD = "hibernate.query.parallel_hydration_threshold";
 }
@@ -75,4 +75,70 @@ public interface SessionEventSettings {
 	 * @since 5.2
 	 */
 	String SESSION_SCOPED_INTERCEPTOR = "hibernate.session_factory.session_scoped_interceptor";
+
+	/**
+	 * An approximate upper bound, in bytes, on the memory held by the persistence
+	 * context of a {@link org.hibernate.Session}. When the estimated size of the
+	 * managed entities and collections of the persistence context first exceeds
+	 * this value, the {@link org.hibernate.SessionEventListener}s of the session
+	 * are notified via {@link org.hibernate.SessionEventListener#memorySoftCapExceeded(long)}.
+	 * <p>
+	 * The estimate is deliberately cheap and coarse, and so this is a soft limit,
+	 * useful for detecting sessions which accumulate far more state than intended.
+	 * Unlike the {@linkplain org.hibernate.stat.SessionStatistics#getEstimatedMemorySize()
+	 * full estimate}, it does not count the elements of collections or the actions
+	 * waiting to be flushed, so that it may be maintained as entities are added and
+	 * removed. It is only maintained when a cap is set.
+	 * <p>
+	 * By default, there is no limit.
+	 *
+	 * @settingDefault {@code 0}, meaning no limit
+	 *
+	 * @see #SESSION_MEMORY_SOFT_CAP_EVICTION
+	 *
+	 * @since 7.0
+	 */
+	String SESSION_MEMORY_SOFT_CAP = "hibernate.session.memory_soft_cap";
+
+	/**
+	 * When enabled, and the {@linkplain #SESSION_MEMORY_SOFT_CAP soft cap} of a
+	 * session has been exceeded, read-only entities are evicted from the persistence
+	 * context, oldest first, at the start of each load, until the estimated size is
+	 * back under the cap. Read-only entities are never dirty, and so evicting them
+	 * never loses changes, but a later lookup will return a new instance. Eviction
+	 * does not cascade, and skips read-only entities owning a modified collection,
+	 * or which a flush might reach through a persist cascade. Entities
+	 * are evicted before the load reads its results, and so the entities returned by
+	 * a load are never evicted by that load.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #SESSION_MEMORY_SOFT_CAP
+	 *
+	 * @since 7.0
+	 */
+	String SESSION_MEMORY_SOFT_CAP_EVICTION = "hibernate.session.memory_soft_cap_eviction";
+
+	/**
+	 * The number of times an association must be fetched by a separate select,
+	 * with the same entity name or collection role, between two flushes or
+	 * transaction completions of a {@link org.hibernate.Session}, before it is
+	 * reported as an N+1 select problem.
+	 * <p>
+	 * Each such fetch is counted, whether it initializes a lazy proxy or collection,
+	 * or fetches an eagerly-fetched association by a subsequent select. A problem is
+	 * reported by logging a warning, by notifying the
+	 * {@linkplain org.hibernate.stat.Statistics statistics}, and by a JFR event when
+	 * the {@code hibernate-jfr} module is available.
+	 * <p>
+	 * By default, N+1 select problems are not detected.
+	 *
+	 * @settingDefault {@code 0}, meaning no detection
+	 *
+	 * @see org.hibernate.stat.EntityStatistics#getNPlusOneCount()
+	 * @see org.hibernate.stat.CollectionStatistics#getNPlusOneCount()
+	 *
+	 * @since 7.0
+	 */
+	String N_PLUS_ONE_THRESHOLD = "hibernate.session.events.n_plus_one_threshold";
 }
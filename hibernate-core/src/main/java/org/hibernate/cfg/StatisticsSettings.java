@@ -41,4 +41,54 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * The fraction of sessions, between {@code 0} and {@code 1}, which are profiled
+	 * to produce {@linkplain org.hibernate.stat.Statistics#getFetchAdvice() fetch
+	 * plan advice}.
+	 * <p>
+	 * In a profiled session, the entities returned by each query, along with the
+	 * entities reachable from them through fetched associations, are tracked until
+	 * the session ends, unless they were already in the persistence context before
+	 * the query was executed. Their associations are then classified per query:
+	 * <ul>
+	 * <li>an association which was not fetched by the query, but was initialized
+	 *     later in the session, should probably be fetched by the query, and
+	 * <li>an association which was fetched by the query, but was never read, should
+	 *     probably not be fetched.
+	 * </ul>
+	 * <p>
+	 * Reads of a collection are always observed, but reads of a to-one association
+	 * only for entities which are {@linkplain org.hibernate.bytecode.enhance.spi.Enhancer
+	 * enhanced} for lazy loading, and so the second kind of advice is only given for
+	 * the to-one associations of such entities.
+	 * <p>
+	 * The advice reflects the recent executions of each query, since older
+	 * observations are progressively discounted.
+	 *
+	 * @settingDefault {@code 0}, meaning no fetch plan advice
+	 *
+	 * @see #FETCH_ADVISOR_APPLY
+	 *
+	 * @since 7.0
+	 */
+	String FETCH_ADVISOR_SAMPLING_RATE = "hibernate.statistics.fetch_advisor_sampling_rate";
+
+	/**
+	 * When enabled, along with {@link #FETCH_ADVISOR_SAMPLING_RATE}, the associations
+	 * which the fetch plan advice recommends fetching are fetched by applying them as a
+	 * {@linkplain org.hibernate.graph.GraphSemantic#LOAD load graph} to each execution
+	 * of {@link org.hibernate.query.SelectionQuery#list()} for a query which selects a
+	 * single entity, has no {@code group by}, and for which no entity graph was
+	 * specified.
+	 * <p>
+	 * Collections are only added to queries without a limit or offset. The associations
+	 * fetched because of the advice are not profiled, so the advice for them lapses after
+	 * a while, and is then derived again from the fetch plan of the query itself.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	String FETCH_ADVISOR_APPLY = "hibernate.statistics.fetch_advisor_apply";
 }
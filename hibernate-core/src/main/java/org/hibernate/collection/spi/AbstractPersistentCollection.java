@@ -18,6 +18,7 @@ import java.util.UUID;
 import org.hibernate.AssertionFailure;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Internal;
 import org.hibernate.LazyInitializationException;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -55,6 +56,9 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 
 	private boolean initialized;
 	private transient boolean initializing;
+	// see observeReads()
+	private transient boolean readsObserved;
+	private transient boolean readObserved;
 
 	private transient List<DelayedOperation<E>> operationQueue;
 	private transient boolean directlyAccessible;
@@ -133,13 +137,43 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	 * Called by any read-only method of the collection interface
 	 */
 	protected final void read() {
+		observeRead();
 		initialize( false );
 	}
 
+	/**
+	 * Start observing whether the content of this collection is read through
+	 * the collection interface.
+	 *
+	 * @see #wasRead()
+	 * @see org.hibernate.stat.spi.FetchPlanProfiler
+	 */
+	@Internal
+	public void observeReads() {
+		readsObserved = true;
+		readObserved = false;
+	}
+
+	/**
+	 * Was the content of this collection read since {@link #observeReads()}
+	 * was called?
+	 */
+	@Internal
+	public boolean wasRead() {
+		return readObserved;
+	}
+
+	private void observeRead() {
+		if ( readsObserved ) {
+			readObserved = true;
+		}
+	}
+
 	/**
 	 * Called by the {@link Collection#size} method
 	 */
 	protected boolean readSize() {
+		observeRead();
 		if ( !initialized ) {
 			if ( cachedSize != -1 && !hasQueuedOperations() ) {
 				return true;
@@ -309,6 +343,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	}
 
 	protected Boolean readIndexExistence(final Object index) {
+		observeRead();
 		if ( !initialized ) {
 			return withTemporarySessionIfNeeded(
 					() -> {
@@ -331,6 +366,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	}
 
 	protected Boolean readElementExistence(final Object element) {
+		observeRead();
 		if ( !initialized ) {
 			return withTemporarySessionIfNeeded(
 					() -> {
@@ -371,6 +407,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	protected static final Object UNKNOWN = new MarkerObject( "UNKNOWN" );
 
 	protected Object readElementByIndex(final Object index) {
+		observeRead();
 		if ( !initialized ) {
 			class ExtraLazyElementByIndexReader implements LazyInitializationWork<Object> {
 				private boolean isExtraLazy;
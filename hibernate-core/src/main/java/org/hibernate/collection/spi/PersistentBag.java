@@ -44,6 +44,13 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	 */
 	private Collection<E> providedCollection;
 
+	/**
+	 * Whether the rows being inserted are determined by comparing the bag
+	 * with its snapshot as multisets, for an incremental update
+	 */
+	private transient boolean incrementalInsert;
+	private transient boolean[] incrementalInserts;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -274,7 +281,28 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsRecreate(CollectionPersister persister) {
-		return !persister.isOneToMany();
+		return !persister.isOneToMany() && !isIncrementalUpdatePossible( persister );
+	}
+
+	private boolean isIncrementalUpdatePossible(CollectionPersister persister) {
+		// deleting the rows with a given element value would
+		// also delete rows which were filtered out of the bag
+		return persister.isIncrementalBagUpdatePossible()
+			&& !persister.isAffectedByEnabledFilters( getSession() );
+	}
+
+	@Override
+	public void preInsert(CollectionPersister persister) throws HibernateException {
+		// the inserts are computed on demand by needsInserting()
+		incrementalInsert = !persister.isOneToMany();
+		incrementalInserts = null;
+	}
+
+	@Override
+	public void postAction() {
+		super.postAction();
+		incrementalInsert = false;
+		incrementalInserts = null;
 	}
 
 	// For a one-to-many, a <bag> is not really a bag;
@@ -288,6 +316,11 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 	@Override
 	public Iterator<?> getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
 		final Type elementType = persister.getElementType();
+		if ( !persister.isOneToMany() ) {
+			// an incremental update of a bag of values
+			return computeDifference( elementType ).deletes.iterator();
+		}
+
 		final ArrayList<Object> deletes = new ArrayList<>();
 		final List<?> sn = (List<?>) getSnapshot();
 		final Iterator<?> olditer = sn.iterator();
@@ -319,6 +352,13 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( incrementalInsert ) {
+			if ( incrementalInserts == null ) {
+				incrementalInserts = computeDifference( elemType ).inserts;
+			}
+			return i < incrementalInserts.length && incrementalInserts[i];
+		}
+
 		final List<?> sn = (List<?>) getSnapshot();
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
@@ -336,6 +376,80 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		}
 	}
 
+	/**
+	 * Compare the bag with its snapshot as multisets. The rows of an element
+	 * which occurs fewer times than in the snapshot are all deleted, since
+	 * they can't be told apart, and every occurrence of the element is then
+	 * reinserted. Only the additional occurrences of any other element are
+	 * inserted.
+	 */
+	private Difference computeDifference(Type elementType) {
+		final List<?> sn = (List<?>) getSnapshot();
+		// HHH-11032 - Group objects by Type.getHashCode() to reduce the complexity of the search
+		final Map<Integer, List<Occurrences>> hashToOccurrences = new HashMap<>();
+		for ( Object old : sn ) {
+			locateOccurrences( hashToOccurrences, old, elementType ).snapshotCount++;
+		}
+		final int size = bag.size();
+		final Occurrences[] entryOccurrences = new Occurrences[size];
+		for ( int i = 0; i < size; i++ ) {
+			final Occurrences occurrences = locateOccurrences( hashToOccurrences, bag.get( i ), elementType );
+			occurrences.count++;
+			entryOccurrences[i] = occurrences;
+		}
+
+		final Difference difference = new Difference( size );
+		for ( List<Occurrences> sameHash : hashToOccurrences.values() ) {
+			for ( Occurrences occurrences : sameHash ) {
+				if ( occurrences.count < occurrences.snapshotCount ) {
+					difference.deletes.add( occurrences.element );
+				}
+			}
+		}
+		for ( int i = 0; i < size; i++ ) {
+			final Occurrences occurrences = entryOccurrences[i];
+			difference.inserts[i] = occurrences.count < occurrences.snapshotCount
+					|| ++occurrences.inserted > occurrences.snapshotCount;
+		}
+		return difference;
+	}
+
+	private Occurrences locateOccurrences(
+			Map<Integer, List<Occurrences>> hashToOccurrences,
+			Object element,
+			Type elementType) {
+		final List<Occurrences> sameHash =
+				hashToOccurrences.computeIfAbsent( nullableHashCode( element, elementType ), k -> new ArrayList<>() );
+		for ( Occurrences occurrences : sameHash ) {
+			if ( elementType.isSame( occurrences.element, element ) ) {
+				return occurrences;
+			}
+		}
+		final Occurrences occurrences = new Occurrences( element );
+		sameHash.add( occurrences );
+		return occurrences;
+	}
+
+	private static class Occurrences {
+		private final Object element;
+		private int snapshotCount;
+		private int count;
+		private int inserted;
+
+		private Occurrences(Object element) {
+			this.element = element;
+		}
+	}
+
+	private static class Difference {
+		private final List<Object> deletes = new ArrayList<>();
+		private final boolean[] inserts;
+
+		private Difference(int size) {
+			inserts = new boolean[size];
+		}
+	}
+
 	@Override
 	public boolean isRowUpdatePossible() {
 		return false;
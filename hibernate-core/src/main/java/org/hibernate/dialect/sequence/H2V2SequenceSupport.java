@@ -13,6 +13,16 @@ public final class H2V2SequenceSupport extends ANSISequenceSupport {
 
 	public static final SequenceSupport INSTANCE = new H2V2SequenceSupport();
 
+	@Override
+	public boolean supportsMultipleSequenceValues() {
+		return true;
+	}
+
+	@Override
+	public String getSequenceNextValuesString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from system_range(1,?)";
+	}
+
 	@Override
 	public String getDropSequenceString(String sequenceName) {
 		return "drop sequence if exists " + sequenceName;
@@ -42,6 +42,16 @@ public final class OracleSequenceSupport extends NextvalSequenceSupport {
 		return requiresFromDual ? " from dual" : "";
 	}
 
+	@Override
+	public boolean supportsMultipleSequenceValues() {
+		return true;
+	}
+
+	@Override
+	public String getSequenceNextValuesString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from dual connect by level<=?";
+	}
+
 	@Override
 	public boolean sometimesNeedsStartingValue() {
 		return true;
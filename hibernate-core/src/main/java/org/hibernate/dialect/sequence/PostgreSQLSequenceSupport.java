@@ -25,6 +25,16 @@ public class PostgreSQLSequenceSupport implements SequenceSupport {
 		return "currval('" + sequenceName + "')";
 	}
 
+	@Override
+	public boolean supportsMultipleSequenceValues() {
+		return true;
+	}
+
+	@Override
+	public String getSequenceNextValuesString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from generate_series(1,?)";
+	}
+
 	@Override
 	public boolean sometimesNeedsStartingValue() {
 		return true;
@@ -96,6 +96,31 @@ public interface SequenceSupport {
 		return "";
 	}
 
+	/**
+	 * Does this dialect support retrieving multiple values of a sequence
+	 * in a single statement?
+	 *
+	 * @return True if {@link #getSequenceNextValuesString(String)} is supported.
+	 */
+	default boolean supportsMultipleSequenceValues() {
+		return false;
+	}
+
+	/**
+	 * Generate the appropriate select statement to retrieve multiple next
+	 * values of a sequence in a single round-trip.
+	 * <p>
+	 * This should be a stand alone select statement returning one row per
+	 * value, with a single JDBC parameter for the number of values.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @return String The select "next values" statement.
+	 * @throws MappingException If sequences are not supported.
+	 */
+	default String getSequenceNextValuesString(String sequenceName) throws MappingException {
+		throw new MappingException( getClass().getName() + " does not support retrieving multiple sequence values" );
+	}
+
 	/**
 	 * Generate the appropriate select statement to to retrieve the next value
 	 * of a sequence.
@@ -15,12 +15,14 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -58,6 +60,10 @@ public class EntityEntryContext {
 
 	private transient IdentityHashMap<Object,ManagedEntity> nonEnhancedEntityXref;
 
+	// the estimated size of the entries, only maintained if trackEstimatedSize
+	private final transient boolean trackEstimatedSize;
+	private transient long estimatedSize;
+
 	@SuppressWarnings("unchecked")
 	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
 	private transient boolean dirty;
@@ -66,7 +72,18 @@ public class EntityEntryContext {
 	 * Constructs a EntityEntryContext
 	 */
 	public EntityEntryContext(PersistenceContext persistenceContext) {
+		this( persistenceContext, false );
+	}
+
+	/**
+	 * Constructs a EntityEntryContext
+	 *
+	 * @param trackEstimatedSize Whether the {@linkplain #getEstimatedSize() estimated size}
+	 * is maintained as entries are added and removed, instead of computed when requested
+	 */
+	public EntityEntryContext(PersistenceContext persistenceContext, boolean trackEstimatedSize) {
 		this.persistenceContext = persistenceContext;
+		this.trackEstimatedSize = trackEstimatedSize;
 	}
 
 	/**
@@ -154,6 +171,8 @@ public class EntityEntryContext {
 			tail = managedEntity;
 			count++;
 		}
+
+		accountFor( entityEntry.getPersister(), 1 );
 	}
 
 	private ManagedEntity getAssociatedManagedEntity(Object entity) {
@@ -304,6 +323,9 @@ public class EntityEntryContext {
 		// finally clean out the ManagedEntity and return the associated EntityEntry
 		final EntityEntry theEntityEntry = managedEntity.$$_hibernate_getEntityEntry();
 		managedEntity.$$_hibernate_setEntityEntry( null );
+		if ( theEntityEntry != null ) {
+			accountFor( theEntityEntry.getPersister(), -1 );
+		}
 		return theEntityEntry;
 	}
 
@@ -387,6 +409,8 @@ public class EntityEntryContext {
 		tail = null;
 		count = 0;
 
+		estimatedSize = 0;
+
 		reentrantSafeEntries = null;
 	}
 
@@ -454,7 +478,7 @@ public class EntityEntryContext {
 		final int count = ois.readInt();
 		log.tracef( "Starting deserialization of [%s] EntityEntry entries", count );
 
-		final EntityEntryContext context = new EntityEntryContext( rtn );
+		final EntityEntryContext context = new EntityEntryContext( rtn, rtn.isMemorySoftCapEnabled() );
 		context.count = count;
 		context.dirty = true;
 
@@ -504,6 +528,7 @@ public class EntityEntryContext {
 				context.nonEnhancedEntityXref.put( entity, managedEntity );
 			}
 			managedEntity.$$_hibernate_setEntityEntry( entry );
+			context.accountFor( entry.getPersister(), 1 );
 
 			if ( previous == null ) {
 				context.head = managedEntity;
@@ -547,6 +572,43 @@ public class EntityEntryContext {
 		return count;
 	}
 
+	private void accountFor(EntityPersister persister, int delta) {
+		if ( trackEstimatedSize ) {
+			estimatedSize += delta * MemoryEstimates.entity( persister );
+		}
+	}
+
+	/**
+	 * The estimated size, in bytes, of the managed entities and their entries.
+	 * It is maintained as entries are added and removed if this context was
+	 * created to track it, and is otherwise computed from the entries.
+	 *
+	 * @see MemoryEstimates#entity(EntityPersister)
+	 */
+	public long getEstimatedSize() {
+		if ( trackEstimatedSize ) {
+			return estimatedSize;
+		}
+		long size = 0;
+		for ( ManagedEntity node = head; node != null; node = node.$$_hibernate_getNextManagedEntity() ) {
+			size += MemoryEstimates.entity( node.$$_hibernate_getEntityEntry().getPersister() );
+		}
+		return size;
+	}
+
+	/**
+	 * The estimated size, in bytes, of the managed entities of each entity name,
+	 * computed from the entries.
+	 */
+	public Map<String,Long> getEstimatedSizeByEntityName() {
+		final Map<String,Long> sizes = new HashMap<>();
+		for ( ManagedEntity node = head; node != null; node = node.$$_hibernate_getNextManagedEntity() ) {
+			final EntityPersister persister = node.$$_hibernate_getEntityEntry().getPersister();
+			sizes.merge( persister.getEntityName(), MemoryEstimates.entity( persister ), Long::sum );
+		}
+		return sizes;
+	}
+
 	/**
 	 * The wrapper for entity classes which do not implement {@link ManagedEntity}.
 	 */
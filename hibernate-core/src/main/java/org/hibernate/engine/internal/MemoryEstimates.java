@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Coarse estimates of the heap consumed by the state held in a persistence context,
+ * used for {@linkplain org.hibernate.stat.SessionStatistics#getEstimatedMemorySize()
+ * session memory accounting}.
+ * <p>
+ * The estimates are intentionally cheap to compute: they depend only on the number
+ * of attributes of an entity and the number of elements of a collection, and never
+ * on the actual values. They assume a 64-bit JVM with uncompressed references, and
+ * that an attribute value occupies, on average, the size of a small boxed value.
+ *
+ * @see EntityEntryContext#getEstimatedSize()
+ */
+public final class MemoryEstimates {
+
+	// the EntityEntry, the ManagedEntity, the EntityKey, the EntityHolder,
+	// the entity instance header, and the entries of the maps holding them
+	private static final long ENTITY_OVERHEAD = 256;
+
+	// a field of the entity instance, a slot of the loaded state, and the value
+	private static final long ENTITY_ATTRIBUTE = 32;
+
+	// the PersistentCollection wrapper, the CollectionEntry, the CollectionKey,
+	// and the entries of the maps holding them
+	private static final long COLLECTION_OVERHEAD = 160;
+
+	// a slot of the wrapped collection, a slot of the snapshot, and the element
+	private static final long COLLECTION_ELEMENT = 40;
+
+	// an action held by the ActionQueue, including its state array
+	private static final long ACTION = 128;
+
+	private MemoryEstimates() {
+	}
+
+	/**
+	 * The estimated size of a managed instance of the given entity.
+	 */
+	public static long entity(EntityPersister persister) {
+		return ENTITY_OVERHEAD + ENTITY_ATTRIBUTE * persister.getNumberOfAttributeMappings();
+	}
+
+	/**
+	 * The estimated size of a managed collection with the given loaded snapshot,
+	 * which is {@code null} if the collection is not initialized.
+	 */
+	public static long collection(Object snapshot) {
+		return COLLECTION_OVERHEAD + COLLECTION_ELEMENT * size( snapshot );
+	}
+
+	/**
+	 * The estimated size of a managed collection, not counting its elements.
+	 */
+	public static long collection() {
+		return COLLECTION_OVERHEAD;
+	}
+
+	/**
+	 * The estimated size of the given number of queued actions.
+	 */
+	public static long actions(int count) {
+		return ACTION * count;
+	}
+
+	private static int size(Object snapshot) {
+		if ( snapshot instanceof Collection<?> collection ) {
+			return collection.size();
+		}
+		else if ( snapshot instanceof Map<?,?> map ) {
+			return map.size();
+		}
+		else if ( snapshot instanceof Object[] array ) {
+			return array.length;
+		}
+		else {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Counts the associations fetched by separate selects, by entity name or
+ * collection role, and reports each entity or collection fetched at least
+ * the configured number of times between two flushes or transaction
+ * completions as an N+1 select problem.
+ *
+ * @see org.hibernate.cfg.SessionEventSettings#N_PLUS_ONE_THRESHOLD
+ */
+public class NPlusOneDetectingSessionEventListener implements SessionEventListener {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( NPlusOneDetectingSessionEventListener.class );
+
+	private final SharedSessionContractImplementor session;
+	private final int threshold;
+
+	private final Map<String, Fetches> fetchesByRole = new HashMap<>();
+
+	// the start times of the fetches in progress, since
+	// a fetch may trigger further fetches
+	private long[] fetchStarts = new long[4];
+	private int fetchDepth;
+
+	public NPlusOneDetectingSessionEventListener(SharedSessionContractImplementor session, int threshold) {
+		this.session = session;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public void associationFetchStart() {
+		if ( fetchDepth == fetchStarts.length ) {
+			fetchStarts = Arrays.copyOf( fetchStarts, fetchDepth * 2 );
+		}
+		fetchStarts[fetchDepth++] = System.nanoTime();
+	}
+
+	@Override
+	public void associationFetchEnd(String role) {
+		assert fetchDepth > 0 : "Unexpected call to associationFetchEnd; expecting associationFetchStart";
+
+		final long fetchTime = System.nanoTime() - fetchStarts[--fetchDepth];
+		final Fetches fetches = fetchesByRole.computeIfAbsent( role, r -> new Fetches() );
+		fetches.count++;
+		fetches.time += fetchTime;
+	}
+
+	@Override
+	public void flushEnd(int numberOfEntities, int numberOfCollections) {
+		report();
+	}
+
+	@Override
+	public void transactionCompletion(boolean successful) {
+		report();
+	}
+
+	@Override
+	public void end() {
+		report();
+	}
+
+	private void report() {
+		if ( !fetchesByRole.isEmpty() ) {
+			for ( Map.Entry<String, Fetches> entry : fetchesByRole.entrySet() ) {
+				final Fetches fetches = entry.getValue();
+				if ( fetches.count >= threshold ) {
+					report( entry.getKey(), fetches.count, fetches.time );
+				}
+			}
+			fetchesByRole.clear();
+		}
+	}
+
+	private void report(String role, int fetchCount, long fetchTime) {
+		LOG.nPlusOneSelectProblem( role, fetchCount, TimeUnit.NANOSECONDS.toMillis( fetchTime ) );
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nPlusOneDetected( role, fetchCount, fetchTime );
+		}
+
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent nPlusOneEvent = eventManager.beginNPlusOneEvent();
+		eventManager.completeNPlusOneEvent( nPlusOneEvent, session, role, fetchCount, fetchTime );
+	}
+
+	private static class Fetches {
+		private int count;
+		private long time;
+	}
+}
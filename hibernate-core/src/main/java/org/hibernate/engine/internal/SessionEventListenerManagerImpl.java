@@ -293,6 +293,39 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void associationFetchStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.associationFetchStart();
+		}
+	}
+
+	@Override
+	public void associationFetchEnd(String role) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.associationFetchEnd( role );
+		}
+	}
+
+	@Override
+	public void memorySoftCapExceeded(long estimatedSize) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.memorySoftCapExceeded( estimatedSize );
+		}
+	}
+
 	@Override
 	public void end() {
 		if ( listeners == null ) {
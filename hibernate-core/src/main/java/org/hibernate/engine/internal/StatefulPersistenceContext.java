@@ -20,6 +20,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -31,11 +32,15 @@ import org.hibernate.LockMode;
 import org.hibernate.MappingException;
 import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.AssociationKey;
 import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
@@ -50,12 +55,15 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.EvictVisitor;
 import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -66,7 +74,11 @@ import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.graph.entity.EntityInitializer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.spi.LoadContexts;
+import org.hibernate.type.AnyType;
 import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -116,6 +128,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// Loaded entity instances, by EntityKey
 	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
 
+	// Number of entries of entitiesByKey per root entity name
+	private HashMap<String, int[]> entityHolderCounts;
+
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
 
@@ -162,6 +177,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private boolean defaultReadOnly;
 	private boolean hasNonReadOnlyEntities;
 
+	// see SessionEventSettings.SESSION_MEMORY_SOFT_CAP
+	private final long memorySoftCap;
+	private final boolean memorySoftCapEviction;
+	private boolean memorySoftCapExceeded;
+
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
@@ -172,7 +192,21 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
-		this.entityEntryContext = new EntityEntryContext( this );
+		if ( session.isStatelessSession() ) {
+			memorySoftCap = 0;
+			memorySoftCapEviction = false;
+		}
+		else {
+			final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+			memorySoftCap = options.getSessionMemorySoftCap();
+			memorySoftCapEviction = options.isSessionMemorySoftCapEvictionEnabled();
+		}
+		// the estimated size only needs to be tracked to check it against the soft cap
+		this.entityEntryContext = new EntityEntryContext( this, isMemorySoftCapEnabled() );
+	}
+
+	boolean isMemorySoftCapEnabled() {
+		return memorySoftCap > 0;
 	}
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
@@ -182,6 +216,35 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey;
 	}
 
+	/**
+	 * Add a holder for a key which has no holder yet.
+	 */
+	private void putNewEntityHolder(EntityKey key, EntityHolderImpl holder) {
+		getOrInitializeEntitiesByKey().put( key, holder );
+		if ( entityHolderCounts == null ) {
+			entityHolderCounts = new HashMap<>();
+		}
+		entityHolderCounts.computeIfAbsent( key.getPersister().getRootEntityName(), name -> new int[1] )[0]++;
+	}
+
+	private @Nullable EntityHolderImpl removeEntityHolderByKey(EntityKey key) {
+		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.remove( key );
+		if ( holder != null ) {
+			final String rootEntityName = key.getPersister().getRootEntityName();
+			final int[] count = entityHolderCounts.get( rootEntityName );
+			if ( --count[0] == 0 ) {
+				entityHolderCounts.remove( rootEntityName );
+			}
+		}
+		return holder;
+	}
+
+	@Override
+	public boolean containsEntityHierarchy(EntityPersister persister) {
+		return entityHolderCounts != null
+			&& entityHolderCounts.containsKey( persister.getRootEntityName() );
+	}
+
 	@Override
 	public boolean isStateless() {
 		return false;
@@ -244,6 +307,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		arrayHolders = null;
 		entitiesByKey = null;
+		entityHolderCounts = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 		parentsByChild = null;
@@ -259,6 +323,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 		// defaultReadOnly is unaffected by clear()
 		hasNonReadOnlyEntities = false;
+		memorySoftCapExceeded = false;
 		if ( loadContexts != null ) {
 			loadContexts.cleanup();
 		}
@@ -405,7 +470,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			holder = oldHolder;
 		}
 		else {
-			entityHolderMap.put( key, holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity ) );
+			putNewEntityHolder( key, holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity ) );
 		}
 		assert holder.entityInitializer == null || holder.entityInitializer == initializer;
 		holder.entityInitializer = initializer;
@@ -456,7 +521,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			// It's possible that we tried to load an entity and found out it doesn't exist,
 			// in which case we added an entry with a null proxy and entity.
 			// Remove that empty entry on post load to avoid unwanted side effects
-			entitiesByKey.remove( holder.getEntityKey() );
+			removeEntityHolderByKey( holder.getEntityKey() );
 		}
 		else {
 			if ( postLoadEvent != null ) {
@@ -497,7 +562,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 		else {
 			holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity );
-			entityHolderMap.put( key, holder );
+			putNewEntityHolder( key, holder );
 		}
 		holder.state = EntityHolderState.INITIALIZED;
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -527,7 +592,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( holder.proxy != null ) {
 				holder.entity = null;
 				holder.state = EntityHolderState.UNINITIALIZED;
-				entitiesByKey.put( key, holder );
+				putNewEntityHolder( key, holder );
 			}
 			return entity;
 		}
@@ -538,7 +603,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public @Nullable EntityHolderImpl removeEntityHolder(EntityKey key) {
 		final EntityHolderImpl holder;
 		if ( entitiesByKey != null ) {
-			holder = entitiesByKey.remove( key );
+			holder = removeEntityHolderByKey( key );
 			if ( entitiesByUniqueKey != null ) {
 				final Object entity = holder == null ? null : holder.entity;
 				final Iterator<?> itr = entitiesByUniqueKey.values().iterator();
@@ -694,6 +759,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entityEntryContext.addEntityEntry( entity, e );
 
 		setHasNonReadOnlyEnties( status );
+		checkMemorySoftCap();
 		return e;
 	}
 
@@ -784,7 +850,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				}
 			}
 			else {
-				entityHolderMap.put( key, EntityHolderImpl.forProxy( key, persister, proxy ) );
+				putNewEntityHolder( key, EntityHolderImpl.forProxy( key, persister, proxy ) );
 			}
 			proxy.getHibernateLazyInitializer().setSession( session );
 		}
@@ -930,7 +996,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			holder = oldHolder;
 		}
 		else {
-			entityHolderMap.put( key, holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity ) );
+			putNewEntityHolder( key, holder = EntityHolderImpl.forEntity( key, key.getPersister(), entity ) );
 		}
 		holder.state = EntityHolderState.ENHANCED_PROXY;
 	}
@@ -1228,7 +1294,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			holder.proxy = proxy;
 		}
 		else {
-			entityHolderMap.put( key, EntityHolderImpl.forProxy( key, key.getPersister(), proxy ) );
+			putNewEntityHolder( key, EntityHolderImpl.forProxy( key, key.getPersister(), proxy ) );
 		}
 	}
 
@@ -1423,6 +1489,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public void beforeLoad() {
+		if ( memorySoftCapExceeded && loadCounter == 0 ) {
+			// before the load, so that the entities of its result are never evicted
+			afterMemorySoftCapExceeded();
+		}
 		loadCounter++;
 	}
 
@@ -1753,7 +1823,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Object generatedId) {
-		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.remove( oldKey );
+		final EntityHolderImpl holder = removeEntityHolderByKey( oldKey );
 		final Object entity = holder == null ? null : holder.entity;
 		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
 		this.parentsByChild = null;
@@ -1970,7 +2040,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 					}
 				}
 				holder.setEntityEntry( rtn.entityEntryContext.getEntityEntry( entity ) );
-				rtn.entitiesByKey.put( ek, holder );
+				rtn.putNewEntityHolder( ek, holder );
 			}
 
 			count = ois.readInt();
@@ -2133,11 +2203,208 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return collectionEntries == null ? 0 : collectionEntries.size();
 	}
 
+	@Override
+	public long getEstimatedMemorySize() {
+		long size = entityEntryContext.getEstimatedSize();
+		if ( collectionEntries != null ) {
+			for ( Map.Entry<PersistentCollection<?>, CollectionEntry> me : collectionEntries.entrySet() ) {
+				size += estimatedCollectionSize( me.getKey(), me.getValue() );
+			}
+		}
+		if ( session instanceof EventSource eventSource ) {
+			final ActionQueue actionQueue = eventSource.getActionQueue();
+			size += MemoryEstimates.actions(
+					actionQueue.numberOfInsertions()
+							+ actionQueue.numberOfUpdates()
+							+ actionQueue.numberOfDeletions()
+							+ actionQueue.numberOfCollectionCreations()
+							+ actionQueue.numberOfCollectionUpdates()
+							+ actionQueue.numberOfCollectionRemovals()
+			);
+		}
+		return size;
+	}
+
+	private static long estimatedCollectionSize(PersistentCollection<?> collection, CollectionEntry entry) {
+		return MemoryEstimates.collection( collection.wasInitialized() ? entry.getSnapshot() : null );
+	}
+
+	/**
+	 * The part of the {@linkplain #getEstimatedMemorySize() estimated size} which
+	 * is cheap enough to be checked against the soft cap after each new entry:
+	 * the entities, and the collections without their elements.
+	 */
+	private long getMemorySoftCapEstimate() {
+		return entityEntryContext.getEstimatedSize()
+				+ getCollectionEntriesSize() * MemoryEstimates.collection();
+	}
+
+	@Override
+	public Map<String, Long> getEstimatedMemorySizeByEntityName() {
+		return entityEntryContext.getEstimatedSizeByEntityName();
+	}
+
+	@Override
+	public Map<String, Long> getEstimatedMemorySizeByCollectionRole() {
+		final Map<String, Long> sizes = new HashMap<>();
+		if ( collectionEntries != null ) {
+			collectionEntries.forEach( (collection, entry) -> {
+				final String role = entry.getRole();
+				if ( role != null ) {
+					sizes.merge( role, estimatedCollectionSize( collection, entry ), Long::sum );
+				}
+			} );
+		}
+		return sizes;
+	}
+
+	private void checkMemorySoftCap() {
+		if ( memorySoftCap > 0 && !memorySoftCapExceeded ) {
+			final long estimatedSize = getMemorySoftCapEstimate();
+			if ( estimatedSize > memorySoftCap ) {
+				memorySoftCapExceeded = true;
+				session.getEventListenerManager().memorySoftCapExceeded( estimatedSize );
+			}
+		}
+	}
+
+	/**
+	 * Called at the start of a top-level load once the soft cap has been exceeded.
+	 * Evicts read-only entities, oldest first, if enabled, and re-arms the
+	 * notification if the estimated size is back under the cap.
+	 */
+	private void afterMemorySoftCapExceeded() {
+		if ( memorySoftCapEviction && !flushing && cascading == 0 && session.isEventSource()
+				// the owners of collections waiting to be initialized must stay managed
+				&& ( nonlazyCollections == null || nonlazyCollections.isEmpty() ) ) {
+			Set<String> persistCascadeTargets = null;
+			Set<Object> dirtyCollectionOwners = null;
+			for ( Map.Entry<Object, EntityEntry> me : reentrantSafeEntityEntries() ) {
+				if ( getMemorySoftCapEstimate() <= memorySoftCap ) {
+					break;
+				}
+				final Object entity = me.getKey();
+				final EntityEntry entry = me.getValue();
+				if ( entry.getStatus() == Status.READ_ONLY && getEntry( entity ) == entry ) {
+					if ( persistCascadeTargets == null ) {
+						persistCascadeTargets = getPersistCascadeTargets();
+						dirtyCollectionOwners = getDirtyCollectionOwners();
+					}
+					// the flush cascades to the entities reachable through a persist
+					// cascade, and the changes to the collections of a read-only entity
+					// are still flushed, so such entities must stay managed
+					if ( !persistCascadeTargets.contains( entry.getPersister().getRootEntityName() )
+							&& !dirtyCollectionOwners.contains( entity ) ) {
+						evictWithoutCascade( entity, entry );
+					}
+				}
+			}
+		}
+		if ( getMemorySoftCapEstimate() <= memorySoftCap ) {
+			memorySoftCapExceeded = false;
+		}
+	}
+
+	/**
+	 * Detach the given read-only entity, which is never dirty, unlike
+	 * {@link SessionImplementor#evict}, without cascading to the entities
+	 * it references, which may have unflushed changes.
+	 */
+	private void evictWithoutCascade(Object entity, EntityEntry entry) {
+		final EventSource source = session.asEventSource();
+		final EntityPersister persister = entry.getPersister();
+		final EntityKey key = entry.getEntityKey();
+		if ( persister.hasNaturalIdentifier() ) {
+			getNaturalIdResolutions().handleEviction( key.getIdentifier(), entity, persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( source, entity ).process( entity, persister );
+		}
+		final EntityHolder holder = removeEntityHolder( key );
+		if ( holder != null ) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( holder.getProxy() );
+			if ( lazyInitializer != null ) {
+				lazyInitializer.unsetSession();
+			}
+		}
+		removeEntry( entity );
+	}
+
+	/**
+	 * The root entity names of the entities to which the flush cascades
+	 * from the entities in this persistence context.
+	 */
+	private Set<String> getPersistCascadeTargets() {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Set<String> targets = new HashSet<>();
+		final Set<EntityPersister> persisters = new IdentitySet<>();
+		for ( Map.Entry<Object, EntityEntry> me : reentrantSafeEntityEntries() ) {
+			final EntityPersister persister = me.getValue().getPersister();
+			if ( persister.hasCascades() && persisters.add( persister ) ) {
+				final Type[] types = persister.getPropertyTypes();
+				final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+				for ( int i = 0; i < types.length; i++ ) {
+					addPersistCascadeTargets( types[i], cascadeStyles[i], targets, factory );
+				}
+			}
+		}
+		return targets;
+	}
+
+	private static void addPersistCascadeTargets(
+			Type type,
+			CascadeStyle cascadeStyle,
+			Set<String> targets,
+			SessionFactoryImplementor factory) {
+		if ( cascadeStyle.doCascade( CascadingActions.PERSIST_ON_FLUSH ) ) {
+			final Type targetType =
+					type instanceof CollectionType collectionType ? collectionType.getElementType( factory ) : type;
+			if ( targetType instanceof ComponentType componentType ) {
+				final Type[] subtypes = componentType.getSubtypes();
+				for ( int i = 0; i < subtypes.length; i++ ) {
+					addPersistCascadeTargets( subtypes[i], componentType.getCascadeStyle( i ), targets, factory );
+				}
+			}
+			else if ( targetType instanceof EntityType entityType ) {
+				targets.add( factory.getMappingMetamodel()
+						.getEntityDescriptor( entityType.getAssociatedEntityName( factory ) )
+						.getRootEntityName() );
+			}
+			else if ( targetType instanceof AnyType ) {
+				// might be any entity
+				factory.getMappingMetamodel()
+						.forEachEntityDescriptor( persister -> targets.add( persister.getRootEntityName() ) );
+			}
+		}
+	}
+
+	private Set<Object> getDirtyCollectionOwners() {
+		final Set<Object> owners = new IdentitySet<>();
+		if ( collectionEntries != null ) {
+			for ( PersistentCollection<?> collection : collectionEntries.keySet() ) {
+				if ( collection.isDirty() && collection.getOwner() != null ) {
+					owners.add( collection.getOwner() );
+				}
+			}
+		}
+		return owners;
+	}
+
 	@Override
 	public CollectionEntry removeCollectionEntry(PersistentCollection<?> collection) {
 		return collectionEntries == null ? null : collectionEntries.remove(collection);
 	}
 
+	@Override
+	public void restoreCollectionEntry(PersistentCollection<?> collection, CollectionEntry collectionEntry) {
+		if ( collectionEntry.getLoadedPersister() != null && collectionEntry.getLoadedKey() != null ) {
+			addCollection( collection, collectionEntry, collectionEntry.getLoadedKey() );
+		}
+		else {
+			getOrInitializeCollectionEntries().put( collection, collectionEntry );
+		}
+	}
+
 	@Override
 	public void clearCollectionsByKey() {
 		if ( collectionsByKey != null ) {
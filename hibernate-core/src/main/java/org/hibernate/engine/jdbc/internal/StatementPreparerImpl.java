@@ -17,6 +17,9 @@ import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache.Kind;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -58,6 +61,12 @@ class StatementPreparerImpl implements StatementPreparer {
 		return jdbcCoordinator.getLogicalConnection();
 	}
 
+	protected final @Nullable PreparedStatementCache statementCache() {
+		return logicalConnection() instanceof LogicalConnectionManagedImpl managedConnection
+				? managedConnection.getStatementCache()
+				: null;
+	}
+
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
@@ -86,7 +95,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, isCallable ? null : Kind.STATEMENT ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -108,7 +117,10 @@ class StatementPreparerImpl implements StatementPreparer {
 			checkAutoGeneratedKeysSupportEnabled();
 		}
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		final Kind kind = autoGeneratedKeys == PreparedStatement.RETURN_GENERATED_KEYS
+				? Kind.GENERATED_KEYS_STATEMENT
+				: Kind.STATEMENT;
+		return new StatementPreparationTemplate( sql, kind ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
@@ -119,7 +131,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	public PreparedStatement prepareStatement(String sql, final String[] columnNames) {
 		checkAutoGeneratedKeysSupportEnabled();
 		jdbcCoordinator.executeBatch();
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, null ) {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
@@ -142,7 +154,8 @@ class StatementPreparerImpl implements StatementPreparer {
 			resultSetType = ResultSet.TYPE_FORWARD_ONLY;
 		}
 
-		final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+		final Kind kind = !isCallable && resultSetType == ResultSet.TYPE_FORWARD_ONLY ? Kind.QUERY : null;
+		final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, kind ) {
 			public PreparedStatement doPrepare() throws SQLException {
 					return isCallable
 							? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
@@ -155,32 +168,47 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		// null if statements of this kind are never cached
+		private final @Nullable Kind kind;
 
-		protected StatementPreparationTemplate(String incomingSql) {
+		protected StatementPreparationTemplate(String incomingSql, @Nullable Kind kind) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.kind = kind;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
+				final PreparedStatementCache statementCache = kind == null ? null : statementCache();
+				final PreparedStatement cachedStatement =
+						statementCache == null ? null : statementCache.get( sql, kind );
 				final PreparedStatement preparedStatement;
-				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-				final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
-				final EventManager eventManager = jdbcSessionOwner.getEventManager();
-				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				if ( cachedStatement != null ) {
+					preparedStatement = cachedStatement;
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
-					observer.jdbcPrepareStatementEnd();
+				else {
+					final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+					final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+					final EventManager eventManager = jdbcSessionOwner.getEventManager();
+					final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+						observer.jdbcPrepareStatementEnd();
+					}
+					if ( statementCache != null ) {
+						statementCache.put( preparedStatement, sql, kind );
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -206,8 +234,8 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, @Nullable Kind kind) {
+			super( sql, kind );
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
@@ -905,6 +905,7 @@ public class ActionQueue {
 				final EntityDeleteAction action = deletions.get( i );
 				if ( action.getInstance() == rescuedEntity ) {
 					deletions.remove( i );
+					unScheduleElementRemovals( rescuedEntity );
 					return;
 				}
 			}
@@ -921,6 +922,22 @@ public class ActionQueue {
 		throw new AssertionFailure( "Unable to perform un-delete for instance " + entry.getEntityName() );
 	}
 
+	/**
+	 * Cancel the removal of the elements of collections belonging to an entity
+	 * whose deletion was un-scheduled, since the elements were never loaded,
+	 * and so the deletion will not be cascaded to them again
+	 */
+	private void unScheduleElementRemovals(Object rescuedEntity) {
+		if ( collectionRemovals != null ) {
+			for ( int i = collectionRemovals.size() - 1; i >= 0; i-- ) {
+				final CollectionRemoveAction action = collectionRemovals.get( i );
+				if ( action.isRemoveElements() && action.getAffectedOwner() == rescuedEntity ) {
+					collectionRemovals.remove( i );
+				}
+			}
+		}
+	}
+
 	/**
 	 * Used by the owning session to explicitly control serialization of the action queue
 	 *
@@ -10,6 +10,7 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ReplicationMode;
 import org.hibernate.TransientObjectException;
+import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.event.spi.DeleteContext;
 import org.hibernate.event.spi.EventSource;
@@ -17,6 +18,8 @@ import org.hibernate.event.spi.MergeContext;
 import org.hibernate.event.spi.PersistContext;
 import org.hibernate.event.spi.RefreshContext;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.type.CollectionType;
 import org.jboss.logging.Logger;
 
@@ -63,6 +66,10 @@ public class CascadingActions {
 				EventSource session,
 				CollectionType collectionType,
 				Object collection) {
+			if ( removeElementsWithoutLoading( session, collection ) ) {
+				// the elements are deleted by a single statement
+				return emptyIterator();
+			}
 			// delete does cascade to uninitialized collections
 			return getAllElementsIterator( session, collectionType, collection );
 		}
@@ -476,6 +483,37 @@ public class CascadingActions {
 		return collectionType.getElementsIterator( collection );
 	}
 
+	/**
+	 * If the given collection is an uninitialized one-to-many association
+	 * whose elements can be deleted without loading them, and none of its
+	 * elements could possibly be associated with the session, schedule a
+	 * single statement deleting all the elements.
+	 *
+	 * @return {@code true} if the deletion was scheduled
+	 */
+	private static boolean removeElementsWithoutLoading(EventSource session, Object collection) {
+		if ( collection instanceof PersistentCollection<?> persistentCollection
+				&& !persistentCollection.wasInitialized()
+				&& !persistentCollection.hasQueuedOperations()
+				&& session.getInterceptor() == EmptyInterceptor.INSTANCE ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final CollectionEntry entry = persistenceContext.getCollectionEntry( persistentCollection );
+			if ( entry != null ) {
+				final CollectionPersister persister = entry.getLoadedPersister();
+				final Object key = entry.getLoadedKey();
+				if ( persister != null && key != null
+						&& persister.canRemoveElementsWithoutLoading()
+						&& !persister.isAffectedByEnabledFilters( session )
+						&& !persistenceContext.containsEntityHierarchy( persister.getElementPersister() ) ) {
+					session.getActionQueue()
+							.addAction( new CollectionRemoveAction( persistentCollection, persister, key, session ) );
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Iterate just the elements of the collection that are already there. Don't load
 	 * any new elements from the database.
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.spi;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.BasicPluralJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Stands in for the value of a large mutable basic attribute, for example, an array,
+ * a LOB, or a JSON or XML document, in the loaded state held by an {@link EntityEntry},
+ * when {@value org.hibernate.cfg.PersistenceSettings#HASHED_SNAPSHOTS} is enabled.
+ * Instead of a deep copy of the value, only a SHA-256 digest of its content is kept,
+ * and the attribute is considered dirty when the digest of the current value differs.
+ * <p>
+ * The digest is computed over a canonical serialization of the value: the bytes of a
+ * binary value, or otherwise the {@linkplain JavaType#toString(Object) string form}
+ * of the value given by its {@link JavaType}, where the elements of basic arrays and
+ * collections are serialized one by one, in order, each prefixed by its length.
+ *
+ * @see org.hibernate.persister.entity.EntityPersister#getHashedSnapshotJavaTypes()
+ *
+ * @since 7.0
+ */
+@Incubating
+public final class HashedSnapshot implements Serializable {
+	private static final String ALGORITHM = "SHA-256";
+
+	// not available after deserialization, in which case the value is assumed dirty
+	private final transient JavaType<Object> javaType;
+	private final byte[] digest;
+
+	private HashedSnapshot(JavaType<Object> javaType, byte[] digest) {
+		this.javaType = javaType;
+		this.digest = digest;
+	}
+
+	/**
+	 * Create a snapshot of the given value, or return {@code null}
+	 * if the value is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public static HashedSnapshot of(Object value, JavaType<?> javaType) {
+		if ( value == null ) {
+			return null;
+		}
+		final JavaType<Object> objectJavaType = (JavaType<Object>) javaType;
+		return new HashedSnapshot( objectJavaType, digest( value, objectJavaType ) );
+	}
+
+	/**
+	 * The {@linkplain EntityPersister#getHashedSnapshotJavaTypes() Java types} of
+	 * the attributes of the given entity which are snapshotted as a hash in the
+	 * given session, or {@code null} if the session has an
+	 * {@link org.hibernate.Interceptor}, since it receives the loaded state as
+	 * the previous state of the entity.
+	 */
+	public static JavaType<?>[] getJavaTypes(EntityPersister persister, SharedSessionContractImplementor session) {
+		final JavaType<?>[] javaTypes = persister.getHashedSnapshotJavaTypes();
+		return javaTypes == null || session.getInterceptor() != EmptyInterceptor.INSTANCE ? null : javaTypes;
+	}
+
+	/**
+	 * Is the given current value different to the value this
+	 * snapshot was taken of?
+	 */
+	public boolean isDirty(Object current) {
+		return current == null
+			|| javaType == null
+			|| !MessageDigest.isEqual( digest, digest( current, javaType ) );
+	}
+
+	private static byte[] digest(Object value, JavaType<Object> javaType) {
+		final MessageDigest messageDigest = newMessageDigest();
+		if ( value instanceof byte[] bytes ) {
+			messageDigest.update( bytes );
+		}
+		else if ( javaType instanceof BasicPluralJavaType<?> pluralJavaType ) {
+			@SuppressWarnings("unchecked")
+			final JavaType<Object> elementJavaType = (JavaType<Object>) pluralJavaType.getElementJavaType();
+			if ( value instanceof Collection<?> collection ) {
+				// the JavaType hashes a basic collection ignoring the order
+				// of the elements, which would hide a reordering of a list
+				for ( Object element : collection ) {
+					updateElement( messageDigest, element, elementJavaType );
+				}
+			}
+			else if ( value.getClass().isArray() ) {
+				final int length = Array.getLength( value );
+				for ( int i = 0; i < length; i++ ) {
+					updateElement( messageDigest, Array.get( value, i ), elementJavaType );
+				}
+			}
+			else {
+				update( messageDigest, javaType.toString( value ) );
+			}
+		}
+		else {
+			update( messageDigest, javaType.toString( value ) );
+		}
+		return messageDigest.digest();
+	}
+
+	private static void updateElement(MessageDigest messageDigest, Object element, JavaType<Object> elementJavaType) {
+		if ( element == null ) {
+			updateLength( messageDigest, -1 );
+		}
+		else {
+			update( messageDigest, elementJavaType.toString( element ) );
+		}
+	}
+
+	private static void update(MessageDigest messageDigest, String string) {
+		final byte[] bytes = string.getBytes( UTF_8 );
+		// the length prefix keeps the serialization of consecutive elements unambiguous
+		updateLength( messageDigest, bytes.length );
+		messageDigest.update( bytes );
+	}
+
+	private static void updateLength(MessageDigest messageDigest, int length) {
+		messageDigest.update( (byte) ( length >>> 24 ) );
+		messageDigest.update( (byte) ( length >>> 16 ) );
+		messageDigest.update( (byte) ( length >>> 8 ) );
+		messageDigest.update( (byte) length );
+	}
+
+	private static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance( ALGORITHM );
+		}
+		catch ( NoSuchAlgorithmException e ) {
+			throw new HibernateException( "Unable to compute hashed snapshot", e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "HashedSnapshot" + Arrays.toString( digest );
+	}
+}
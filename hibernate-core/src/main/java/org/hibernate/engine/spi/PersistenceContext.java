@@ -529,6 +529,13 @@ public interface PersistenceContext {
 	@Internal
 	Map<EntityKey,EntityHolder> getEntityHoldersByKey();
 
+	/**
+	 * Does this persistence context hold an entity instance or proxy of the
+	 * entity hierarchy of the given persister?
+	 */
+	@Internal
+	boolean containsEntityHierarchy(EntityPersister persister);
+
 	/**
 	 * Provides access to the entity/EntityEntry combos associated with the persistence context in a manner that
 	 * is safe from reentrant access.  Specifically, it is safe from additions/removals while iterating.
@@ -808,6 +815,39 @@ public interface PersistenceContext {
 	 */
 	int getCollectionEntriesSize();
 
+	/**
+	 * An estimate, in bytes, of the memory held by the managed entities and
+	 * collections of this persistence context, including collection snapshots,
+	 * and by the actions waiting to be flushed.
+	 *
+	 * @see org.hibernate.stat.SessionStatistics#getEstimatedMemorySize()
+	 * @see org.hibernate.cfg.SessionEventSettings#SESSION_MEMORY_SOFT_CAP
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	long getEstimatedMemorySize();
+
+	/**
+	 * An estimate, in bytes, of the memory held by the managed instances of
+	 * each entity, keyed by entity name.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	Map<String,Long> getEstimatedMemorySizeByEntityName();
+
+	/**
+	 * An estimate, in bytes, of the memory held by the managed collections of
+	 * each role, including their elements and snapshots, keyed by role. This
+	 * requires iterating the collection entries. Collections which have not
+	 * yet been flushed have no role, and are not included.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	Map<String,Long> getEstimatedMemorySizeByCollectionRole();
+
 	/**
 	 * Remove a {@link PersistentCollection} from the {@link PersistenceContext}.
 	 * @param collection the collection to remove
@@ -815,6 +855,14 @@ public interface PersistenceContext {
 	 */
 	CollectionEntry removeCollectionEntry(PersistentCollection<?> collection);
 
+	/**
+	 * Add back a {@link PersistentCollection} along with the {@link CollectionEntry}
+	 * previously {@linkplain #removeCollectionEntry removed}, and map it by its
+	 * loaded key.
+	 */
+	@Internal
+	void restoreCollectionEntry(PersistentCollection<?> collection, CollectionEntry collectionEntry);
+
 	/**
 	 * Remove all state of the collections-by-key map.
 	 */
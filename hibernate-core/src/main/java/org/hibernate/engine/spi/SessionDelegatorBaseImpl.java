@@ -4,6 +4,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +54,7 @@ import org.hibernate.query.sql.spi.NativeQueryImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 import org.hibernate.stat.SessionStatistics;
+import org.hibernate.stat.spi.FetchPlanProfiler;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -422,6 +424,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.getEventListenerManager();
 	}
 
+	@Override
+	public FetchPlanProfiler getFetchPlanProfiler() {
+		return delegate.getFetchPlanProfiler();
+	}
+
 	@Override
 	public Transaction accessTransaction() {
 		return delegate.accessTransaction();
@@ -901,6 +908,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.lock( object, lockOptions );
 	}
 
+	@Override
+	public void lockAll(Collection<?> objects, LockMode lockMode) {
+		delegate.lockAll( objects, lockMode );
+	}
+
+	@Override
+	public void lockAll(Collection<?> objects, LockOptions lockOptions) {
+		delegate.lockAll( objects, lockOptions );
+	}
+
 	@Override
 	public void refresh(Object object) {
 		delegate.refresh( object );
@@ -936,6 +953,21 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.refresh( object, lockOptions );
 	}
 
+	@Override
+	public void refreshAll(Collection<?> objects) {
+		delegate.refreshAll( objects );
+	}
+
+	@Override
+	public void refreshAll(Collection<?> objects, LockOptions lockOptions) {
+		delegate.refreshAll( objects, lockOptions );
+	}
+
+	@Override
+	public void initializeAll(Collection<?> objects, String attributePath) {
+		delegate.initializeAll( objects, attributePath );
+	}
+
 	@Override
 	public LockMode getCurrentLockMode(Object object) {
 		return delegate.getCurrentLockMode( object );
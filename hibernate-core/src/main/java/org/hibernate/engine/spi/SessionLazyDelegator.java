@@ -4,6 +4,7 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -231,6 +232,16 @@ public class SessionLazyDelegator implements Session {
 		this.lazySession.get().lock( object, lockOptions );
 	}
 
+	@Override
+	public void lockAll(Collection<?> objects, LockMode lockMode) {
+		this.lazySession.get().lockAll( objects, lockMode );
+	}
+
+	@Override
+	public void lockAll(Collection<?> objects, LockOptions lockOptions) {
+		this.lazySession.get().lockAll( objects, lockOptions );
+	}
+
 	@Override
 	public void refresh(Object object) {
 		this.lazySession.get().refresh( object );
@@ -246,6 +257,21 @@ public class SessionLazyDelegator implements Session {
 		this.lazySession.get().refresh( object, lockOptions );
 	}
 
+	@Override
+	public void refreshAll(Collection<?> objects) {
+		this.lazySession.get().refreshAll( objects );
+	}
+
+	@Override
+	public void refreshAll(Collection<?> objects, LockOptions lockOptions) {
+		this.lazySession.get().refreshAll( objects, lockOptions );
+	}
+
+	@Override
+	public void initializeAll(Collection<?> objects, String attributePath) {
+		this.lazySession.get().initializeAll( objects, attributePath );
+	}
+
 	@Override
 	public void remove(Object object) {
 		this.lazySession.get().remove( object );
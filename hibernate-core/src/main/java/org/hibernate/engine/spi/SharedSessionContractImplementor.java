@@ -30,6 +30,7 @@ import org.hibernate.query.spi.QueryProducerImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder.Options;
+import org.hibernate.stat.spi.FetchPlanProfiler;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.spi.TypeConfiguration;
@@ -103,6 +104,18 @@ public interface SharedSessionContractImplementor
 	 */
 	SessionEventListenerManager getEventListenerManager();
 
+	/**
+	 * Get the {@link FetchPlanProfiler} observing the use of associations in
+	 * this session, or {@code null} if this session is not profiled.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_SAMPLING_RATE
+	 *
+	 * @since 7.0
+	 */
+	default FetchPlanProfiler getFetchPlanProfiler() {
+		return null;
+	}
+
 	/**
 	 * Get the persistence context for this session.
 	 * <p>
@@ -41,6 +41,7 @@ import org.hibernate.query.spi.QueryProducerImplementor;
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
+import org.hibernate.stat.spi.FetchPlanProfiler;
 
 import java.util.List;
 import java.util.Set;
@@ -352,6 +353,11 @@ public class SharedSessionDelegatorBaseImpl implements SharedSessionContractImpl
 		return delegate.getEventListenerManager();
 	}
 
+	@Override
+	public FetchPlanProfiler getFetchPlanProfiler() {
+		return delegate.getFetchPlanProfiler();
+	}
+
 	@Override
 	public PersistenceContext getPersistenceContext() {
 		return delegate.getPersistenceContext();
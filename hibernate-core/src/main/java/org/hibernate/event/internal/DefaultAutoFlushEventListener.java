@@ -4,9 +4,14 @@
  */
 package org.hibernate.event.internal;
 
+import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.event.spi.AutoFlushEvent;
@@ -15,11 +20,17 @@ import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
 import java.lang.invoke.MethodHandles;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Defines the default flush event listeners used by hibernate for
@@ -45,7 +56,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 		try {
 			eventListenerManager.partialFlushStart();
 
-			if ( flushMightBeNeeded( source ) ) {
+			if ( flushMightBeNeeded( source ) && !isScopedOut( event, source ) ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
@@ -115,6 +126,105 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * When {@linkplain SessionFactoryOptions#isScopedAutoFlushEnabled() scoped auto-flush}
+	 * is enabled, dirty check only the entities and collections mapped to the query spaces
+	 * to determine that the flush may be skipped. Changes to other entities and collections
+	 * are left for the next flush. The flush-time cascades are not affected: they are still
+	 * performed by the {@linkplain #onAutoPreFlush pre-flush} of a query, which happens
+	 * before this check, and otherwise, when the flush is skipped, by the next flush.
+	 *
+	 * @return {@code true} if there are definitely no changes affecting the query spaces
+	 */
+	private static boolean isScopedOut(AutoFlushEvent event, EventSource source) {
+		final Set<String> querySpaces = event.getQuerySpaces();
+		if ( querySpaces == null || querySpaces.isEmpty()
+				|| source.getHibernateFlushMode() == FlushMode.ALWAYS
+				|| source.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| !source.getFactory().getSessionFactoryOptions().isScopedAutoFlushEnabled()
+				|| source.getActionQueue().areTablesToBeUpdated( querySpaces ) ) {
+			return false;
+		}
+
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final Map<Object, Boolean> affectsQuerySpaces = new IdentityHashMap<>();
+		for ( Map.Entry<Object, EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+			final EntityEntry entry = me.getValue();
+			final EntityPersister persister = entry.getPersister();
+			if ( affectsQuerySpaces.computeIfAbsent( persister,
+							p -> containsAny( querySpaces, persister.getPropertySpaces() ) )
+					&& mightBeDirty( me.getKey(), entry, source ) ) {
+				return false;
+			}
+		}
+
+		final Map<PersistentCollection<?>, CollectionEntry> collectionEntries =
+				persistenceContext.getCollectionEntries();
+		if ( collectionEntries != null ) {
+			for ( Map.Entry<PersistentCollection<?>, CollectionEntry> me : collectionEntries.entrySet() ) {
+				final PersistentCollection<?> collection = me.getKey();
+				final CollectionPersister persister = me.getValue().getLoadedPersister();
+				if ( persister == null ) {
+					// a new collection, with no role yet
+					if ( collection.wasInitialized() && !collection.empty() ) {
+						return false;
+					}
+				}
+				else if ( affectsQuerySpaces.computeIfAbsent( persister,
+								p -> containsAny( querySpaces, persister.getCollectionSpaces() ) )
+						&& mightBeDirty( collection, persister ) ) {
+					return false;
+				}
+			}
+		}
+		LOG.trace( "No need to execute flush, no changes affecting query spaces" );
+		return true;
+	}
+
+	private static boolean mightBeDirty(Object entity, EntityEntry entry, EventSource source) {
+		switch ( entry.getStatus() ) {
+			case MANAGED:
+				if ( !entry.requiresDirtyCheck( entity ) ) {
+					return false;
+				}
+				final EntityPersister persister = entry.getPersister();
+				final CustomEntityDirtinessStrategy dirtinessStrategy =
+						source.getFactory().getCustomEntityDirtinessStrategy();
+				if ( dirtinessStrategy.canDirtyCheck( entity, persister, source ) ) {
+					return dirtinessStrategy.isDirty( entity, persister, source );
+				}
+				final Object[] loadedState = entry.getLoadedState();
+				return loadedState == null
+					|| persister.findDirty( persister.getValues( entity ), loadedState, entity, source ) != null;
+			case READ_ONLY:
+			case GONE:
+			case LOADING:
+			case DELETED:
+				// deletions are already in the action queue
+				return false;
+			default:
+				return true;
+		}
+	}
+
+	private static boolean mightBeDirty(PersistentCollection<?> collection, CollectionPersister persister) {
+		return collection.isDirty()
+			|| collection.hasQueuedOperations()
+			|| collection.wasInitialized()
+				&& persister.isMutable()
+				&& ( collection.isDirectlyAccessible() || persister.getElementType().isMutable() )
+				&& !collection.equalsSnapshot( persister );
+	}
+
+	private static boolean containsAny(Set<String> querySpaces, String[] spaces) {
+		for ( String space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
@@ -23,6 +23,7 @@ import org.hibernate.engine.internal.Nullability.NullabilityCheckType;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.HashedSnapshot;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.DeleteContext;
@@ -32,7 +33,6 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.EmptyInterceptor;
-import org.hibernate.internal.FastSessionServices;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
 import org.hibernate.jpa.event.spi.CallbackType;
@@ -299,19 +299,7 @@ public class DefaultDeleteEventListener implements DeleteEventListener,	Callback
 			&& !persister.hasNaturalIdentifier()
 			&& !persister.hasCollectionNotReferencingPK()
 			&& !hasRegisteredRemoveCallbacks( persister )
-			&& !hasCustomEventListeners( source );
-	}
-
-	private static boolean hasCustomEventListeners(EventSource source) {
-		FastSessionServices fss = source.getFactory().getFastSessionServices();
-		// Bean Validation adds a PRE_DELETE listener
-		// and Envers adds a POST_DELETE listener
-		return fss.eventListenerGroup_PRE_DELETE.count() > 0
-			|| fss.eventListenerGroup_POST_COMMIT_DELETE.count() > 0
-			|| fss.eventListenerGroup_POST_DELETE.count() > 1
-			|| fss.eventListenerGroup_POST_DELETE.count() == 1
-				&& !(fss.eventListenerGroup_POST_DELETE.listeners().iterator().next()
-						instanceof PostDeleteEventListenerStandardImpl);
+			&& !source.getFactory().getFastSessionServices().hasCustomDeleteEventListeners();
 	}
 
 	private boolean hasRegisteredRemoveCallbacks(EntityPersister persister) {
@@ -382,7 +370,7 @@ public class DefaultDeleteEventListener implements DeleteEventListener,	Callback
 
 		final Object[] currentState = entityEntry.getLoadedState() == null
 				? persister.getValues(entity) //i.e. the entity came in from update()
-				: entityEntry.getLoadedState();
+				: loadedValues( entityEntry.getLoadedState(), persister, entity );
 
 		final Object[] deletedState = createDeletedState( persister, entity, currentState, session );
 		entityEntry.setDeletedState( deletedState );
@@ -446,6 +434,25 @@ public class DefaultDeleteEventListener implements DeleteEventListener,	Callback
 		//persistenceContext.removeDatabaseSnapshot(key);
 	}
 
+	/**
+	 * The loaded state, with the current value of the entity in place of
+	 * each {@link HashedSnapshot}.
+	 */
+	private static Object[] loadedValues(Object[] loadedState, EntityPersister persister, Object entity) {
+		if ( persister.getHashedSnapshotJavaTypes() == null ) {
+			return loadedState;
+		}
+		else {
+			final Object[] values = loadedState.clone();
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] instanceof HashedSnapshot ) {
+					values[i] = persister.getValue( entity, i );
+				}
+			}
+			return values;
+		}
+	}
+
 	private Object[] createDeletedState(
 			EntityPersister persister,
 			Object parent,
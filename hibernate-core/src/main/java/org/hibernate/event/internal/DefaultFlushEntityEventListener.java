@@ -172,7 +172,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			//grab its state saved at deletion
 			return entry.getDeletedState();
 		}
-		else if ( !mightBeDirty && loadedState != null ) {
+		else if ( !mightBeDirty && loadedState != null
+				// a hashed snapshot can't stand in for the current value
+				&& entry.getPersister().getHashedSnapshotJavaTypes() == null ) {
 			return loadedState;
 		}
 		else {
@@ -11,6 +11,7 @@ import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.event.spi.InitializeCollectionEvent;
@@ -64,7 +65,14 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
-				loadedPersister.initialize( loadedKey, source );
+				final SessionEventListenerManager eventListenerManager = source.getEventListenerManager();
+				eventListenerManager.associationFetchStart();
+				try {
+					loadedPersister.initialize( loadedKey, source );
+				}
+				finally {
+					eventListenerManager.associationFetchEnd( loadedPersister.getRole() );
+				}
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection initialized" );
@@ -18,6 +18,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -598,13 +599,20 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	 * @return The object loaded from the datasource, or null if not found.
 	 */
 	protected Object loadFromDatasource(final LoadEvent event, final EntityPersister persister) {
-		Object entity = persister.load(
-				event.getEntityId(),
-				event.getInstanceToLoad(),
-				event.getLockOptions(),
-				event.getSession(),
-				event.getReadOnly()
-		);
+		Object entity;
+		if ( event.isAssociationFetch() ) {
+			final SessionEventListenerManager eventListenerManager = event.getSession().getEventListenerManager();
+			eventListenerManager.associationFetchStart();
+			try {
+				entity = loadFromPersister( event, persister );
+			}
+			finally {
+				eventListenerManager.associationFetchEnd( persister.getEntityName() );
+			}
+		}
+		else {
+			entity = loadFromPersister( event, persister );
+		}
 
 		// todo (6.0) : this is a change from previous versions
 		//		specifically the load call previously always returned a non-proxy
@@ -625,4 +633,14 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		return entity;
 	}
 
+	private static Object loadFromPersister(LoadEvent event, EntityPersister persister) {
+		return persister.load(
+				event.getEntityId(),
+				event.getInstanceToLoad(),
+				event.getLockOptions(),
+				event.getSession(),
+				event.getReadOnly()
+		);
+	}
+
 }
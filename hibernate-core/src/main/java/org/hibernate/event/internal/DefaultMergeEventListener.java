@@ -4,7 +4,13 @@
  */
 package org.hibernate.event.internal;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -15,6 +21,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
+import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -47,6 +54,7 @@ import org.hibernate.type.ForeignKeyDirection;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import static java.util.Collections.newSetFromMap;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asSelfDirtinessTracker;
@@ -84,6 +92,9 @@ public class DefaultMergeEventListener
 		final EntityCopyObserver entityCopyObserver = createEntityCopyObserver( session );
 		final MergeContext mergeContext = new MergeContext( session, entityCopyObserver );
 		try {
+			if ( session.getFactory().getSessionFactoryOptions().isMergeMultiLoadEnabled() ) {
+				new DetachedEntities( session ).load( event.getEntityName(), event.getOriginal() );
+			}
 			onMerge( event, mergeContext );
 			entityCopyObserver.topLevelMergeComplete( session );
 		}
@@ -364,6 +375,121 @@ public class DefaultMergeEventListener
 		}
 	}
 
+	/**
+	 * Collects the identifiers of the detached entities reachable from a merged entity
+	 * by associations which cascade merge, and loads them with one multi-id load per
+	 * entity type, so that they are found in the persistence context when the merge
+	 * cascades to them.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#MERGE_MULTI_LOAD
+	 */
+	private static class DetachedEntities {
+		private final EventSource session;
+		private final PersistenceContext persistenceContext;
+		private final Set<Object> visited = newSetFromMap( new IdentityHashMap<>() );
+		private final Map<EntityPersister, List<Object>> idsByPersister = new LinkedHashMap<>();
+
+		DetachedEntities(EventSource session) {
+			this.session = session;
+			this.persistenceContext = session.getPersistenceContextInternal();
+		}
+
+		void load(String entityName, Object original) {
+			collectEntity( entityName, original );
+			idsByPersister.forEach( (persister, ids) -> {
+				// a single entity costs the same select either way
+				if ( ids.size() > 1 ) {
+					LOG.tracev( "Loading {0} detached instances of {1}", ids.size(), persister.getEntityName() );
+					session.getLoadQueryInfluencers().fromInternalFetchProfile(
+							CascadingFetchProfile.MERGE,
+							() -> session.byMultipleIds( persister.getEntityName() ).multiLoad( ids )
+					);
+				}
+			} );
+		}
+
+		private void collectEntity(String entityName, Object value) {
+			final Object entity = initializedEntity( value );
+			if ( entity != null && visited.add( entity ) ) {
+				final EntityPersister persister = session.getEntityPersister( entityName, entity );
+				if ( persistenceContext.getEntry( entity ) == null ) {
+					collectId( persister, entity );
+				}
+				if ( persister.hasCascades() ) {
+					collectChildren( persister, entity );
+				}
+			}
+		}
+
+		private void collectId(EntityPersister persister, Object entity) {
+			final Object id = persister.getIdentifier( entity, session );
+			// composite identifiers may contain associations
+			// which need to be merged before the id is usable
+			if ( id != null
+					&& !( persister.getIdentifierType() instanceof ComponentType )
+					&& persister.isTransient( entity, session ) != Boolean.TRUE
+					&& !persistenceContext.containsEntity( session.generateEntityKey( id, persister ) ) ) {
+				idsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( id );
+			}
+		}
+
+		private void collectChildren(EntityPersister persister, Object entity) {
+			final Type[] types = persister.getPropertyTypes();
+			final String[] propertyNames = persister.getPropertyNames();
+			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+			final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( entity );
+			for ( int i = 0; i < types.length; i++ ) {
+				if ( cascadeStyles[i].doCascade( CascadingActions.MERGE )
+						&& !( hasUninitializedLazyProperties
+								&& !persister.getBytecodeEnhancementMetadata()
+										.isAttributeLoaded( entity, propertyNames[i] ) ) ) {
+					collectValue( types[i], persister.getValue( entity, i ) );
+				}
+			}
+		}
+
+		private void collectValue(Type type, Object value) {
+			if ( value != null ) {
+				if ( type instanceof EntityType entityType ) {
+					collectEntity( entityType.getAssociatedEntityName(), value );
+				}
+				else if ( type instanceof CollectionType collectionType ) {
+					final Type elementType = collectionType.getElementType( session.getFactory() );
+					final Iterator<?> elements =
+							CascadingActions.MERGE.getCascadableChildrenIterator( session, collectionType, value );
+					while ( elements.hasNext() ) {
+						collectValue( elementType, elements.next() );
+					}
+				}
+				else if ( type instanceof ComponentType componentType ) {
+					final Type[] subtypes = componentType.getSubtypes();
+					final Object[] values = componentType.getPropertyValues( value, session );
+					for ( int i = 0; i < subtypes.length; i++ ) {
+						if ( componentType.getCascadeStyle( i ).doCascade( CascadingActions.MERGE ) ) {
+							collectValue( subtypes[i], values[i] );
+						}
+					}
+				}
+			}
+		}
+
+		private static Object initializedEntity(Object value) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( value );
+			if ( lazyInitializer != null ) {
+				// uninitialized proxies are not merged
+				return lazyInitializer.isUninitialized() ? null : lazyInitializer.getImplementation();
+			}
+			else if ( isPersistentAttributeInterceptable( value )
+					&& asPersistentAttributeInterceptable( value ).$$_hibernate_getInterceptor()
+							instanceof EnhancementAsProxyLazinessInterceptor ) {
+				return null;
+			}
+			else {
+				return value;
+			}
+		}
+	}
+
 	private void saveTransientEntity(
 			Object entity,
 			String entityName,
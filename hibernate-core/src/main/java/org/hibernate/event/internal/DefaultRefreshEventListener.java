@@ -166,7 +166,25 @@ public class DefaultRefreshEventListener implements RefreshEventListener {
 				refreshedAlready
 		);
 
+		if ( entry != null
+				&& refreshedAlready instanceof MultiRefreshContext multiRefreshContext
+				&& multiRefreshContext.defer( event, object, entry ) ) {
+			// the entity will be refreshed together with other instances of its type
+			return;
+		}
+
+		evict( object, entry, persister, id, source );
+
+		refresh( event, object, source, persister, null, entry, id, persistenceContext );
+	}
+
+	/**
+	 * Remove the given entity from the persistence context, and its state
+	 * from the second-level cache, before it is read from the database.
+	 */
+	static void evict(Object object, EntityEntry entry, EntityPersister persister, Object id, EventSource source) {
 		if ( entry != null ) {
+			final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 			persistenceContext.removeEntityHolder( entry.getEntityKey() );
 			if ( persister.hasCollections() ) {
 				new EvictVisitor( source, object ).process( object, persister );
@@ -176,11 +194,9 @@ public class DefaultRefreshEventListener implements RefreshEventListener {
 
 		evictEntity( object, persister, id, source );
 		evictCachedCollections( persister, id, source );
-
-		refresh( event, object, source, persister, null, entry, id, persistenceContext );
 	}
 
-	private static void refresh(
+	static void refresh(
 			RefreshEvent event,
 			Object object,
 			EventSource source,
@@ -280,7 +296,7 @@ public class DefaultRefreshEventListener implements RefreshEventListener {
 		return result;
 	}
 
-	private static boolean isReadOnly(
+	static boolean isReadOnly(
 			EntityEntry entry,
 			EntityPersister persister,
 			LazyInitializer lazyInitializer,
@@ -234,4 +234,19 @@ public final class EmptyEventManager implements EventManager {
 			SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public HibernateMonitoringEvent beginNPlusOneEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeNPlusOneEvent(
+			HibernateMonitoringEvent nPlusOneEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int fetchCount,
+			long fetchTime) {
+
+	}
 }
@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.UnresolvableObjectException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.RefreshContext;
+import org.hibernate.event.spi.RefreshEvent;
+import org.hibernate.loader.ast.internal.MultiIdEntityRefresher;
+import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * A {@link RefreshContext} shared by the refresh operations applied to each entity
+ * passed to {@link org.hibernate.Session#refreshAll}. Instead of reading the state of
+ * each entity with its own select, the {@link DefaultRefreshEventListener} defers the
+ * refresh of the entities passed directly to {@code refreshAll()}, and the deferred
+ * entities are then refreshed by one select for each entity type.
+ * <p>
+ * An entity is refreshed immediately, as usual, when the refresh is cascaded to it,
+ * when the refresh cascades from it to its associations, or when its current lock
+ * mode must be restored after it is read.
+ *
+ * @see MultiIdEntityRefresher
+ *
+ * @since 7.0
+ */
+public class MultiRefreshContext implements RefreshContext {
+	private final EventSource session;
+	private final LockOptions lockOptions;
+	private final Set<Object> refreshedAlready = newSetFromMap( new IdentityHashMap<>() );
+	private final Set<RefreshEvent> topLevelEvents = newSetFromMap( new IdentityHashMap<>() );
+	private final Map<EntityPersister, List<DeferredRefresh>> deferred = new LinkedHashMap<>();
+
+	public MultiRefreshContext(LockOptions lockOptions, EventSource session) {
+		this.session = session;
+		this.lockOptions = lockOptions;
+	}
+
+	@Override
+	public boolean add(Object entity) {
+		return refreshedAlready.add( entity );
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return refreshedAlready.isEmpty();
+	}
+
+	/**
+	 * Create the event for the refresh of an entity passed directly
+	 * to {@code refreshAll()}.
+	 */
+	public RefreshEvent createEvent(Object object) {
+		final RefreshEvent event = new RefreshEvent( object, lockOptions, session );
+		topLevelEvents.add( event );
+		return event;
+	}
+
+	/**
+	 * Defer the refresh of the given managed entity, if possible.
+	 *
+	 * @return {@code true} if the refresh was deferred until
+	 *         {@link #refreshDeferred()} is called
+	 */
+	boolean defer(RefreshEvent event, Object entity, EntityEntry entry) {
+		final EntityPersister persister = entry.getPersister();
+		final LockMode currentLockMode = entry.getLockMode();
+		final LockMode requestedLockMode = lockOptions.getLockMode();
+		if ( topLevelEvents.contains( event )
+				// a lock mode stronger than READ would be restored after the refresh
+				&& ( currentLockMode == LockMode.READ || !currentLockMode.greaterThan( requestedLockMode ) )
+				&& !cascadesRefresh( persister ) ) {
+			// as when the entity is refreshed by itself, it is read with its
+			// current lock mode if that is stronger than the requested one
+			final LockMode lockMode =
+					currentLockMode.greaterThan( requestedLockMode ) ? currentLockMode : requestedLockMode;
+			deferred.computeIfAbsent( persister, p -> new ArrayList<>() )
+					.add( new DeferredRefresh( entity, entry, lockMode ) );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean cascadesRefresh(EntityPersister persister) {
+		for ( CascadeStyle cascadeStyle : persister.getPropertyCascadeStyles() ) {
+			if ( cascadeStyle.doCascade( CascadingActions.REFRESH ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Refresh the entities whose refresh was deferred.
+	 */
+	public void refreshDeferred() {
+		for ( Map.Entry<EntityPersister, List<DeferredRefresh>> group : deferred.entrySet() ) {
+			final Map<LockMode, List<DeferredRefresh>> refreshesByLockMode = new EnumMap<>( LockMode.class );
+			for ( DeferredRefresh refresh : group.getValue() ) {
+				refreshesByLockMode.computeIfAbsent( refresh.lockMode, lockMode -> new ArrayList<>() )
+						.add( refresh );
+			}
+			for ( Map.Entry<LockMode, List<DeferredRefresh>> refreshes : refreshesByLockMode.entrySet() ) {
+				refresh( group.getKey(), refreshes.getValue(), lockOptions.makeCopy().setLockMode( refreshes.getKey() ) );
+			}
+		}
+		deferred.clear();
+	}
+
+	private void refresh(EntityPersister persister, List<DeferredRefresh> refreshes, LockOptions lockOptions) {
+		final List<Object> ids = new ArrayList<>( refreshes.size() );
+		final List<Object> entities = new ArrayList<>( refreshes.size() );
+		for ( DeferredRefresh refresh : refreshes ) {
+			refresh.evict( session );
+			ids.add( refresh.entry.getId() );
+			entities.add( refresh.entity );
+		}
+		try {
+			session.getLoadQueryInfluencers().fromInternalFetchProfile(
+					CascadingFetchProfile.REFRESH,
+					() -> {
+						MultiIdEntityRefresher.refresh( persister, ids, entities, lockOptions, session );
+						return null;
+					}
+			);
+		}
+		catch (RuntimeException e) {
+			// leave the entities which were not read managed, as they were
+			for ( DeferredRefresh refresh : refreshes ) {
+				refresh.restoreIfEvicted( session );
+			}
+			throw e;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( DeferredRefresh refresh : refreshes ) {
+			UnresolvableObjectException.throwIfNull(
+					persistenceContext.getEntry( refresh.entity ),
+					refresh.entry.getId(),
+					persister.getEntityName()
+			);
+			session.setReadOnly(
+					refresh.entity,
+					DefaultRefreshEventListener.isReadOnly( refresh.entry, persister, null, session )
+			);
+		}
+	}
+
+	private static class DeferredRefresh {
+		private final Object entity;
+		private final EntityEntry entry;
+		private final LockMode lockMode;
+		// the collections evicted along with the entity, and their entries
+		private final List<PersistentCollection<?>> collections = new ArrayList<>();
+		private final List<CollectionEntry> collectionEntries = new ArrayList<>();
+
+		private DeferredRefresh(Object entity, EntityEntry entry, LockMode lockMode) {
+			this.entity = entity;
+			this.entry = entry;
+			this.lockMode = lockMode;
+		}
+
+		private void evict(EventSource session) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityPersister persister = entry.getPersister();
+			if ( persister.hasCollections() ) {
+				final Type[] propertyTypes = persister.getPropertyTypes();
+				for ( int i = 0; i < propertyTypes.length; i++ ) {
+					if ( propertyTypes[i] instanceof CollectionType collectionType ) {
+						final Object value = persister.getValue( entity, i );
+						final PersistentCollection<?> collection = collectionType.hasHolder()
+								? persistenceContext.getCollectionHolder( value )
+								: value instanceof PersistentCollection<?> persistentCollection ? persistentCollection : null;
+						final CollectionEntry collectionEntry =
+								collection == null ? null : persistenceContext.getCollectionEntry( collection );
+						if ( collectionEntry != null ) {
+							collections.add( collection );
+							collectionEntries.add( collectionEntry );
+						}
+					}
+				}
+			}
+			DefaultRefreshEventListener.evict( entity, entry, persister, entry.getId(), session );
+		}
+
+		private void restoreIfEvicted(EventSource session) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			if ( persistenceContext.getEntry( entity ) == null ) {
+				final EntityHolder holder = persistenceContext.addEntityHolder( entry.getEntityKey(), entity );
+				holder.setEntityEntry( persistenceContext.addEntry(
+						entity,
+						entry.getStatus(),
+						entry.getLoadedState(),
+						entry.getRowId(),
+						entry.getId(),
+						entry.getVersion(),
+						entry.getLockMode(),
+						entry.isExistsInDatabase(),
+						entry.getPersister(),
+						entry.isBeingReplicated()
+				) );
+				for ( int i = 0; i < collections.size(); i++ ) {
+					final PersistentCollection<?> collection = collections.get( i );
+					if ( collection.setCurrentSession( session ) ) {
+						persistenceContext.restoreCollectionEntry( collection, collectionEntries.get( i ) );
+						if ( collection.getValue() != collection ) {
+							// the holder of an array
+							persistenceContext.addCollectionHolder( collection );
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -157,6 +157,15 @@ public interface EventManager {
 			SharedSessionContractImplementor session
 	);
 
+	HibernateMonitoringEvent beginNPlusOneEvent();
+
+	void completeNPlusOneEvent(
+			HibernateMonitoringEvent nPlusOneEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int fetchCount,
+			long fetchTime);
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
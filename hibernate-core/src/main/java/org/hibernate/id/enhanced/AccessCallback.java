@@ -4,6 +4,9 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.id.IntegralDataTypeHolder;
 
 /**
@@ -20,6 +23,24 @@ public interface AccessCallback {
 	 */
 	IntegralDataTypeHolder getNextValue();
 
+	/**
+	 * Retrieve the given number of next values from the underlying source.
+	 * <p>
+	 * By default, this simply calls {@link #getNextValue()} repeatedly, but
+	 * a source may obtain all the values in a single round-trip.
+	 *
+	 * @param count The number of values to retrieve
+	 *
+	 * @return The next values.
+	 */
+	default List<IntegralDataTypeHolder> getNextValues(int count) {
+		final List<IntegralDataTypeHolder> values = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			values.add( getNextValue() );
+		}
+		return values;
+	}
+
 	/**
 	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
 	 *
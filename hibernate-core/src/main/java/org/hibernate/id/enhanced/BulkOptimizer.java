@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+
+/**
+ * Optimizer which retrieves several values from a non-pooled source in a
+ * single round-trip, using {@link AccessCallback#getNextValues(int)}, and
+ * then hands them out one at a time.
+ * <p>
+ * Unlike the "pooled" optimizers, this optimizer does not require that the
+ * database sequence be defined with an increment matching the increment size,
+ * and so it may be used with existing sequences which increment by one. The
+ * configured increment size is interpreted as the number of values to fetch
+ * at once. Since the source itself is not pooled, the values fetched together
+ * are not necessarily contiguous, and the optimizer reports an
+ * {@linkplain #getIncrementSize() increment size} of one.
+ *
+ * @see org.hibernate.dialect.sequence.SequenceSupport#getSequenceNextValuesString(String)
+ */
+public class BulkOptimizer extends AbstractOptimizer {
+
+	private static class GenerationState {
+		// last value read from db source
+		private IntegralDataTypeHolder lastSourceValue;
+		// the values which are yet to be handed out
+		private final Deque<IntegralDataTypeHolder> values = new ArrayDeque<>();
+	}
+
+	private final int fetchSize;
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code BulkOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param fetchSize The number of values to retrieve at once.
+	 */
+	public BulkOptimizer(Class<?> returnClass, int fetchSize) {
+		super( returnClass, 1 );
+		if ( fetchSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * The number of values retrieved in each round-trip.
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		lock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+			if ( generationState.values.isEmpty() ) {
+				final List<IntegralDataTypeHolder> values = callback.getNextValues( fetchSize );
+				if ( values.isEmpty() ) {
+					throw new HibernateException( "Source did not return any values" );
+				}
+				generationState.values.addAll( values );
+				generationState.lastSourceValue = values.get( values.size() - 1 );
+			}
+			return generationState.values.poll().makeValue();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		if ( noTenantState.lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return false;
+	}
+}
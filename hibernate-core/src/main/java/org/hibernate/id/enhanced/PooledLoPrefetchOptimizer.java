@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out values without a lock.
+ * <p>
+ * Values are handed out from the current block using a compare-and-set counter.
+ * The caller which crosses the low-water mark of the current block (half of the
+ * increment size) fetches the next block from the database and parks it, so that
+ * when the current block runs out the next one is usually already available and
+ * can be swapped in without a database round-trip. Concurrent callers continue
+ * to consume the remainder of the current block while the next block is fetched.
+ * <p>
+ * Blocks are only ever fetched by one caller at a time, and every fetched block is
+ * used, so that no values of the sequence are skipped. Callers which exhaust the
+ * current block while the next block is being fetched wait for that block.
+ * <p>
+ * The {@link AccessCallback} is bound to the session of the calling thread, so the
+ * prefetch is performed by the calling thread itself, and never by a background
+ * thread.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoPrefetchOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledLoPrefetchOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledLoPrefetchOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoPrefetchOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Block block = generationState.current.get();
+			if ( block != null ) {
+				final long value = block.next.getAndIncrement();
+				if ( value < block.upperLimit ) {
+					if ( value == block.lowWaterMark ) {
+						// exactly one caller sees this value
+						prefetch( generationState, callback, block );
+					}
+					return makeValue( value );
+				}
+			}
+			advance( generationState, callback, block );
+		}
+	}
+
+	private void prefetch(GenerationState generationState, AccessCallback callback, Block block) {
+		// if the lock is held, the next block is already being fetched
+		if ( generationState.lock.tryLock() ) {
+			try {
+				if ( generationState.prefetched == null && generationState.current.get() == block ) {
+					generationState.prefetched = fetchBlock( callback );
+				}
+			}
+			finally {
+				generationState.lock.unlock();
+			}
+		}
+	}
+
+	private void advance(GenerationState generationState, AccessCallback callback, Block exhausted) {
+		// waits for a prefetch in progress, or for another caller advancing the block
+		generationState.lock.lock();
+		try {
+			if ( generationState.current.get() == exhausted ) {
+				Block next = generationState.prefetched;
+				if ( next == null ) {
+					// nothing was prefetched, so we have to wait for the database
+					next = fetchBlock( callback );
+				}
+				else {
+					generationState.prefetched = null;
+				}
+				generationState.lastSourceValue = next.sourceValue;
+				generationState.current.set( next );
+			}
+		}
+		finally {
+			generationState.lock.unlock();
+		}
+	}
+
+	private Block fetchBlock(AccessCallback callback) {
+		return new Block( callback.getNextValue().copy(), incrementSize );
+	}
+
+	private Serializable makeValue(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else {
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+					.initialize( value )
+					.makeValue();
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final IntegralDataTypeHolder lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private static class GenerationState {
+		// the block values are currently handed out from
+		private final AtomicReference<Block> current = new AtomicReference<>();
+		// held while a block is fetched or swapped in
+		private final ReentrantLock lock = new ReentrantLock();
+		// the next block, fetched ahead of time, guarded by the lock
+		private Block prefetched;
+		// value read from db source for the current block
+		private volatile IntegralDataTypeHolder lastSourceValue;
+	}
+
+	private static class Block {
+		// the value read from db source
+		private final IntegralDataTypeHolder sourceValue;
+		// the next value to hand out
+		private final AtomicLong next;
+		// the value at which the block is exhausted
+		private final long upperLimit;
+		// the value at which the next block is fetched
+		private final long lowWaterMark;
+
+		private Block(IntegralDataTypeHolder sourceValue, int incrementSize) {
+			this.sourceValue = sourceValue;
+			final long value = IdentifierGeneratorHelper.extractLong( sourceValue );
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final long lowerLimit = Math.max( value, 1 );
+			upperLimit = value + incrementSize;
+			lowWaterMark = Math.max( lowerLimit, upperLimit - Math.max( incrementSize / 2, 1 ) );
+			next = new AtomicLong( lowerLimit );
+		}
+	}
+}
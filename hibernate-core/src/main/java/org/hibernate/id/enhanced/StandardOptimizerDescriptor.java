@@ -42,7 +42,18 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database, values are handed out without
+	 * locking, and the next chunk is fetched before the current one is exhausted.
+	 */
+	POOLED_LO_PREFETCH,
+	/**
+	 * Describes the optimizer for use with sequences that are not pooled, where several
+	 * values are retrieved from the database in a single round-trip.
+	 */
+	BULK;
 
 	@Override
 	public String getExternalName() {
@@ -59,6 +70,10 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_LO_PREFETCH:
+				return "pooled-lo-prefetch";
+			case BULK:
+				return "bulk";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -78,6 +93,10 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_LO_PREFETCH:
+				return PooledLoPrefetchOptimizer.class;
+			case BULK:
+				return BulkOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -88,10 +107,12 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 			case NONE:
 			case HILO:
 			case LEGACY_HILO:
+			case BULK:
 				return false;
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_LO_PREFETCH:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
@@ -23,6 +23,7 @@ import org.hibernate.type.descriptor.java.UUIDJavaType.ValueTransformer;
 
 import static org.hibernate.annotations.UuidGenerator.Style.AUTO;
 import static org.hibernate.annotations.UuidGenerator.Style.TIME;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
 import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
 import static org.hibernate.internal.util.ReflectHelper.getPropertyType;
 
@@ -81,6 +82,9 @@ public class UuidGenerator implements BeforeExecutionGenerator {
 			else if ( config.style() == TIME ) {
 				return new CustomVersionOneStrategy();
 			}
+			else if ( config.style() == VERSION_7 ) {
+				return UuidVersion7Strategy.INSTANCE;
+			}
 		}
 
 		return StandardRandomStrategy.INSTANCE;
@@ -107,6 +111,9 @@ public class UuidGenerator implements BeforeExecutionGenerator {
 		else if ( config.style() == TIME ) {
 			generator = new CustomVersionOneStrategy();
 		}
+		else if ( config.style() == VERSION_7 ) {
+			generator = UuidVersion7Strategy.INSTANCE;
+		}
 		else {
 			generator = StandardRandomStrategy.INSTANCE;
 		}
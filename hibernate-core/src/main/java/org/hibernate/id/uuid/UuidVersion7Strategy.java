@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.uuid;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.UUIDGenerationStrategy;
+
+/**
+ * Applies a version 7 (time-ordered) generation strategy, as defined by
+ * <a href="https://datatracker.ietf.org/doc/html/rfc9562#section-5.7">IETF RFC 9562</a>.
+ * <p>
+ * The most significant 48 bits hold the Unix timestamp in milliseconds, so that
+ * generated values are roughly ordered by creation time, which keeps inserts into
+ * B-tree indexes local. The 12 bits following the version hold a counter which is
+ * reset every millisecond (method 1 of section 6.2 of the RFC), guaranteeing that
+ * the values generated by this instance are strictly increasing. When the counter
+ * overflows within a millisecond, the timestamp is advanced by one. The remaining
+ * 62 bits are random.
+ * <p>
+ * The timestamp and counter are maintained in a single {@link AtomicLong}, so that
+ * no locking is involved.
+ *
+ * @implNote The random bits are obtained from {@link ThreadLocalRandom}, so the
+ *           values are unique but not unguessable.
+ */
+public class UuidVersion7Strategy implements UUIDGenerationStrategy, UuidValueGenerator {
+	public static final UuidVersion7Strategy INSTANCE = new UuidVersion7Strategy();
+
+	private static final int COUNTER_BITS = 12;
+
+	// the timestamp, shifted left by COUNTER_BITS, combined with the counter
+	private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+	/**
+	 * A version 7 (time-ordered) strategy
+	 */
+	@Override
+	public int getGeneratedVersion() {
+		return 7;
+	}
+
+	@Override
+	public UUID generateUUID(SharedSessionContractImplementor session) {
+		return generateUuid( session );
+	}
+
+	@Override
+	public UUID generateUuid(SharedSessionContractImplementor session) {
+		final long timestampAndCounter = nextTimestampAndCounter( System.currentTimeMillis() );
+		return new UUID(
+				mostSignificantBits( timestampAndCounter ),
+				leastSignificantBits( ThreadLocalRandom.current().nextLong() )
+		);
+	}
+
+	private long nextTimestampAndCounter(long currentTimeMillis) {
+		final long initial = currentTimeMillis << COUNTER_BITS;
+		while ( true ) {
+			final long last = lastTimestampAndCounter.get();
+			// when the clock did not move on (or went backwards), increment the
+			// counter, which advances the timestamp on overflow
+			final long next = initial > last ? initial : last + 1;
+			if ( lastTimestampAndCounter.compareAndSet( last, next ) ) {
+				return next;
+			}
+		}
+	}
+
+	private static long mostSignificantBits(long timestampAndCounter) {
+		final long timestamp = timestampAndCounter >>> COUNTER_BITS;
+		final long counter = timestampAndCounter & 0xFFFL;
+		return ( timestamp & 0xFFFF_FFFF_FFFFL ) << 16
+				| 0x7000L
+				| counter;
+	}
+
+	private static long leastSignificantBits(long random) {
+		// the IETF variant
+		return random & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+	}
+}
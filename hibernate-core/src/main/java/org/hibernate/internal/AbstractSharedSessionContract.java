@@ -32,6 +32,7 @@ import org.hibernate.UnknownEntityTypeException;
 import org.hibernate.binder.internal.TenantIdBinder;
 import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.internal.NPlusOneDetectingSessionEventListener;
 import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -113,6 +114,8 @@ import jakarta.persistence.TypedQueryReference;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import org.hibernate.stat.spi.FetchPlanAdvisor;
+import org.hibernate.stat.spi.FetchPlanProfiler;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.spi.UnknownBasicJavaType;
@@ -178,6 +181,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	// transient & non-final for serialization purposes
 	private transient SessionEventListenerManager sessionEventsManager;
+	private transient FetchPlanProfiler fetchPlanProfiler;
 	private transient EntityNameResolver entityNameResolver;
 
 	//Lazily initialized
@@ -296,9 +300,29 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	private SessionEventListenerManager createSessionEventsManager(SessionCreationOptions options) {
 		final List<SessionEventListener> customSessionEventListener = options.getCustomSessionEventListener();
-		return customSessionEventListener == null
+		final SessionEventListenerManager sessionEventsManager = customSessionEventListener == null
 				? new SessionEventListenerManagerImpl( fastSessionServices.defaultSessionEventListeners.buildBaseline() )
 				: new SessionEventListenerManagerImpl( customSessionEventListener.toArray( new SessionEventListener[0] ) );
+		addNPlusOneDetection( sessionEventsManager );
+		addFetchPlanProfiler( sessionEventsManager );
+		return sessionEventsManager;
+	}
+
+	private void addNPlusOneDetection(SessionEventListenerManager sessionEventsManager) {
+		final int nPlusOneThreshold = factory.getSessionFactoryOptions().getNPlusOneThreshold();
+		if ( nPlusOneThreshold > 0 ) {
+			sessionEventsManager.addListener( new NPlusOneDetectingSessionEventListener( this, nPlusOneThreshold ) );
+		}
+	}
+
+	private void addFetchPlanProfiler(SessionEventListenerManager sessionEventsManager) {
+		final FetchPlanAdvisor fetchPlanAdvisor = factory.getStatistics().getFetchPlanAdvisor();
+		if ( fetchPlanAdvisor != null && !isStatelessSession() ) {
+			fetchPlanProfiler = fetchPlanAdvisor.createProfiler( this );
+			if ( fetchPlanProfiler != null ) {
+				sessionEventsManager.addListener( fetchPlanProfiler );
+			}
+		}
 	}
 
 	/**
@@ -413,6 +437,11 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		return sessionEventsManager;
 	}
 
+	@Override
+	public FetchPlanProfiler getFetchPlanProfiler() {
+		return fetchPlanProfiler;
+	}
+
 	@Override
 	public UUID getSessionIdentifier() {
 		if ( sessionIdentifier == null ) {
@@ -1607,6 +1636,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		factory = SessionFactoryImpl.deserialize( ois );
 		fastSessionServices = factory.getFastSessionServices();
 		sessionEventsManager = new SessionEventListenerManagerImpl( fastSessionServices.defaultSessionEventListeners.buildBaseline() );
+		addNPlusOneDetection( sessionEventsManager );
 		jdbcSessionContext = createJdbcSessionContext( (StatementInspector) ois.readObject() );
 		jdbcCoordinator = JdbcCoordinatorImpl.deserialize( ois, this );
 
@@ -968,4 +968,12 @@ public interface CoreMessageLogger extends BasicLogger {
 			value = "Encountered multiple persistence-unit stanzas defining same name [%s]; persistence-unit names must be unique"
 	)
 	void duplicatedPersistenceUnitName(String name);
+
+	@LogMessage(level = WARN)
+	@Message(
+			id = 15019,
+			value = "N+1 select problem: '%s' was fetched by %s separate selects, taking %s ms"
+					+ " (consider batch fetching, subselect fetching, or a join fetch)"
+	)
+	void nPlusOneSelectProblem(String role, int fetchCount, long fetchTimeMillis);
 }
@@ -24,6 +24,7 @@ import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.internal.PostDeleteEventListenerStandardImpl;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.AutoFlushEventListener;
@@ -372,6 +373,21 @@ public final class FastSessionServices {
 		return cacheStoreMode;
 	}
 
+	/**
+	 * Are there any delete event listeners, other than the standard ones,
+	 * which would need to see each deleted entity instance?
+	 */
+	public boolean hasCustomDeleteEventListeners() {
+		// Bean Validation adds a PRE_DELETE listener
+		// and Envers adds a POST_DELETE listener
+		return eventListenerGroup_PRE_DELETE.count() > 0
+			|| eventListenerGroup_POST_COMMIT_DELETE.count() > 0
+			|| eventListenerGroup_POST_DELETE.count() > 1
+			|| eventListenerGroup_POST_DELETE.count() == 1
+				&& !(eventListenerGroup_POST_DELETE.listeners().iterator().next()
+						instanceof PostDeleteEventListenerStandardImpl);
+	}
+
 	public JdbcValuesMappingProducerProvider getJdbcValuesMappingProducerProvider() {
 		return this.jdbcValuesMappingProducerProvider;
 	}
@@ -61,6 +61,11 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().getJdbcFetchSize();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return settings().getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return settings().getJpaCompliance();
@@ -16,6 +16,7 @@ import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,7 @@ import org.hibernate.EntityFilterException;
 import org.hibernate.EnabledFetchProfile;
 import org.hibernate.FetchNotFoundException;
 import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.JDBCException;
@@ -71,6 +73,7 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
 import org.hibernate.resource.transaction.spi.TransactionObserver;
+import org.hibernate.event.internal.MultiRefreshContext;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.AutoFlushEvent;
@@ -115,6 +118,8 @@ import org.hibernate.jpa.internal.LegacySpecHelper;
 import org.hibernate.jpa.internal.util.ConfigurationHelper;
 import org.hibernate.jpa.internal.util.FlushModeTypeHelper;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
+import org.hibernate.loader.ast.internal.AssociationBatchInitializer;
+import org.hibernate.loader.ast.internal.MultiIdEntityRefresher;
 import org.hibernate.loader.internal.IdentifierLoadAccessImpl;
 import org.hibernate.loader.internal.LoadAccessContext;
 import org.hibernate.loader.internal.NaturalIdLoadAccessImpl;
@@ -646,6 +651,40 @@ public class SessionImpl
 		fireLock( new LockEvent( object, lockOptions, this ) );
 	}
 
+	@Override
+	public void lockAll(Collection<?> objects, LockMode lockMode) {
+		final LockOptions lockOptions = copySessionLockOptions();
+		lockOptions.setLockMode( lockMode );
+		lockAll( objects, lockOptions );
+	}
+
+	@Override
+	public void lockAll(Collection<?> objects, LockOptions lockOptions) {
+		checkOpen();
+		try {
+			pulseTransactionCoordinator();
+			checkTransactionNeededForLock( lockOptions.getLockMode() );
+			for ( Object object : objects ) {
+				checkEntityManaged( null, object );
+			}
+			// obtain the lock on as many instances as possible
+			// with one select for each entity type, and then
+			// lock each instance, which has no effect if the
+			// lock is already held
+			MultiIdEntityRefresher.lock( objects, lockOptions, this );
+			for ( Object object : objects ) {
+				fastSessionServices.eventListenerGroup_LOCK
+						.fireEventOnEachListener( new LockEvent( object, lockOptions, this ), LockEventListener::onLock );
+			}
+		}
+		catch ( RuntimeException e ) {
+			convertIfJpaBootstrap( e, lockOptions );
+		}
+		finally {
+			delayedAfterCompletion();
+		}
+	}
+
 	private void fireLock(LockEvent event) {
 		checkOpen();
 		checkEntityManaged( event.getEntityName(), event.getObject() );
@@ -1213,6 +1252,54 @@ public class SessionImpl
 		fireRefresh( refreshedAlready, new RefreshEvent( entityName, object, this ) );
 	}
 
+	@Override
+	public void refreshAll(Collection<?> objects) {
+		refreshAll( objects, copySessionLockOptions() );
+	}
+
+	@Override
+	public void refreshAll(Collection<?> objects, LockOptions lockOptions) {
+		checkOpen();
+		try {
+			pulseTransactionCoordinator();
+			checkTransactionNeededForLock( lockOptions.getLockMode() );
+			final MultiRefreshContext refreshContext = new MultiRefreshContext( lockOptions, this );
+			for ( Object object : objects ) {
+				checkEntityManaged( null, object );
+				if ( Hibernate.isInitialized( object ) ) {
+					fastSessionServices.eventListenerGroup_REFRESH
+							.fireEventOnEachListener( refreshContext.createEvent( object ), refreshContext,
+									RefreshEventListener::onRefresh );
+				}
+				else {
+					// an uninitialized proxy is simply initialized
+					fastSessionServices.eventListenerGroup_REFRESH
+							.fireEventOnEachListener( new RefreshEvent( object, lockOptions, this ),
+									RefreshEventListener::onRefresh );
+				}
+			}
+			refreshContext.refreshDeferred();
+		}
+		catch ( RuntimeException e ) {
+			convertIfJpaBootstrap( e, lockOptions );
+		}
+		finally {
+			delayedAfterCompletion();
+		}
+	}
+
+	@Override
+	public void initializeAll(Collection<?> objects, String attributePath) {
+		checkOpen();
+		try {
+			pulseTransactionCoordinator();
+			AssociationBatchInitializer.initialize( objects, attributePath, this );
+		}
+		finally {
+			delayedAfterCompletion();
+		}
+	}
+
 	private void fireRefresh(final RefreshEvent event) {
 		checkOpen();
 		checkEntityManaged( event.getEntityName(), event.getObject() );
@@ -231,4 +231,15 @@ public interface HibernateHints {
 	 * @since 6.5
 	 */
 	String HINT_QUERY_DATABASE = "hibernate.query.database";
+
+	/**
+	 * Hint to select only the identifiers of the entities returned by a query,
+	 * and resolve the entities from the second-level cache.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_IDS_ONLY
+	 * @see org.hibernate.query.spi.QueryOptions#getIdsOnlyEnabled()
+	 *
+	 * @since 7.0
+	 */
+	String HINT_QUERY_IDS_ONLY = "hibernate.query.ids_only";
 }
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+/**
+ * The batch size of a batch loader with
+ * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+ * adaptive batch fetching}, adjusted according to the number of keys pending
+ * in the {@link org.hibernate.engine.spi.BatchFetchQueue} when a batch load
+ * is triggered.
+ * <p>
+ * The batch size is doubled as soon as a batch load is limited by the batch
+ * size, and halved after several consecutive batch loads use less than half
+ * of the batch size, staying within the given bounds.
+ */
+class AdaptiveBatchSize {
+	// the number of consecutive underfilled batches before shrinking,
+	// so that an occasional small batch does not undo a larger size
+	private static final int SHRINK_THRESHOLD = 8;
+
+	private final int minimum;
+	private final int maximum;
+
+	private volatile int current;
+	private int underfilledCount;
+
+	AdaptiveBatchSize(int minimum, int maximum) {
+		this.minimum = minimum;
+		this.maximum = maximum;
+		this.current = minimum;
+	}
+
+	/**
+	 * Create an {@code AdaptiveBatchSize}, or return {@code null} if adaptive
+	 * batch fetching is disabled, or if the given batch size is already the
+	 * maximum.
+	 */
+	static AdaptiveBatchSize create(int batchSize, int maximum) {
+		return maximum > batchSize ? new AdaptiveBatchSize( batchSize, maximum ) : null;
+	}
+
+	int getBatchSize() {
+		return current;
+	}
+
+	/**
+	 * Record the number of keys collected for a batch load.
+	 *
+	 * @return the adjusted batch size, or {@code -1} if it was not adjusted
+	 */
+	synchronized int record(int keyCount) {
+		if ( keyCount >= current ) {
+			underfilledCount = 0;
+			if ( current < maximum ) {
+				current = Math.min( maximum, current * 2 );
+				return current;
+			}
+		}
+		else if ( keyCount * 2 < current && current > minimum ) {
+			if ( ++underfilledCount >= SHRINK_THRESHOLD ) {
+				underfilledCount = 0;
+				current = Math.max( minimum, current / 2 );
+				return current;
+			}
+		}
+		else {
+			underfilledCount = 0;
+		}
+		return -1;
+	}
+}
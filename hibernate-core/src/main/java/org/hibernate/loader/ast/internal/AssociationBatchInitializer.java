@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static java.util.Collections.newSetFromMap;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Initializes an association, or a path of associations, of many entity instances
+ * at once, by passing the exact set of keys to the
+ * {@linkplain BatchLoaderFactory batch loaders}, instead of relying on the keys
+ * registered with the {@link org.hibernate.engine.spi.BatchFetchQueue}, which are
+ * limited by the configured batch size.
+ *
+ * @see org.hibernate.Session#initializeAll(Collection, String)
+ *
+ * @since 7.0
+ */
+public class AssociationBatchInitializer {
+
+	private AssociationBatchInitializer() {
+	}
+
+	/**
+	 * Initialize the association with the given path for every given entity,
+	 * and every entity or proxy along the path.
+	 *
+	 * @param entities managed entities, or proxies
+	 * @param attributePath the names of the association attributes, separated
+	 *                      by dots, for example {@code "orders.lines.product"}
+	 */
+	public static void initialize(Collection<?> entities, String attributePath, SharedSessionContractImplementor session) {
+		List<Object> owners = distinct( entities );
+		for ( String attributeName : attributePath.split( "\\." ) ) {
+			owners = initializeAttribute( initializeProxies( owners, session ), attributeName, session );
+		}
+		initializeProxies( owners, session );
+	}
+
+	private static List<Object> distinct(Collection<?> entities) {
+		final Set<Object> distinct = newSetFromMap( new IdentityHashMap<>() );
+		final List<Object> result = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			if ( entity != null && distinct.add( entity ) ) {
+				result.add( entity );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Initialize the given proxies, with one batch load for each entity type,
+	 * and return the initialized entities.
+	 */
+	private static List<Object> initializeProxies(List<Object> objects, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Map<EntityPersister, List<Object>> idsByPersister = new LinkedHashMap<>();
+		for ( Object object : objects ) {
+			final LazyInitializer lazyInitializer = extractLazyInitializer( object );
+			if ( lazyInitializer != null && lazyInitializer.isUninitialized() ) {
+				final EntityPersister persister =
+						factory.getMappingMetamodel().getEntityDescriptor( lazyInitializer.getEntityName() );
+				idsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() )
+						.add( lazyInitializer.getInternalIdentifier() );
+			}
+		}
+		for ( Map.Entry<EntityPersister, List<Object>> group : idsByPersister.entrySet() ) {
+			initializeEntities( group.getKey(), group.getValue(), session );
+		}
+
+		final List<Object> entities = new ArrayList<>( objects.size() );
+		for ( Object object : objects ) {
+			if ( !Hibernate.isInitialized( object ) ) {
+				// for example, a bytecode-enhanced proxy
+				Hibernate.initialize( object );
+			}
+			final LazyInitializer lazyInitializer = extractLazyInitializer( object );
+			if ( lazyInitializer == null ) {
+				entities.add( object );
+			}
+			else if ( !lazyInitializer.isUninitialized() ) {
+				entities.add( lazyInitializer.getImplementation() );
+			}
+		}
+		return entities;
+	}
+
+	private static void initializeEntities(EntityPersister persister, List<Object> ids, SharedSessionContractImplementor session) {
+		final EntityBatchLoader<?> loader = session.getFactory().getServiceRegistry()
+				.requireService( BatchLoaderFactory.class )
+				.createEntityBatchLoader( ids.size(), persister, session.getLoadQueryInfluencers() );
+		// otherwise, the proxies are initialized one by one
+		if ( ids.size() > 1 && loader instanceof AbstractEntityBatchLoader<?> batchLoader ) {
+			// the loader splits the identifiers into as many selects as needed
+			final Class<?> idType = persister.getIdentifierMapping().getJavaType().getJavaTypeClass();
+			final Object[] idsToInitialize = ids.toArray( (Object[]) Array.newInstance( idType, ids.size() ) );
+			batchLoader.initializeEntities(
+					idsToInitialize,
+					idsToInitialize[0],
+					null,
+					LockOptions.NONE,
+					null,
+					session
+			);
+		}
+	}
+
+	/**
+	 * Initialize the given attribute of each of the given entities,
+	 * with one batch load for each collection role, and return the
+	 * associated entities.
+	 */
+	private static List<Object> initializeAttribute(
+			List<Object> owners,
+			String attributeName,
+			SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<CollectionPersister, List<Object>> keysByRole = new LinkedHashMap<>();
+		final List<Object> values = new ArrayList<>();
+		for ( Object owner : owners ) {
+			final EntityPersister persister = session.getEntityPersister( null, owner );
+			final AttributeMapping attributeMapping = persister.findAttributeMapping( attributeName );
+			if ( attributeMapping == null ) {
+				throw new IllegalArgumentException( "Entity '" + persister.getEntityName()
+						+ "' has no attribute named '" + attributeName + "'" );
+			}
+			else if ( !( attributeMapping instanceof PluralAttributeMapping
+					|| attributeMapping instanceof EntityValuedModelPart ) ) {
+				throw new IllegalArgumentException( "Attribute '" + attributeName + "' of entity '"
+						+ persister.getEntityName() + "' is not an association" );
+			}
+			final Object value = persister.getPropertyValue( owner, attributeName );
+			if ( value instanceof PersistentCollection<?> collection ) {
+				if ( !collection.wasInitialized() ) {
+					final CollectionEntry collectionEntry = persistenceContext.getCollectionEntry( collection );
+					if ( collectionEntry == null ) {
+						throw new IllegalArgumentException( "Attribute '" + attributeName + "' of entity '"
+								+ persister.getEntityName() + "' with id '" + persister.getIdentifier( owner, session )
+								+ "' could not be initialized: the entity is not associated with the session" );
+					}
+					keysByRole.computeIfAbsent( collectionEntry.getLoadedPersister(), p -> new ArrayList<>() )
+							.add( collectionEntry.getLoadedKey() );
+				}
+				values.add( collection );
+			}
+			else if ( value != null ) {
+				values.add( value );
+			}
+		}
+		for ( Map.Entry<CollectionPersister, List<Object>> group : keysByRole.entrySet() ) {
+			initializeCollections( group.getKey(), group.getValue(), session );
+		}
+
+		final List<Object> associated = new ArrayList<>();
+		for ( Object value : values ) {
+			if ( value instanceof PersistentCollection<?> collection ) {
+				// in case it could not be initialized in batch
+				Hibernate.initialize( collection );
+				final CollectionPersister collectionPersister =
+						session.getFactory().getMappingMetamodel().getCollectionDescriptor( collection.getRole() );
+				if ( collectionPersister.getElementType().isEntityType() ) {
+					collection.entries( collectionPersister ).forEachRemaining( entry -> {
+						final Object element = collection.getElement( entry );
+						if ( element != null ) {
+							associated.add( element );
+						}
+					} );
+				}
+			}
+			else {
+				associated.add( value );
+			}
+		}
+		return distinct( associated );
+	}
+
+	private static void initializeCollections(
+			CollectionPersister collectionPersister,
+			List<Object> keys,
+			SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final PluralAttributeMapping attributeMapping = collectionPersister.getAttributeMapping();
+		final CollectionBatchLoader loader = attributeMapping.getKeyDescriptor().isEmbedded()
+				// the array parameter is only supported for keys which are not embedded
+				? new CollectionBatchLoaderInPredicate( keys.size(), session.getLoadQueryInfluencers(), attributeMapping, factory )
+				: factory.getServiceRegistry().requireService( BatchLoaderFactory.class )
+						.createCollectionBatchLoader( keys.size(), session.getLoadQueryInfluencers(), attributeMapping, factory );
+		// otherwise, the collections are initialized one by one
+		if ( keys.size() > 1 && loader instanceof AbstractCollectionBatchLoader batchLoader ) {
+			final Class<?> keyType = batchLoader.getKeyType( attributeMapping.getKeyDescriptor().getKeyPart() );
+			final Object[] keysToInitialize = keys.toArray( (Object[]) Array.newInstance( keyType, keys.size() ) );
+			batchLoader.initializeKeys( keysToInitialize[0], keysToInitialize, session );
+			batchLoader.finishInitializingKeys( keysToInitialize, session );
+		}
+	}
+}
@@ -31,6 +31,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
@@ -50,6 +51,7 @@ public class CollectionBatchLoaderArrayParam
 	private final JdbcParameter jdbcParameter;
 	private final SelectStatement sqlSelect;
 	private final JdbcOperationQuerySelect jdbcSelectOperation;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	public CollectionBatchLoaderArrayParam(
 			int domainBatchSize,
@@ -101,7 +103,32 @@ public class CollectionBatchLoaderArrayParam
 				.getSqlAstTranslatorFactory()
 				.buildSelectTranslator( getSessionFactory(), sqlSelect )
 				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+
+		adaptiveBatchSize = AdaptiveBatchSize.create(
+				domainBatchSize,
+				sessionFactory.getSessionFactoryOptions().getAdaptiveBatchFetchMaxSize()
+		);
+	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return adaptiveBatchSize == null ? super.getDomainBatchSize() : adaptiveBatchSize.getBatchSize();
 	}
+
+	private Object[] recordBatch(Object[] keys, SharedSessionContractImplementor session) {
+		if ( adaptiveBatchSize != null ) {
+			final int adjustedBatchSize = adaptiveBatchSize.record( keys.length );
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( adjustedBatchSize > 0 && statistics.isStatisticsEnabled() ) {
+				statistics.adjustCollectionBatchFetchSize(
+						getLoadable().getCollectionDescriptor().getRole(),
+						adjustedBatchSize
+				);
+			}
+		}
+		return keys;
+	}
+
 	@Override
 	public PersistentCollection<?> load(Object keyBeingLoaded, SharedSessionContractImplementor session) {
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
@@ -149,7 +176,7 @@ public class CollectionBatchLoaderArrayParam
 						getLoadable()
 				);
 		// now trim down the array to the number of keys we found
-		final Object[] keys = trimIdBatch( length, keysToInitialize );
+		final Object[] keys = recordBatch( trimIdBatch( length, keysToInitialize ), session );
 
 		if ( hasSingleId( keys ) ) {
 			return singleKeyLoader.load( keyBeingLoaded, session );
@@ -234,8 +261,8 @@ public class CollectionBatchLoaderArrayParam
 							getLoadable()
 					);
 			// now trim down the array to the number of keys we found
-			return trimIdBatch( length, keysToInitialize );
+			return recordBatch( trimIdBatch( length, keysToInitialize ), session );
 		}
-		return super.resolveKeysToInitialize( keyBeingLoaded, session );
+		return recordBatch( super.resolveKeysToInitialize( keyBeingLoaded, session ), session );
 	}
 }
@@ -22,6 +22,7 @@ import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.engine.internal.BatchFetchQueueHelper.removeBatchLoadableEntityKey;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
@@ -38,6 +39,7 @@ public class EntityBatchLoaderArrayParam<T>
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final BasicEntityIdentifierMapping identifierMapping;
@@ -65,6 +67,10 @@ public class EntityBatchLoaderArrayParam<T>
 		super( entityDescriptor, loadQueryInfluencers );
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSize = AdaptiveBatchSize.create(
+				domainBatchSize,
+				sessionFactory.getSessionFactoryOptions().getAdaptiveBatchFetchMaxSize()
+		);
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -103,21 +109,30 @@ public class EntityBatchLoaderArrayParam<T>
 
 	@Override
 	public int getDomainBatchSize() {
-		return domainBatchSize;
+		return adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize.getBatchSize();
 	}
 
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
+		final int batchSize = getDomainBatchSize();
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		final Object[] ids = trimIdBatch( batchSize, idsToLoad );
+		if ( adaptiveBatchSize != null ) {
+			final int adjustedBatchSize = adaptiveBatchSize.record( ids.length );
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( adjustedBatchSize > 0 && statistics.isStatisticsEnabled() ) {
+				statistics.adjustEntityBatchFetchSize( getLoadable().getEntityName(), adjustedBatchSize );
+			}
+		}
+		return ids;
 	}
 
 	@Override
@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryOptionsAdapter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+/**
+ * Reads the state of several managed instances of an entity with a single
+ * select, restricted by a list of identifiers, either to
+ * {@linkplain org.hibernate.Session#refreshAll refresh} them, or to
+ * {@linkplain org.hibernate.Session#lockAll lock} them.
+ * <p>
+ * The number of identifiers bound to a single select is limited by the
+ * {@linkplain org.hibernate.dialect.Dialect#getBatchLoadSizingStrategy()
+ * batch load sizing strategy} of the dialect.
+ *
+ * @since 7.0
+ */
+public class MultiIdEntityRefresher {
+
+	private MultiIdEntityRefresher() {
+	}
+
+	/**
+	 * Refresh the given instances, which have already been evicted from the
+	 * persistence context, by reading their state from the database. The
+	 * instances are made managed again, unless their row no longer exists.
+	 *
+	 * @param persister the persister for the entity
+	 * @param ids the identifiers of the instances
+	 * @param instances the instances, in the same order as the identifiers
+	 */
+	public static void refresh(
+			EntityPersister persister,
+			List<Object> ids,
+			List<Object> instances,
+			LockOptions lockOptions,
+			EventSource session) {
+		assert ids.size() == instances.size();
+		final Map<EntityKey, Object> instancesByKey = new HashMap<>();
+		for ( int i = 0; i < ids.size(); i++ ) {
+			instancesByKey.put( session.generateEntityKey( ids.get( i ), persister ), instances.get( i ) );
+		}
+		read( persister, ids, instancesByKey, lockOptions, session );
+	}
+
+	/**
+	 * Obtain the requested pessimistic lock on those of the given managed
+	 * instances which can be locked together, issuing one select for each
+	 * entity type, and upgrading the lock mode held by the persistence
+	 * context. The remaining instances must be locked one by one, but
+	 * locking the instances locked here again has no effect.
+	 */
+	public static void lock(Collection<?> objects, LockOptions lockOptions, EventSource session) {
+		final LockMode lockMode = lockOptions.getLockMode();
+		if ( !canLockTogether( lockMode ) ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityPersister, List<Object>> idsByPersister = new LinkedHashMap<>();
+		for ( Object object : objects ) {
+			if ( object != null && Hibernate.isInitialized( object ) ) {
+				final Object entity = persistenceContext.unproxy( object );
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null && canLockTogether( entry, lockMode ) ) {
+					idsByPersister.computeIfAbsent( entry.getPersister(), p -> new ArrayList<>() )
+							.add( entry.getId() );
+				}
+			}
+		}
+		for ( Map.Entry<EntityPersister, List<Object>> group : idsByPersister.entrySet() ) {
+			if ( group.getValue().size() > 1 ) {
+				read( group.getKey(), group.getValue(), null, lockOptions, session );
+			}
+		}
+	}
+
+	private static boolean canLockTogether(LockMode lockMode) {
+		// a pessimistic lock obtained by a select, without a version increment,
+		// and without skipping rows, which would leave some instances unlocked
+		return lockMode == LockMode.PESSIMISTIC_READ
+			|| lockMode == LockMode.PESSIMISTIC_WRITE
+			|| lockMode == LockMode.UPGRADE_NOWAIT;
+	}
+
+	private static boolean canLockTogether(EntityEntry entry, LockMode lockMode) {
+		final EntityPersister persister = entry.getPersister();
+		if ( !lockMode.greaterThan( entry.getLockMode() )
+				|| entry.getStatus().isDeletedOrGone()
+				|| !entry.isExistsInDatabase()
+				// the second-level cache must be soft locked for each instance
+				|| persister.canWriteToCache() ) {
+			return false;
+		}
+		else if ( persister.isVersioned() ) {
+			// the select only checks the version if the entity was already locked
+			// (as it is when it was read in this transaction), otherwise the lock
+			// must be obtained by an update which checks the version
+			return entry.getVersion() != null && entry.getLockMode() != LockMode.NONE;
+		}
+		else {
+			return true;
+		}
+	}
+
+	private static void read(
+			EntityPersister persister,
+			List<Object> ids,
+			Map<EntityKey, Object> instancesByKey,
+			LockOptions lockOptions,
+			EventSource session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final int idJdbcTypeCount = persister.getIdentifierMapping().getJdbcTypeCount();
+		final int maxBatchSize = factory.getJdbcServices().getJdbcEnvironment().getDialect()
+				.getBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize(
+						idJdbcTypeCount,
+						ids.size(),
+						factory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+				);
+		final MultiIdExecutionContext executionContext =
+				new MultiIdExecutionContext( instancesByKey, lockOptions, session );
+		for ( int start = 0; start < ids.size(); start += maxBatchSize ) {
+			final List<Object> idsInBatch = ids.subList( start, Math.min( ids.size(), start + maxBatchSize ) );
+			final JdbcParametersList.Builder jdbcParametersBuilder =
+					JdbcParametersList.newBuilder( idsInBatch.size() * idJdbcTypeCount );
+			final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+					persister,
+					// null here means to select everything
+					null,
+					persister.getIdentifierMapping(),
+					null,
+					idsInBatch.size(),
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParametersBuilder::add,
+					factory
+			);
+			final JdbcParametersList jdbcParameters = jdbcParametersBuilder.build();
+
+			final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
+			for ( Object id : idsInBatch ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						offset,
+						persister.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
+
+			final JdbcOperationQuerySelect jdbcSelect =
+					factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+							.buildSelectTranslator( factory, sqlAst )
+							.translate( jdbcParameterBindings, QueryOptions.NONE );
+			session.getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					executionContext,
+					RowTransformerStandardImpl.instance(),
+					null,
+					ListResultsConsumer.UniqueSemantic.FILTER,
+					idsInBatch.size()
+			);
+		}
+	}
+
+	private static class MultiIdExecutionContext extends BaseExecutionContext {
+		private final Map<EntityKey, Object> instancesByKey;
+		private final LockOptions lockOptions;
+
+		MultiIdExecutionContext(Map<EntityKey, Object> instancesByKey, LockOptions lockOptions, EventSource session) {
+			super( session );
+			this.instancesByKey = instancesByKey;
+			this.lockOptions = lockOptions;
+		}
+
+		@Override
+		public Object getEntityInstanceToRefresh(EntityKey entityKey) {
+			return instancesByKey == null ? null : instancesByKey.get( entityKey );
+		}
+
+		@Override
+		public boolean hasEntityInstancesToRefresh() {
+			return instancesByKey != null;
+		}
+
+		@Override
+		public boolean upgradeLocks() {
+			// when locking, the instances are already managed
+			return instancesByKey == null;
+		}
+
+		@Override
+		public QueryOptions getQueryOptions() {
+			return new QueryOptionsAdapter() {
+				@Override
+				public LockOptions getLockOptions() {
+					return lockOptions;
+				}
+			};
+		}
+	}
+}
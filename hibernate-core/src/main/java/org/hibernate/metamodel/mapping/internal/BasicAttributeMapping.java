@@ -12,9 +12,12 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.metamodel.mapping.AttributeMetadata;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.ManagedMappingType;
 import org.hibernate.metamodel.mapping.MappingType;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.mapping.SelectableConsumer;
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.SelectablePath;
@@ -387,7 +390,7 @@ public class BasicAttributeMapping
 		final int valuesArrayPosition;
 		boolean coerceResultType = false;
 		final SqlSelection sqlSelection;
-		if ( fetchTiming == FetchTiming.DELAYED && isLazy ) {
+		if ( fetchTiming == FetchTiming.DELAYED && ( isLazy || isPrunable( creationState ) ) ) {
 			// Lazy property. A valuesArrayPosition of -1 will lead to
 			// returning a domain result assembler that returns LazyPropertyInitializer.UNFETCHED_PROPERTY
 			valuesArrayPosition = -1;
@@ -428,6 +431,31 @@ public class BasicAttributeMapping
 		);
 	}
 
+	/**
+	 * Whether this attribute, though not mapped as lazy, may be left out of the SQL
+	 * select list, since its fetch was delayed by an applied fetch graph, and it can
+	 * be loaded later through the bytecode enhancement of the entity.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#FETCH_GRAPH_COLUMN_PRUNING
+	 */
+	private boolean isPrunable(DomainResultCreationState creationState) {
+		if ( navigableRole.getParent().getParent() != null
+				|| !creationState.getSqlAstCreationState().getCreationContext().getSessionFactory()
+						.getSessionFactoryOptions().isFetchGraphColumnPruningEnabled() ) {
+			return false;
+		}
+		final EntityMappingType entityMappingType = findContainingEntityMapping();
+		if ( !entityMappingType.getEntityPersister().getBytecodeEnhancementMetadata().isEnhancedForLazyLoading() ) {
+			return false;
+		}
+		final EntityVersionMapping versionMapping = entityMappingType.getVersionMapping();
+		if ( versionMapping != null && versionMapping.getVersionAttribute() == this ) {
+			return false;
+		}
+		final NaturalIdMapping naturalIdMapping = entityMappingType.getNaturalIdMapping();
+		return naturalIdMapping == null || !naturalIdMapping.getNaturalIdAttributes().contains( this );
+	}
+
 	@Override
 	public <X, Y> int forEachDisassembledJdbcValue(
 			Object value,
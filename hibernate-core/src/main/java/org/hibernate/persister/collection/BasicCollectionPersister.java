@@ -21,11 +21,14 @@ import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.internal.StaticFilterAliasGenerator;
 import org.hibernate.internal.util.MutableInteger;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.mapping.Collection;
+import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.mapping.CollectionIdentifierDescriptor;
 import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.SoftDeleteMapping;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.collection.mutation.DeleteRowsCoordinator;
@@ -79,6 +82,8 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 	private final DeleteRowsCoordinator deleteRowsCoordinator;
 	private final RemoveCoordinator removeCoordinator;
 
+	private Boolean incrementalBagUpdatePossible;
+
 	public BasicCollectionPersister(
 			Collection collectionBinding,
 			CollectionDataAccess cacheAccessStrategy,
@@ -139,6 +144,39 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 		// nothing to do
 	}
 
+	@Override
+	public boolean isIncrementalBagUpdatePossible() {
+		if ( incrementalBagUpdatePossible == null ) {
+			// determined lazily, since the attribute mapping
+			// is not yet available when the persister is created
+			incrementalBagUpdatePossible = determineIncrementalBagUpdatePossible();
+		}
+		return incrementalBagUpdatePossible;
+	}
+
+	private boolean determineIncrementalBagUpdatePossible() {
+		if ( !getFactory().getSessionFactoryOptions().isIncrementalBagUpdatesEnabled()
+				|| !needsRemove()
+				|| hasIndex()
+				|| getAttributeMapping().getIdentifierDescriptor() != null
+				|| getCollectionTableMapping().getDeleteRowDetails().getCustomSql() != null ) {
+			return false;
+		}
+		// the row delete restricts by the element columns, but
+		// silently skips nullable columns and formulas, and LOBs
+		// can't be compared on many databases
+		final CollectionPart elementDescriptor = getAttributeMapping().getElementDescriptor();
+		for ( int i = 0; i < elementDescriptor.getJdbcTypeCount(); i++ ) {
+			final SelectableMapping selectable = elementDescriptor.getSelectable( i );
+			if ( selectable.isNullable()
+					|| selectable.isFormula()
+					|| selectable.getJdbcMapping().getJdbcType().isLobOrLong() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 
 	private UpdateRowsCoordinator buildUpdateRowCoordinator() {
 		final boolean performUpdates = getCollectionSemantics().getCollectionClassification().isRowUpdatePossible()
@@ -620,7 +658,12 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 				this,
 				tableReference,
 				getFactory(),
-				sqlWhereString
+				sqlWhereString,
+				// a row of a bag is only deleted by an incremental update, which
+				// deletes every row of a value occurring several times in the bag
+				getCollectionSemantics().getCollectionClassification() == CollectionClassification.BAG
+						? new Expectation.None()
+						: null
 		);
 
 		if ( pluralAttribute.getIdentifierDescriptor() != null ) {
@@ -124,6 +124,20 @@ public interface CollectionPersister extends Restrictable {
 		return true;
 	}
 
+	/**
+	 * Can a row of this collection be deleted using a restriction on the
+	 * value of its element, so that a {@linkplain org.hibernate.annotations.Bag bag}
+	 * may be updated incrementally instead of being recreated?
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#INCREMENTAL_BAG_UPDATES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isIncrementalBagUpdatePossible() {
+		return false;
+	}
+
 	/**
 	 * Access to the collection's cache region
 	 */
@@ -182,6 +196,37 @@ public interface CollectionPersister extends Restrictable {
 	 */
 	void remove(Object id, SharedSessionContractImplementor session);
 
+	/**
+	 * Can the entities belonging to this collection be deleted using a
+	 * single statement restricted by the collection key, without loading
+	 * them first? This is only possible for a one-to-many association to
+	 * an entity with no lifecycle callbacks, no cascades of its own, and
+	 * no second-level cache, among other restrictions.
+	 *
+	 * @see #removeElements(Object, SharedSessionContractImplementor)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean canRemoveElementsWithoutLoading() {
+		return false;
+	}
+
+	/**
+	 * Delete the entities belonging to the collection with the given key
+	 * using a single statement, without loading them. Only called if
+	 * {@link #canRemoveElementsWithoutLoading()} returns {@code true}, and
+	 * so must be implemented by any persister for which it does.
+	 *
+	 * @see #canRemoveElementsWithoutLoading()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void removeElements(Object id, SharedSessionContractImplementor session) {
+		assert !canRemoveElementsWithoutLoading();
+	}
+
 	/**
 	 * (Re)create the collection's persistent state
 	 */
@@ -25,6 +25,8 @@ import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.internal.util.NullnessHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jdbc.Expectations;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.mapping.Collection;
 import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
@@ -53,7 +55,9 @@ import org.hibernate.persister.collection.mutation.UpdateRowsCoordinator;
 import org.hibernate.persister.collection.mutation.UpdateRowsCoordinatorNoOp;
 import org.hibernate.persister.collection.mutation.UpdateRowsCoordinatorOneToMany;
 import org.hibernate.persister.collection.mutation.UpdateRowsCoordinatorTablePerSubclass;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.SqlAstCreationState;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
@@ -73,6 +77,7 @@ import org.hibernate.sql.model.ast.builder.TableUpdateBuilderStandard;
 import org.hibernate.sql.model.internal.MutationOperationGroupFactory;
 import org.hibernate.sql.model.internal.TableUpdateStandard;
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
@@ -95,8 +100,10 @@ public class OneToManyPersister extends AbstractCollectionPersister {
 	private final UpdateRowsCoordinator updateRowsCoordinator;
 	private final DeleteRowsCoordinator deleteRowsCoordinator;
 	private final RemoveCoordinator removeCoordinator;
+	private final RemoveCoordinatorStandard removeElementsCoordinator;
 
 	private final boolean keyIsNullable;
+	private Boolean canRemoveElementsWithoutLoading;
 	private final MutationExecutorService mutationExecutorService;
 
 	public OneToManyPersister(
@@ -112,6 +119,13 @@ public class OneToManyPersister extends AbstractCollectionPersister {
 		this.updateRowsCoordinator = buildUpdateCoordinator();
 		this.deleteRowsCoordinator = buildDeleteCoordinator();
 		this.removeCoordinator = buildDeleteAllCoordinator();
+		// not batched, since the number of deleted entities is needed for the statistics
+		this.removeElementsCoordinator = new RemoveCoordinatorStandard(
+				this,
+				this::buildDeleteElementsOperation,
+				null,
+				getFactory().getServiceRegistry()
+		);
 		this.mutationExecutorService = creationContext.getServiceRegistry().getService(	MutationExecutorService.class );
 	}
 
@@ -137,6 +151,74 @@ public class OneToManyPersister extends AbstractCollectionPersister {
 		return removeCoordinator;
 	}
 
+	@Override
+	public boolean canRemoveElementsWithoutLoading() {
+		if ( canRemoveElementsWithoutLoading == null ) {
+			// determined lazily, since the listeners and callbacks
+			// are not yet known when the persister is created
+			canRemoveElementsWithoutLoading = determineCanRemoveElementsWithoutLoading();
+		}
+		return canRemoveElementsWithoutLoading;
+	}
+
+	private boolean determineCanRemoveElementsWithoutLoading() {
+		final EntityPersister elementPersister = getElementPersisterInternal();
+		if ( elementPersister == null
+				|| elementPersister.hasSubclasses()
+				|| elementPersister.isInherited()
+				|| elementPersister.hasMultipleTables()
+				|| elementPersister.implementsLifecycle()
+				|| elementPersister.hasCascadeDelete()
+				|| elementPersister.hasOwnedCollections()
+				|| elementPersister.hasNaturalIdentifier()
+				|| elementPersister.hasCollectionNotReferencingPK()
+				|| elementPersister.canWriteToCache()
+				|| elementPersister.getSoftDeleteMapping() != null
+				|| getAttributeMapping().getSoftDeleteMapping() != null
+				|| getCollectionTableMapping().getDeleteDetails().getCustomSql() != null ) {
+			return false;
+		}
+		if ( !( elementPersister instanceof EntityMutationTarget mutationTarget )
+				|| mutationTarget.getIdentifierTableMapping().getDeleteCustomSql() != null ) {
+			return false;
+		}
+		final CallbackRegistry callbackRegistry = getFactory().getEventEngine().getCallbackRegistry();
+		final Class<?> elementClass = elementPersister.getMappedClass();
+		return !callbackRegistry.hasRegisteredCallbacks( elementClass, CallbackType.PRE_REMOVE )
+			&& !callbackRegistry.hasRegisteredCallbacks( elementClass, CallbackType.POST_REMOVE )
+			&& !getFactory().getFastSessionServices().hasCustomDeleteEventListeners();
+	}
+
+	@Override
+	public void removeElements(Object id, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		removeElementsCoordinator.deleteAllRows(
+				id,
+				session,
+				(statementDetails, affectedRowCount, batchPosition) -> {
+					if ( statistics.isStatisticsEnabled() ) {
+						final String entityName = getElementPersister().getEntityName();
+						for ( int i = 0; i < affectedRowCount; i++ ) {
+							statistics.deleteEntity( entityName );
+						}
+					}
+					return true;
+				}
+		);
+	}
+
+	private JdbcMutationOperation buildDeleteElementsOperation(MutatingTableReference tableReference) {
+		// the element table is the collection table, so the
+		// "one-shot" delete of a collection table deletes the
+		// rows of the associated entities
+		final RestrictedTableMutation<JdbcMutationOperation> sqlAst = super.generateDeleteAllAst( tableReference );
+		final SqlAstTranslator<JdbcMutationOperation> translator = getFactory().getJdbcServices()
+				.getDialect()
+				.getSqlAstTranslatorFactory()
+				.buildModelMutationTranslator( sqlAst, getFactory() );
+		return translator.translate( null, MutationQueryOptions.INSTANCE );
+	}
+
 	@Override
 	protected boolean isRowDeleteEnabled() {
 		return super.isRowDeleteEnabled() && keyIsNullable;
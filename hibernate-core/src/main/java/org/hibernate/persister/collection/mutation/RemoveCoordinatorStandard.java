@@ -7,6 +7,7 @@ package org.hibernate.persister.collection.mutation;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
+import org.hibernate.engine.jdbc.mutation.OperationResultChecker;
 import org.hibernate.sql.model.internal.MutationOperationGroupFactory;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -42,10 +43,28 @@ public class RemoveCoordinatorStandard implements RemoveCoordinator {
 			CollectionMutationTarget mutationTarget,
 			OperationProducer operationProducer,
 			ServiceRegistry serviceRegistry) {
+		this(
+				mutationTarget,
+				operationProducer,
+				new BasicBatchKey( mutationTarget.getRolePath() + "#REMOVE" ),
+				serviceRegistry
+		);
+	}
+
+	/**
+	 * Creates the coordinator, using the given batch key, for use when the
+	 * persister has more than one kind of removal, or no batch key, if the
+	 * deletes must not be batched.
+	 */
+	public RemoveCoordinatorStandard(
+			CollectionMutationTarget mutationTarget,
+			OperationProducer operationProducer,
+			BasicBatchKey batchKey,
+			ServiceRegistry serviceRegistry) {
 		this.mutationTarget = mutationTarget;
 		this.operationProducer = operationProducer;
 
-		this.batchKey = new BasicBatchKey( mutationTarget.getRolePath() + "#REMOVE" );
+		this.batchKey = batchKey;
 		this.mutationExecutorService = serviceRegistry.getService( MutationExecutorService.class );
 	}
 
@@ -72,6 +91,18 @@ public class RemoveCoordinatorStandard implements RemoveCoordinator {
 
 	@Override
 	public void deleteAllRows(Object key, SharedSessionContractImplementor session) {
+		deleteAllRows( key, session, null );
+	}
+
+	/**
+	 * Delete all the rows of the collection with the given key, passing
+	 * the number of deleted rows to the given checker, if any, unless the
+	 * delete is batched.
+	 */
+	public void deleteAllRows(
+			Object key,
+			SharedSessionContractImplementor session,
+			OperationResultChecker resultChecker) {
 		if ( MODEL_MUTATION_LOGGER.isDebugEnabled() ) {
 			MODEL_MUTATION_LOGGER.debugf(
 					"Deleting collection - %s : %s",
@@ -107,7 +138,7 @@ public class RemoveCoordinatorStandard implements RemoveCoordinator {
 					key,
 					null,
 					null,
-					null,
+					resultChecker,
 					session
 			);
 		}
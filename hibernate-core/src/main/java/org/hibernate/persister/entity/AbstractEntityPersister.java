@@ -44,6 +44,7 @@ import org.hibernate.StaleObjectStateException;
 import org.hibernate.StaleStateException;
 import org.hibernate.annotations.CacheLayout;
 import org.hibernate.boot.Metadata;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
 import org.hibernate.boot.model.internal.SoftDeleteHelper;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.spi.MetadataImplementor;
@@ -57,6 +58,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterc
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cache.internal.CollectionCacheInvalidator;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -84,6 +86,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.HashedSnapshot;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.NaturalIdResolutions;
@@ -94,6 +97,10 @@ import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.internal.PostDeleteEventListenerStandardImpl;
+import org.hibernate.event.internal.PostUpdateEventListenerStandardImpl;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -155,6 +162,7 @@ import org.hibernate.metamodel.UnsupportedMappingException;
 import org.hibernate.metamodel.mapping.Association;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.AttributeMappingsMap;
 import org.hibernate.metamodel.mapping.DiscriminatorConverter;
 import org.hibernate.metamodel.mapping.DiscriminatorType;
@@ -280,10 +288,12 @@ import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.SqlTypes;
 import org.hibernate.type.Type;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
 import org.hibernate.type.descriptor.java.spi.JavaTypeRegistry;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
 import org.hibernate.type.spi.TypeConfiguration;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -296,6 +306,12 @@ import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttrib
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfSelfDirtinessTracker;
+import static org.hibernate.event.spi.EventType.POST_COMMIT_DELETE;
+import static org.hibernate.event.spi.EventType.POST_COMMIT_UPDATE;
+import static org.hibernate.event.spi.EventType.POST_DELETE;
+import static org.hibernate.event.spi.EventType.POST_UPDATE;
+import static org.hibernate.event.spi.EventType.PRE_DELETE;
+import static org.hibernate.event.spi.EventType.PRE_UPDATE;
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.internal.util.ReflectHelper.isAbstractClass;
@@ -419,6 +435,7 @@ public abstract class AbstractEntityPersister
 	protected List<? extends ModelPart> updateGeneratedProperties;
 	private GeneratedValuesProcessor insertGeneratedValuesProcessor;
 	private GeneratedValuesProcessor updateGeneratedValuesProcessor;
+	private JavaType<?>[] hashedSnapshotJavaTypes;
 
 	private GeneratedValuesMutationDelegate insertDelegate;
 	private GeneratedValuesMutationDelegate updateDelegate;
@@ -1501,7 +1518,10 @@ public abstract class AbstractEntityPersister
 			);
 		}
 
-		if ( session.getCacheMode().isGetEnabled() && canReadFromCache() && isLazyPropertiesCacheable() ) {
+		// only the properties mapped as lazy are initialized from the second-level cache,
+		// and an eager property made lazy by an applied EntityGraph is always selected
+		if ( session.getCacheMode().isGetEnabled() && canReadFromCache() && isLazyPropertiesCacheable()
+				&& !nonLazyPropertyNames.contains( fieldName ) ) {
 			final EntityDataAccess cacheAccess = getCacheAccessStrategy();
 			final Object cacheKey = cacheAccess.generateCacheKey(id, this, session.getFactory(), session.getTenantIdentifier() );
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
@@ -2500,12 +2520,14 @@ public abstract class AbstractEntityPersister
 				&& ( previousState == null
 						|| previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY
 						|| propertyCheckability[i]
-								&& propertyTypes[i].isDirty(
-										previousState[i],
-										currentState[i],
-										propertyColumnUpdateable[i],
-										session
-								)
+								&& ( previousState[i] instanceof HashedSnapshot snapshot
+										? snapshot.isDirty( currentState[i] )
+										: propertyTypes[i].isDirty(
+												previousState[i],
+												currentState[i],
+												propertyColumnUpdateable[i],
+												session
+										) )
 				);
 	}
 
@@ -3268,6 +3290,98 @@ public abstract class AbstractEntityPersister
 
 		//select SQL
 		sqlVersionSelectString = generateSelectVersionString();
+
+		hashedSnapshotJavaTypes = resolveHashedSnapshotJavaTypes();
+	}
+
+	private JavaType<?>[] resolveHashedSnapshotJavaTypes() {
+		if ( !factory.getSessionFactoryOptions().isHashedSnapshotsEnabled()
+				|| !isMutable()
+				// the loaded state is used to build cache entries
+				|| canWriteToCache
+				// the loaded state is used in the where clause
+				|| optimisticLockStyle().isAllOrDirty()
+				// the loaded state is passed to listeners as the old state
+				|| hasOldStateListeners()
+				// the loaded state is passed to the strategy as the loaded values
+				|| factory.getSessionFactoryOptions().getCustomEntityDirtinessStrategy()
+						!= DefaultCustomEntityDirtinessStrategy.INSTANCE ) {
+			return null;
+		}
+		final boolean[] propertyCheckability = getPropertyCheckability();
+		final AttributeMappingsList attributeMappings = getAttributeMappings();
+		JavaType<?>[] javaTypes = null;
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			final int position = attributeMapping.getStateArrayPosition();
+			if ( propertyCheckability[position] && isHashedSnapshotCandidate( attributeMapping ) ) {
+				if ( javaTypes == null ) {
+					javaTypes = new JavaType<?>[propertyCheckability.length];
+				}
+				javaTypes[position] = attributeMapping.getJavaType();
+			}
+		}
+		return javaTypes;
+	}
+
+	/**
+	 * Are there any listeners which might read the loaded state of an entity,
+	 * passed to them as the old state when it is updated or deleted?
+	 */
+	private boolean hasOldStateListeners() {
+		final EventListenerRegistry eventListenerRegistry =
+				factory.getServiceRegistry().requireService( EventListenerRegistry.class );
+		return hasOldStateListeners( eventListenerRegistry.getEventListenerGroup( PRE_UPDATE ) )
+			|| hasOldStateListeners( eventListenerRegistry.getEventListenerGroup( POST_UPDATE ) )
+			|| hasOldStateListeners( eventListenerRegistry.getEventListenerGroup( POST_COMMIT_UPDATE ) )
+			|| hasOldStateListeners( eventListenerRegistry.getEventListenerGroup( PRE_DELETE ) )
+			|| hasOldStateListeners( eventListenerRegistry.getEventListenerGroup( POST_DELETE ) )
+			|| hasOldStateListeners( eventListenerRegistry.getEventListenerGroup( POST_COMMIT_DELETE ) );
+	}
+
+	// built-in listeners which never read the old value of a basic attribute
+	private static final Set<String> OLD_STATE_AGNOSTIC_LISTENERS = Set.of(
+			PostUpdateEventListenerStandardImpl.class.getName(),
+			PostDeleteEventListenerStandardImpl.class.getName(),
+			CollectionCacheInvalidator.class.getName(),
+			// not referenced by class, since Bean Validation might not be available
+			"org.hibernate.boot.beanvalidation.BeanValidationEventListener"
+	);
+
+	private static boolean hasOldStateListeners(EventListenerGroup<?> eventListenerGroup) {
+		for ( Object listener : eventListenerGroup.listeners() ) {
+			if ( !OLD_STATE_AGNOSTIC_LISTENERS.contains( listener.getClass().getName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Is the given attribute a mutable basic attribute which is potentially large?
+	 */
+	private boolean isHashedSnapshotCandidate(AttributeMapping attributeMapping) {
+		final BasicValuedModelPart basicPart = attributeMapping.asBasicValuedModelPart();
+		if ( basicPart == null
+				|| !attributeMapping.getAttributeMetadata().getMutabilityPlan().isMutable()
+				|| attributeMapping.hasPartitionedSelectionMapping()
+				|| naturalIdMapping != null && naturalIdMapping.getNaturalIdAttributes().contains( attributeMapping ) ) {
+			return false;
+		}
+		else {
+			final JdbcType jdbcType = basicPart.getJdbcMapping().getJdbcType();
+			final int sqlTypeCode = jdbcType.getDefaultSqlTypeCode();
+			return attributeMapping.getJavaType().getJavaTypeClass().isArray()
+				|| jdbcType.isLob()
+				|| jdbcType.isArray()
+				|| sqlTypeCode == SqlTypes.JSON
+				|| sqlTypeCode == SqlTypes.SQLXML;
+		}
+	}
+
+	@Override
+	public JavaType<?>[] getHashedSnapshotJavaTypes() {
+		return hashedSnapshotJavaTypes;
 	}
 
 	protected GeneratedValuesMutationDelegate createInsertDelegate() {
@@ -4272,11 +4386,19 @@ public abstract class AbstractEntityPersister
 			final AttributeMappingsList attributeMappings = getAttributeMappings();
 			final Object[] values = new Object[attributeMappings.size()];
 			if ( enhancementMetadata.isEnhancedForLazyLoading() ) {
-				final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
+				// the lazy attributes of the interceptor include the attributes
+				// left unfetched by a fetch graph, which are not mapped as lazy
+				final PersistentAttributeInterceptor interceptor = isPersistentAttributeInterceptable( object )
+						? asPersistentAttributeInterceptable( object ).$$_hibernate_getInterceptor()
+						: null;
+				final LazyAttributeLoadingInterceptor lazyInterceptor =
+						interceptor instanceof LazyAttributeLoadingInterceptor loadingInterceptor
+								? loadingInterceptor
+								: null;
 				for ( int i = 0; i < attributeMappings.size(); i++ ) {
 					final AttributeMapping attributeMapping = attributeMappings.get( i );
-					if ( !lazyAttributesMetadata.isLazyAttribute( attributeMapping.getAttributeName() )
-							|| enhancementMetadata.isAttributeLoaded( object, attributeMapping.getAttributeName() ) ) {
+					if ( lazyInterceptor == null
+							|| lazyInterceptor.isAttributeLoaded( attributeMapping.getAttributeName() ) ) {
 						values[i] = getterCache[i].get( object );
 					}
 					else {
@@ -6,6 +6,7 @@ package org.hibernate.persister.entity;
 
 import org.hibernate.Internal;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.HashedSnapshot;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
@@ -67,6 +68,9 @@ class DirtyHelper {
 		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return true;
 		}
+		else if ( previousState[i] instanceof HashedSnapshot snapshot ) {
+			return properties[i].isDirtyCheckable() && snapshot.isDirty( currentState[i] );
+		}
 		else {
 			return properties[i].isDirtyCheckable()
 				&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session);
@@ -124,6 +128,9 @@ class DirtyHelper {
 		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return true;
 		}
+		else if ( previousState[i] instanceof HashedSnapshot snapshot ) {
+			return snapshot.isDirty( currentState[i] );
+		}
 		else {
 			return propertyType.isDirty( previousState[i], currentState[i], includeColumns[i], session );
 		}
@@ -185,6 +192,8 @@ class DirtyHelper {
 		return currentState[i] != LazyPropertyInitializer.UNFETCHED_PROPERTY
 			&& includeProperties[i]
 			&& properties[i].isDirtyCheckable()
-			&& properties[i].getType().isModified( previousState[i], currentState[i], includeColumns[i], session );
+			&& ( previousState[i] instanceof HashedSnapshot snapshot
+				? snapshot.isDirty( currentState[i] )
+				: properties[i].getType().isModified( previousState[i], currentState[i], includeColumns[i], session ) );
 	}
 }
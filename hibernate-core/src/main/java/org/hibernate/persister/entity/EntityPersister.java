@@ -60,6 +60,7 @@ import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.VersionJavaType;
 
 /**
@@ -785,6 +786,23 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 */
 	boolean[] getPropertyCheckability();
 
+	/**
+	 * For each property, the {@link JavaType} used to compute the
+	 * {@link org.hibernate.engine.spi.HashedSnapshot} kept in the loaded state
+	 * in place of a deep copy of the value, or {@code null} if the loaded state
+	 * holds a deep copy. Returns {@code null} if no property is snapshotted
+	 * this way, for example, because listeners which receive the loaded state
+	 * as the old state of the entity are registered.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#HASHED_SNAPSHOTS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default JavaType<?>[] getHashedSnapshotJavaTypes() {
+		return null;
+	}
+
 	/**
 	 * Get the nullability of the properties of this class
 	 */
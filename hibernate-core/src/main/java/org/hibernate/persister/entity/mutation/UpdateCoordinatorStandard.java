@@ -220,7 +220,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			final boolean[] propertyLaziness = entityPersister().getPropertyLaziness();
 			for ( int i = 0; i < propertyLaziness.length; i++ ) {
 				// add also all the non-lazy properties because dynamic update is false
-				if ( !propertyLaziness[i] ) {
+				if ( !propertyLaziness[i] && isAttributeLoaded( entity, i ) ) {
 					attributeUpdateability[i] = true;
 				}
 			}
@@ -448,10 +448,34 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 	 */
 	public boolean[] getPropertyUpdateability(Object entity) {
 		return entityPersister().hasUninitializedLazyProperties( entity )
-				? entityPersister().getNonLazyPropertyUpdateability()
+				? excludeUnfetchedAttributes( entity, entityPersister().getNonLazyPropertyUpdateability() )
 				: entityPersister().getPropertyUpdateability();
 	}
 
+	/**
+	 * Exclude the non-lazy attributes which were left unfetched by a fetch graph,
+	 * and so have no value to be written until they are initialized.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#FETCH_GRAPH_COLUMN_PRUNING
+	 */
+	private boolean[] excludeUnfetchedAttributes(Object entity, boolean[] updateability) {
+		boolean[] result = updateability;
+		for ( int i = 0; i < updateability.length; i++ ) {
+			if ( updateability[i] && !isAttributeLoaded( entity, i ) ) {
+				if ( result == updateability ) {
+					result = updateability.clone();
+				}
+				result[i] = false;
+			}
+		}
+		return result;
+	}
+
+	private boolean isAttributeLoaded(Object entity, int attributeIndex) {
+		return entityPersister().getBytecodeEnhancementMetadata()
+				.isAttributeLoaded( entity, entityPersister().getAttributeMapping( attributeIndex ).getAttributeName() );
+	}
+
 	protected GeneratedValues doVersionUpdate(
 			Object entity,
 			Object id,
@@ -11,6 +11,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -250,6 +251,85 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	@Incubating
 	KeyedResultList<R> getKeyedResultList(KeyedPage<R> page);
 
+	/**
+	 * Execute the query as a consumer of a work queue, claiming at most the
+	 * given number of results which are not already claimed by a concurrent
+	 * transaction. The rows of the root entity are locked using
+	 * {@link LockMode#UPGRADE_SKIPLOCKED}, so that rows locked by another
+	 * transaction are skipped rather than waited for, and the locks are held
+	 * until the end of the current transaction.
+	 * <p>
+	 * This is equivalent to calling {@link #claimResultList(int, Consumer)}
+	 * with no action.
+	 *
+	 * @param maxResults the maximum number of results to claim
+	 *
+	 * @return the claimed results
+	 *
+	 * @see #claimResultList(int, Consumer)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default List<R> claimResultList(int maxResults) {
+		return claimResultList( maxResults, result -> {} );
+	}
+
+	/**
+	 * Execute the query as a consumer of a work queue, claiming at most the
+	 * given number of results which are not already claimed by a concurrent
+	 * transaction, and applying the given action, which typically marks the
+	 * claimed entity as being processed by updating its status, to each
+	 * claimed result. The rows of the root entity are locked using
+	 * {@link LockMode#UPGRADE_SKIPLOCKED}, so that rows locked by another
+	 * transaction are skipped rather than waited for, and the locks are held
+	 * until the end of the current transaction.
+	 * <p>
+	 * The modifications made by the action are written to the database when
+	 * the session is flushed, using JDBC batching if it is
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE
+	 * enabled}, while the rows are still locked. For example:
+	 * <pre>
+	 * List&lt;Job&gt; jobs =
+	 *         session.createSelectionQuery("from Job where status = 'NEW' order by created", Job.class)
+	 *                 .claimResultList(10, job -&gt; job.setStatus("RUNNING"));
+	 * </pre>
+	 * <p>
+	 * If the {@linkplain Dialect#supportsSkipLocked() dialect does not support}
+	 * {@code skip locked}, rows locked by another transaction are waited for.
+	 * <p>
+	 * The lock mode and the maximum number of results apply only to this
+	 * execution of the query: the {@linkplain #getHibernateLockMode() lock mode}
+	 * and {@linkplain #getMaxResults() maximum number of results} of the query
+	 * itself are left unchanged.
+	 *
+	 * @param maxResults the maximum number of results to claim
+	 * @param action an action to apply to each claimed result
+	 *
+	 * @return the claimed results
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default List<R> claimResultList(int maxResults, Consumer<? super R> action) {
+		final LockMode lockMode = getHibernateLockMode();
+		final int previousMaxResults = getMaxResults();
+		final List<R> results;
+		try {
+			results = setHibernateLockMode( LockMode.UPGRADE_SKIPLOCKED )
+					.setMaxResults( maxResults )
+					.getResultList();
+		}
+		finally {
+			setHibernateLockMode( lockMode );
+			setMaxResults( previousMaxResults );
+		}
+		for ( R result : results ) {
+			action.accept( result );
+		}
+		return results;
+	}
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	/**
@@ -43,6 +43,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private String resultCacheRegionName;
 	private Boolean readOnlyEnabled;
 	private Boolean queryPlanCachingEnabled;
+	private Boolean idsOnlyEnabled;
 
 	private TupleTransformer<?> tupleTransformer;
 	private ResultListTransformer<?> resultListTransformer;
@@ -168,6 +169,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		this.queryPlanCachingEnabled = queryPlanCachingEnabled;
 	}
 
+	@Override
+	public Boolean getIdsOnlyEnabled() {
+		return idsOnlyEnabled;
+	}
+
+	@Override
+	public void setIdsOnlyEnabled(Boolean idsOnlyEnabled) {
+		this.idsOnlyEnabled = idsOnlyEnabled;
+	}
+
 	@Override
 	public TupleTransformer<?> getTupleTransformer() {
 		return tupleTransformer;
@@ -68,6 +68,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_DATABASE;
+import static org.hibernate.jpa.HibernateHints.HINT_QUERY_IDS_ONLY;
 import static org.hibernate.jpa.HibernateHints.HINT_QUERY_PLAN_CACHEABLE;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
@@ -177,6 +178,7 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, getQueryOptions().getQueryPlanCachingEnabled() );
+		putIfNotNull( hints, HINT_QUERY_IDS_ONLY, getQueryOptions().getIdsOnlyEnabled() );
 
 		putIfNotNull( hints, HINT_SPEC_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
 		putIfNotNull( hints, HINT_JAVAEE_CACHE_RETRIEVE_MODE, getQueryOptions().getCacheRetrieveMode() );
@@ -296,6 +298,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_QUERY_PLAN_CACHEABLE:
 					queryOptions.setQueryPlanCachingEnabled( getBoolean( value ) );
 					return true;
+				case HINT_QUERY_IDS_ONLY:
+					queryOptions.setIdsOnlyEnabled( getBoolean( value ) );
+					return true;
 				case HINT_CACHEABLE:
 					queryOptions.setResultCachingEnabled( getBoolean( value ) );
 					return true;
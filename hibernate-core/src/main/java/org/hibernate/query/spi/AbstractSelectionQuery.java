@@ -12,7 +12,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -40,6 +42,7 @@ import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.stat.spi.FetchPlanProfiler;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -50,6 +53,7 @@ import jakarta.persistence.NoResultException;
 import jakarta.persistence.Parameter;
 import jakarta.persistence.TemporalType;
 
+import static java.util.Collections.emptySet;
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static org.hibernate.CacheMode.fromJpaModes;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
@@ -130,9 +134,13 @@ public abstract class AbstractSelectionQuery<R>
 	@Override
 	public List<R> list() {
 		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
+		final FetchPlanProfiler fetchPlanProfiler = getFetchPlanProfiler();
+		final Set<Object> initializedByQuery =
+				fetchPlanProfiler == null ? null : fetchPlanProfiler.beforeQuery();
+		List<R> result = null;
 		boolean success = false;
 		try {
-			final List<R> result = doList();
+			result = doList();
 			success = true;
 			return result;
 		}
@@ -143,10 +151,32 @@ public abstract class AbstractSelectionQuery<R>
 			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
 		}
 		finally {
+			if ( fetchPlanProfiler != null ) {
+				fetchPlanProfiler.queryExecuted(
+						getQueryString(),
+						result,
+						initializedByQuery,
+						getFetchAdviceAttributePaths()
+				);
+			}
 			afterQueryHandlingFetchProfiles( success, fetchProfiles );
 		}
 	}
 
+	private FetchPlanProfiler getFetchPlanProfiler() {
+		// Criteria queries have no query string to tell them apart
+		return CRITERIA_HQL_STRING.equals( getQueryString() ) ? null : getSession().getFetchPlanProfiler();
+	}
+
+	/**
+	 * The paths of the associations fetched by the current execution of this
+	 * query only because of the {@linkplain org.hibernate.stat.spi.FetchPlanAdvisor
+	 * fetch plan advice}.
+	 */
+	protected Set<String> getFetchAdviceAttributePaths() {
+		return emptySet();
+	}
+
 	protected HashSet<String> beforeQueryHandlingFetchProfiles() {
 		beforeQuery();
 		final MutableQueryOptions options = getQueryOptions();
@@ -353,6 +383,28 @@ public abstract class AbstractSelectionQuery<R>
 		return this;
 	}
 
+	@Override
+	public List<R> claimResultList(int maxResults, Consumer<? super R> action) {
+		final LockOptions lockOptions = getQueryOptions().getLockOptions();
+		final LockMode lockMode = lockOptions.getLockMode();
+		final Integer maxRows = getQueryOptions().getLimit().getMaxRows();
+		final List<R> results;
+		try {
+			setHibernateLockMode( LockMode.UPGRADE_SKIPLOCKED );
+			setMaxResults( maxResults );
+			results = list();
+		}
+		finally {
+			// the options apply only to this execution
+			lockOptions.setLockMode( lockMode );
+			getQueryOptions().getLimit().setMaxRows( maxRows );
+		}
+		for ( R result : results ) {
+			action.accept( result );
+		}
+		return results;
+	}
+
 	@Override
 	public SelectionQuery<R> setFirstResult(int startPosition) {
 		getSession().checkOpen();
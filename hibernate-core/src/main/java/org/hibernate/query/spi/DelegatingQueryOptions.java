@@ -79,6 +79,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getQueryPlanCachingEnabled();
 	}
 
+	@Override
+	public Boolean getIdsOnlyEnabled() {
+		return queryOptions.getIdsOnlyEnabled();
+	}
+
 	@Override
 	public CacheMode getCacheMode() {
 		return queryOptions.getCacheMode();
@@ -62,6 +62,13 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setQueryPlanCachingEnabled(Boolean queryPlanCachingEnabled);
 
+	/**
+	 * Corollary to {@link #getIdsOnlyEnabled()}
+	 *
+	 * @since 7.0
+	 */
+	void setIdsOnlyEnabled(Boolean idsOnlyEnabled);
+
 	/**
 	 * Corollary to {@link #getTimeout()}
 	 */
@@ -105,6 +105,18 @@ public interface QueryOptions {
 	 */
 	Boolean getQueryPlanCachingEnabled();
 
+	/**
+	 * Should only the identifiers of the returned entities be selected, and the
+	 * entities be resolved from the second-level cache?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_IDS_ONLY
+	 *
+	 * @since 7.0
+	 */
+	default Boolean getIdsOnlyEnabled() {
+		return null;
+	}
+
 	/**
 	 * The explicitly enabled profiles for this query
 	 */
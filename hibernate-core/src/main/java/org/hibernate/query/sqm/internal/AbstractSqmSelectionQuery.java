@@ -5,8 +5,13 @@
 package org.hibernate.query.sqm.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.IllegalSelectQueryException;
 import org.hibernate.query.KeyedPage;
 import org.hibernate.query.KeyedResultList;
@@ -23,34 +28,47 @@ import org.hibernate.query.spi.AbstractSelectionQuery;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey.InterpretationsKeySource;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
 import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
 import org.hibernate.query.sqm.tree.select.SqmQueryPart;
 import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectClause;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
 import org.hibernate.sql.results.internal.TupleMetadata;
+import org.hibernate.stat.spi.FetchPlanAdvisor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.BasicTypeRegistry;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
 
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static org.hibernate.loader.ast.internal.LoaderHelper.createTypedArray;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
 import static org.hibernate.query.sqm.internal.KeyBasedPagination.paginate;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectResults;
+import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createIdsOnlyInterpretationsKey;
 import static org.hibernate.query.sqm.internal.SqmUtil.isHqlTuple;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToResultType;
 import static org.hibernate.query.sqm.internal.SqmUtil.sortSpecification;
@@ -61,6 +79,9 @@ import static org.hibernate.query.sqm.tree.SqmCopyContext.noParamCopyContext;
  */
 abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 
+	// the options of the current execution of list(), when fetch plan advice is applied
+	private @Nullable FetchAdviceQueryOptions fetchAdviceQueryOptions;
+
 	AbstractSqmSelectionQuery(SharedSessionContractImplementor session) {
 		super(session);
 	}
@@ -91,6 +112,226 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 		return appliedGraph != null && appliedGraph.getSemantic() != null;
 	}
 
+	@Override
+	public List<R> list() {
+		final FetchPlanAdvisor.AdvisedFetchGraph fetchAdvice = resolveFetchAdvice();
+		if ( fetchAdvice == null ) {
+			return super.list();
+		}
+		else {
+			// apply the advice to this execution only
+			fetchAdviceQueryOptions = new FetchAdviceQueryOptions( super.getQueryOptions(), fetchAdvice );
+			try {
+				return super.list();
+			}
+			finally {
+				fetchAdviceQueryOptions = null;
+			}
+		}
+	}
+
+	@Override
+	public MutableQueryOptions getQueryOptions() {
+		return fetchAdviceQueryOptions == null ? super.getQueryOptions() : fetchAdviceQueryOptions;
+	}
+
+	@Override
+	protected Set<String> getFetchAdviceAttributePaths() {
+		return fetchAdviceQueryOptions == null
+				? super.getFetchAdviceAttributePaths()
+				: fetchAdviceQueryOptions.getFetchAdvice().getAttributePaths();
+	}
+
+	/**
+	 * The associations which the {@link FetchPlanAdvisor} recommends fetching for
+	 * this query, to be applied as a load graph, unless the query already has a
+	 * graph applied, or groups its results.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_APPLY
+	 */
+	private FetchPlanAdvisor.AdvisedFetchGraph resolveFetchAdvice() {
+		final FetchPlanAdvisor fetchPlanAdvisor = getSessionFactory().getStatistics().getFetchPlanAdvisor();
+		if ( fetchPlanAdvisor != null && fetchPlanAdvisor.isApplyEnabled()
+				&& !hasAppliedGraph( getQueryOptions() )
+				&& getSqmStatement() instanceof SqmSelectStatement<R> selectStatement
+				&& selectStatement.getQueryPart() instanceof SqmQuerySpec<R> querySpec
+				&& querySpec.getGroupByClauseExpressions().isEmpty() ) {
+			final SqmRoot<?> root = singleSelectedRoot( querySpec );
+			if ( root != null ) {
+				// fetching collections would break pagination
+				return fetchPlanAdvisor.getFetchGraph(
+						getQueryString(),
+						root.getEntityName(),
+						!hasLimit( selectStatement, getQueryOptions() )
+				);
+			}
+		}
+		return null;
+	}
+
+	private static SqmRoot<?> singleSelectedRoot(SqmQuerySpec<?> querySpec) {
+		final List<SqmRoot<?>> roots = querySpec.getFromClause().getRoots();
+		if ( roots.size() == 1 ) {
+			final SqmRoot<?> root = roots.get( 0 );
+			final SqmSelectClause selectClause = querySpec.getSelectClause();
+			if ( selectClause == null ) {
+				return root;
+			}
+			final List<SqmSelection<?>> selections = selectClause.getSelections();
+			if ( selections.size() == 1 && selections.get( 0 ).getSelectableNode() == root ) {
+				return root;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * If {@linkplain org.hibernate.cfg.QuerySettings#QUERY_IDS_ONLY enabled}, and the
+	 * query returns a single entity which may be read from the second-level cache, list
+	 * the results by selecting only the identifiers of the entities, and resolving them
+	 * with a multi-id load, which only reads the entities missing from the persistence
+	 * context and the second-level cache from the database.
+	 *
+	 * @return the results, or {@code null} if the entities must be read from the database
+	 */
+	protected @Nullable List<R> listIdsOnly(SqmSelectStatement<?> statement) {
+		final MutableQueryOptions queryOptions = getQueryOptions();
+		final Boolean idsOnlyEnabled = queryOptions.getIdsOnlyEnabled();
+		if ( !( idsOnlyEnabled == null
+						? getSessionFactory().getSessionFactoryOptions().isQueryIdsOnlyEnabled()
+						: idsOnlyEnabled )
+				|| !getSession().isEventSource()
+				|| !getSession().getCacheMode().isGetEnabled()
+				|| hasAppliedGraph( queryOptions )
+				|| !queryOptions.getLockOptions().isEmpty()
+				|| queryOptions.getTupleTransformer() != null
+				|| queryOptions.getResultListTransformer() != null
+				|| getTupleMetadata() != null
+				|| !( statement.getQueryPart() instanceof SqmQuerySpec<?> querySpec ) ) {
+			return null;
+		}
+		final SqmRoot<?> root = singleSelectedRoot( querySpec );
+		if ( root == null || !root.getFetches().isEmpty() ) {
+			return null;
+		}
+		final EntityPersister persister =
+				getSessionFactory().getMappingMetamodel().findEntityDescriptor( root.getEntityName() );
+		final Class<R> expectedResultType = getExpectedResultType();
+		if ( persister == null
+				|| !persister.canReadFromCache()
+				|| !( persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping identifierMapping )
+				|| expectedResultType != null && !expectedResultType.isAssignableFrom( persister.getMappedClass() ) ) {
+			return null;
+		}
+
+		if ( isDistinct( querySpec ) && !isSortedByIdentifier( querySpec, root, identifierMapping.getAttributeName() ) ) {
+			// the database rejects a 'select distinct' of the identifier ordered by other expressions
+			return null;
+		}
+
+		final List<Object> ids =
+				resolveIdsOnlyQueryPlan( statement, identifierMapping.getAttributeName() ).performList( this );
+		final List<R> results = new ArrayList<>( ids.size() );
+		if ( !ids.isEmpty() ) {
+			final List<?> entities = persister.multiLoad(
+					ids.toArray( createTypedArray( ids.get( 0 ).getClass(), ids.size() ) ),
+					getSession().asEventSource(),
+					new IdsOnlyLoadOptions( queryOptions.isReadOnly() )
+			);
+			for ( Object entity : entities ) {
+				// null if the entity was deleted since the identifiers were selected
+				if ( entity != null ) {
+					//noinspection unchecked
+					results.add( (R) entity );
+				}
+			}
+		}
+		return results;
+	}
+
+	private static boolean isDistinct(SqmQuerySpec<?> querySpec) {
+		final SqmSelectClause selectClause = querySpec.getSelectClause();
+		return selectClause != null && selectClause.isDistinct();
+	}
+
+	private static boolean isSortedByIdentifier(SqmQuerySpec<?> querySpec, SqmRoot<?> root, String identifierName) {
+		final SqmOrderByClause orderByClause = querySpec.getOrderByClause();
+		if ( orderByClause != null ) {
+			for ( SqmSortSpecification sortSpecification : orderByClause.getSortSpecifications() ) {
+				if ( !( sortSpecification.getSortExpression() instanceof SqmPath<?> path )
+						|| path.getLhs() != root
+						|| !identifierName.equals( path.getReferencedPathSource().getPathName() ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private SelectQueryPlan<Object> resolveIdsOnlyQueryPlan(SqmSelectStatement<?> statement, String identifierName) {
+		final QueryInterpretationCache.Key cacheKey =
+				this instanceof InterpretationsKeySource keySource ? createIdsOnlyInterpretationsKey( keySource ) : null;
+		if ( cacheKey != null ) {
+			return getSessionFactory().getQueryEngine().getInterpretationCache()
+					.resolveSelectQueryPlan( cacheKey, () -> buildIdsOnlyQueryPlan( statement, identifierName ) );
+		}
+		else {
+			return buildIdsOnlyQueryPlan( statement, identifierName );
+		}
+	}
+
+	private SelectQueryPlan<Object> buildIdsOnlyQueryPlan(SqmSelectStatement<?> statement, String identifierName) {
+		@SuppressWarnings("unchecked")
+		final SqmSelectStatement<Object> copy =
+				(SqmSelectStatement<Object>) statement.copy( noParamCopyContext() );
+		final SqmQuerySpec<Object> querySpec = copy.getQuerySpec();
+		querySpec.getSelectClause().setSelection( querySpec.getRootList().get( 0 ).get( identifierName ) );
+		return buildConcreteQueryPlan( copy, getQueryOptions() );
+	}
+
+	private static class IdsOnlyLoadOptions implements MultiIdLoadOptions {
+		private final Boolean readOnly;
+
+		private IdsOnlyLoadOptions(Boolean readOnly) {
+			this.readOnly = readOnly;
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return readOnly;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	protected void errorOrLogForPaginationWithCollectionFetch() {
 		if ( getSessionFactory().getSessionFactoryOptions().isFailOnPaginationOverCollectionFetchEnabled() ) {
 			throw new HibernateException(
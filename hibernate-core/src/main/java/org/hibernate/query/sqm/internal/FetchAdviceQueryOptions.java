@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.internal;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+
+import org.hibernate.FlushMode;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.DelegatingQueryOptions;
+import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.stat.spi.FetchPlanAdvisor;
+
+/**
+ * The options of a single execution of a query to which the
+ * {@linkplain FetchPlanAdvisor fetch plan advice} is applied as a load
+ * graph, leaving the options of the query itself unchanged.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_APPLY
+ */
+class FetchAdviceQueryOptions extends DelegatingQueryOptions implements MutableQueryOptions, AppliedGraph {
+	private final MutableQueryOptions queryOptions;
+	private final FetchPlanAdvisor.AdvisedFetchGraph fetchAdvice;
+
+	FetchAdviceQueryOptions(MutableQueryOptions queryOptions, FetchPlanAdvisor.AdvisedFetchGraph fetchAdvice) {
+		super( queryOptions );
+		this.queryOptions = queryOptions;
+		this.fetchAdvice = fetchAdvice;
+	}
+
+	FetchPlanAdvisor.AdvisedFetchGraph getFetchAdvice() {
+		return fetchAdvice;
+	}
+
+	@Override
+	public AppliedGraph getAppliedGraph() {
+		return this;
+	}
+
+	@Override
+	public RootGraphImplementor<?> getGraph() {
+		return fetchAdvice.getGraph();
+	}
+
+	@Override
+	public GraphSemantic getSemantic() {
+		return GraphSemantic.LOAD;
+	}
+
+	@Override
+	public void setFlushMode(FlushMode flushMode) {
+		queryOptions.setFlushMode( flushMode );
+	}
+
+	@Override
+	public void setCacheRetrieveMode(CacheRetrieveMode retrieveMode) {
+		queryOptions.setCacheRetrieveMode( retrieveMode );
+	}
+
+	@Override
+	public void setCacheStoreMode(CacheStoreMode storeMode) {
+		queryOptions.setCacheStoreMode( storeMode );
+	}
+
+	@Override
+	public void setResultCachingEnabled(boolean cacheable) {
+		queryOptions.setResultCachingEnabled( cacheable );
+	}
+
+	@Override
+	public void setResultCacheRegionName(String cacheRegion) {
+		queryOptions.setResultCacheRegionName( cacheRegion );
+	}
+
+	@Override
+	public void setQueryPlanCachingEnabled(Boolean queryPlanCachingEnabled) {
+		queryOptions.setQueryPlanCachingEnabled( queryPlanCachingEnabled );
+	}
+
+	@Override
+	public void setIdsOnlyEnabled(Boolean idsOnlyEnabled) {
+		queryOptions.setIdsOnlyEnabled( idsOnlyEnabled );
+	}
+
+	@Override
+	public void setTimeout(int timeout) {
+		queryOptions.setTimeout( timeout );
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {
+		queryOptions.setFetchSize( fetchSize );
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly) {
+		queryOptions.setReadOnly( readOnly );
+	}
+
+	@Override
+	public void setComment(String comment) {
+		queryOptions.setComment( comment );
+	}
+
+	@Override
+	public void addDatabaseHint(String hint) {
+		queryOptions.addDatabaseHint( hint );
+	}
+
+	@Override
+	public void setTupleTransformer(TupleTransformer<?> transformer) {
+		queryOptions.setTupleTransformer( transformer );
+	}
+
+	@Override
+	public void setResultListTransformer(ResultListTransformer<?> transformer) {
+		queryOptions.setResultListTransformer( transformer );
+	}
+
+	@Override
+	public void applyGraph(RootGraphImplementor<?> rootGraph, GraphSemantic graphSemantic) {
+		queryOptions.applyGraph( rootGraph, graphSemantic );
+	}
+
+	@Override
+	public void enableFetchProfile(String profileName) {
+		queryOptions.enableFetchProfile( profileName );
+	}
+
+	@Override
+	public void disableFetchProfile(String profileName) {
+		queryOptions.disableFetchProfile( profileName );
+	}
+}
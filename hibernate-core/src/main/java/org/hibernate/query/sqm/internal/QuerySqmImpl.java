@@ -365,6 +365,10 @@ public class QuerySqmImpl<R>
 	protected List<R> doList() {
 		verifySelect();
 		final SqmSelectStatement<?> statement = (SqmSelectStatement<?>) getSqmStatement();
+		final List<R> idsOnlyList = listIdsOnly( statement );
+		if ( idsOnlyList != null ) {
+			return idsOnlyList;
+		}
 		final boolean containsCollectionFetches =
 				statement.containsCollectionFetches()
 						|| containsCollectionFetches( getQueryOptions() );
@@ -58,6 +58,53 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		}
 	}
 
+	/**
+	 * Create a key for the plan of the query which selects only the identifiers
+	 * of the entities returned by the query of the given source.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_IDS_ONLY
+	 */
+	public static SqmInterpretationsKey createIdsOnlyInterpretationsKey(InterpretationsKeySource keySource) {
+		final SqmInterpretationsKey key = createInterpretationsKey( keySource );
+		if ( key == null ) {
+			return null;
+		}
+		else {
+			final IdsOnlyQuery query = new IdsOnlyQuery( key.query );
+			return new SqmInterpretationsKey(
+					query,
+					query.hashCode(),
+					key.resultType,
+					key.lockOptions,
+					key.tupleTransformer,
+					key.resultListTransformer,
+					key.enabledFetchProfiles
+			);
+		}
+	}
+
+	/**
+	 * Distinguishes the plan of the query selecting only identifiers from
+	 * the plan of the query it was derived from.
+	 */
+	private static final class IdsOnlyQuery {
+		private final Object query;
+
+		private IdsOnlyQuery(Object query) {
+			this.query = query;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof IdsOnlyQuery that && query.equals( that.query );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * query.hashCode() + 1;
+		}
+	}
+
 	private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<String> set) {
 		if ( set == null ) {
 			return null;
@@ -289,6 +289,10 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 
 	protected List<R> doList() {
 		final SqmSelectStatement<?> statement = getSqmStatement();
+		final List<R> idsOnlyList = listIdsOnly( statement );
+		if ( idsOnlyList != null ) {
+			return idsOnlyList;
+		}
 		final boolean containsCollectionFetches =
 				//TODO: why is this different from QuerySqmImpl.doList()?
 				statement.containsCollectionFetches();
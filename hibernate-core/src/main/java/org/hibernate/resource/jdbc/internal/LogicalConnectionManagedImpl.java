@@ -21,6 +21,8 @@ import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 
 import org.jboss.logging.Logger;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.ConnectionAcquisitionMode.IMMEDIATELY;
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
 import static org.hibernate.ConnectionReleaseMode.BEFORE_TRANSACTION_COMPLETION;
@@ -43,6 +45,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private final transient SqlExceptionHelper sqlExceptionHelper;
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
+	private final transient PreparedStatementCache statementCache;
 
 	private transient Connection physicalConnection;
 	private boolean closed;
@@ -64,6 +67,8 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 		this.sqlExceptionHelper = sqlExceptionHelper;
 
+		this.statementCache = createStatementCache( jdbcSessionContext, resourceRegistry );
+
 		if ( connectionHandlingMode.getAcquisitionMode() == IMMEDIATELY ) {
 			//noinspection resource
 			acquireConnectionIfNeeded();
@@ -105,6 +110,20 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		return connectionHandlingMode;
 	}
 
+	private static @Nullable PreparedStatementCache createStatementCache(
+			JdbcSessionContext jdbcSessionContext,
+			ResourceRegistry resourceRegistry) {
+		final int statementCacheSize = jdbcSessionContext.getStatementCacheSize();
+		if ( statementCacheSize > 0 && resourceRegistry instanceof ResourceRegistryStandardImpl standardRegistry ) {
+			final PreparedStatementCache statementCache = new PreparedStatementCache( statementCacheSize );
+			standardRegistry.enableStatementCache( statementCache );
+			return statementCache;
+		}
+		else {
+			return null;
+		}
+	}
+
 	private LogicalConnectionManagedImpl(
 			JdbcConnectionAccess jdbcConnectionAccess,
 			JdbcSessionContext jdbcSessionContext,
@@ -144,6 +163,17 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		return connectionHandlingMode;
 	}
 
+	/**
+	 * The cache of the prepared statements of this logical connection.
+	 *
+	 * @return the cache, or {@code null} if statement caching is disabled
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	public @Nullable PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	@Override
 	public boolean isPhysicallyConnected() {
 		return physicalConnection != null;
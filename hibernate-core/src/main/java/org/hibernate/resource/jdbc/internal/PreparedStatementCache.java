@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded cache of the prepared statements of a {@linkplain LogicalConnectionManagedImpl
+ * logical connection}, keyed by SQL and {@linkplain Kind kind} of statement.
+ * <p>
+ * A statement {@linkplain #get obtained from} or {@linkplain #put added to} the cache is
+ * in use until it is {@linkplain #release released} by the {@link ResourceRegistryStandardImpl},
+ * when it becomes idle and may be reused, instead of being closed. Only idle statements are
+ * held by the cache, and the least recently used statement is closed when the cache is full.
+ * Idle statements are closed when the resources of the logical connection are released, and
+ * so never outlive the physical connection which prepared them.
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ *
+ * @since 7.0
+ */
+public final class PreparedStatementCache {
+
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	/**
+	 * The kinds of prepared statements which may be cached.
+	 */
+	public enum Kind {
+		/**
+		 * A statement which does not return generated keys.
+		 */
+		STATEMENT,
+		/**
+		 * A statement which returns the keys generated by the database.
+		 */
+		GENERATED_KEYS_STATEMENT,
+		/**
+		 * A statement returning a forward-only, read-only result set.
+		 */
+		QUERY
+	}
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, PreparedStatement> idleStatements;
+	private final HashMap<Statement, Key> statementsInUse = new HashMap<>();
+
+	public PreparedStatementCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * Take the idle statement for the given SQL and kind out of the cache.
+	 *
+	 * @return the statement, now in use, or {@code null} if there is no such idle statement
+	 */
+	public @Nullable PreparedStatement get(String sql, Kind kind) {
+		if ( idleStatements.isEmpty() ) {
+			return null;
+		}
+		final Key key = new Key( sql, kind );
+		final PreparedStatement statement = idleStatements.remove( key );
+		if ( statement != null ) {
+			log.tracef( "Reusing cached prepared statement [%s]", statement );
+			statementsInUse.put( statement, key );
+		}
+		return statement;
+	}
+
+	/**
+	 * Add a newly prepared statement, in use, to the cache.
+	 */
+	public void put(PreparedStatement statement, String sql, Kind kind) {
+		statementsInUse.put( statement, new Key( sql, kind ) );
+	}
+
+	/**
+	 * Return the given statement to the cache, if it was obtained from or added
+	 * to the cache, and it can be cleaned for reuse.
+	 *
+	 * @return {@code true} if the statement is now idle, or {@code false} if the
+	 * statement should be closed
+	 */
+	public boolean release(Statement statement) {
+		final Key key = statementsInUse.remove( statement );
+		if ( key == null || idleStatements.containsKey( key ) || !clean( (PreparedStatement) statement ) ) {
+			return false;
+		}
+		idleStatements.put( key, (PreparedStatement) statement );
+		if ( idleStatements.size() > maxSize ) {
+			final Iterator<PreparedStatement> iterator = idleStatements.values().iterator();
+			final PreparedStatement eldest = iterator.next();
+			iterator.remove();
+			ResourceRegistryStandardImpl.close( eldest );
+		}
+		return true;
+	}
+
+	private static boolean clean(PreparedStatement statement) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != 0 ) {
+				statement.setFetchSize( 0 );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to clean JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	/**
+	 * Close the idle statements, and forget the statements in use, which are
+	 * closed by the {@link ResourceRegistryStandardImpl}.
+	 */
+	public void clear() {
+		if ( !idleStatements.isEmpty() ) {
+			log.tracef( "Closing %s cached prepared statements", idleStatements.size() );
+			idleStatements.forEach( (key, statement) -> ResourceRegistryStandardImpl.close( statement ) );
+			idleStatements.clear();
+		}
+		statementsInUse.clear();
+	}
+
+	/**
+	 * @return the number of idle statements
+	 */
+	public int size() {
+		return idleStatements.size();
+	}
+
+	private static final class Key {
+		private final String sql;
+		private final Kind kind;
+
+		private Key(String sql, Kind kind) {
+			this.sql = sql;
+			this.kind = kind;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Key key
+				&& kind == key.kind
+				&& sql.equals( key.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * sql.hashCode() + kind.hashCode();
+		}
+	}
+}
@@ -11,6 +11,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 
 import org.hibernate.HibernateException;
@@ -31,6 +32,13 @@ import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
  * Iterators on HashMap and ArrayList, but not on HashSet (at least on JDK8 and 11).
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
+ * <p>
+ * Statements are registered and released on every execution, and most
+ * statements have a single result set, so the registered statements are
+ * held in an array, along with either their single result set, or, only
+ * if they have several, a HashMap of their result sets. This avoids any
+ * allocation when registering and releasing statements and result sets
+ * in the common case.
  *
  * @author Steve Ebersole
  * @author Sanne Grinovero
@@ -42,14 +50,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	// Dummy value to associate with an Object in the backing Map when we use it as a set:
 	private static final Object PRESENT = new Object();
 
-	//Used instead of Collections.EMPTY_SET to avoid polymorphic calls on xref;
-	//Also, uses an HashMap as it were an HashSet, as technically we just need the Set semantics
-	//but in this case the overhead of HashSet is not negligible.
-	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
+	private static final int INITIAL_STATEMENT_CAPACITY = 4;
 
 	private final JdbcEventHandler jdbcEventHandler;
 
-	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
+	// the registered statements are held in the first statementCount slots,
+	// and the result sets of each statement in the slot of the same index, as
+	// either null, a single ResultSet, or a HashMap used as a set of ResultSets
+	private Statement[] statements;
+	private Object[] statementResultSets;
+	private int statementCount;
 	private HashMap<ResultSet,Object> unassociatedResultSets;
 
 	private ArrayList<Blob> blobs;
@@ -58,6 +68,8 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	private PreparedStatementCache statementCache;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
@@ -66,9 +78,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		this.jdbcEventHandler = jdbcEventHandler;
 	}
 
+	/**
+	 * Return released statements to the given cache, instead of closing them.
+	 */
+	void enableStatementCache(PreparedStatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
 	@Override
 	public boolean hasRegisteredResources() {
-		return hasRegistered( xref )
+		return statementCount > 0
 			|| hasRegistered( unassociatedResultSets )
 			|| hasRegistered( blobs )
 			|| hasRegistered( clobs )
@@ -79,10 +98,10 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	public void register(Statement statement, boolean cancelable) {
 		log.tracef( "Registering statement [%s]", statement );
 
-		HashMap<ResultSet,Object> previousValue = xref.putIfAbsent( statement, EMPTY );
-		if ( previousValue != null ) {
+		if ( indexOf( statement ) >= 0 ) {
 			throw new HibernateException( "JDBC Statement already registered" );
 		}
+		add( statement, null );
 
 		if ( cancelable ) {
 			lastQuery = statement;
@@ -93,8 +112,10 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
 
-		final HashMap<ResultSet,Object> resultSets = xref.remove( statement );
-		if ( resultSets != null ) {
+		final int index = indexOf( statement );
+		if ( index >= 0 ) {
+			final Object resultSets = statementResultSets[index];
+			remove( index );
 			closeAll( resultSets );
 		}
 		else {
@@ -103,7 +124,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.release( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -123,16 +146,17 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		if ( statement != null ) {
-			final HashMap<ResultSet,Object> resultSets = xref.get( statement );
-			if ( resultSets == null ) {
+			final int index = indexOf( statement );
+			if ( index < 0 ) {
 				log.unregisteredStatement();
 			}
 			else {
-				resultSets.remove( resultSet );
-				if ( resultSets.isEmpty() ) {
+				final Object resultSets = removeResultSet( statementResultSets[index], resultSet );
+				statementResultSets[index] = resultSets;
+				if ( resultSets == null ) {
 					try {
 						if ( statement.isClosed() ) {
-							xref.remove( statement );
+							remove( index );
 						}
 					}
 					catch (SQLException e) {
@@ -150,17 +174,78 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		close( resultSet );
 	}
 
-	private static void closeAll(final HashMap<ResultSet,Object> resultSets) {
-		if ( resultSets == null ) {
-			return;
+	private int indexOf(final Statement statement) {
+		for ( int i = 0; i < statementCount; i++ ) {
+			final Statement registered = statements[i];
+			if ( registered == statement || registered.equals( statement ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void add(final Statement statement, final Object resultSets) {
+		if ( statements == null ) {
+			statements = new Statement[INITIAL_STATEMENT_CAPACITY];
+			statementResultSets = new Object[INITIAL_STATEMENT_CAPACITY];
+		}
+		else if ( statementCount == statements.length ) {
+			statements = Arrays.copyOf( statements, statementCount * 2 );
+			statementResultSets = Arrays.copyOf( statementResultSets, statementCount * 2 );
+		}
+		statements[statementCount] = statement;
+		statementResultSets[statementCount] = resultSets;
+		statementCount++;
+	}
+
+	private void remove(final int index) {
+		final int last = --statementCount;
+		statements[index] = statements[last];
+		statementResultSets[index] = statementResultSets[last];
+		statements[last] = null;
+		statementResultSets[last] = null;
+	}
+
+	private static Object addResultSet(final Object resultSets, final ResultSet resultSet) {
+		if ( resultSets == null || resultSets == resultSet ) {
+			return resultSet;
+		}
+		else if ( resultSets instanceof ResultSet singleResultSet ) {
+			final HashMap<ResultSet,Object> map = new HashMap<>();
+			map.put( singleResultSet, PRESENT );
+			map.put( resultSet, PRESENT );
+			return map;
+		}
+		else {
+			//noinspection unchecked
+			( (HashMap<ResultSet,Object>) resultSets ).put( resultSet, PRESENT );
+			return resultSets;
+		}
+	}
+
+	private static Object removeResultSet(final Object resultSets, final ResultSet resultSet) {
+		if ( resultSets instanceof HashMap<?,?> map ) {
+			map.remove( resultSet );
+			return map.isEmpty() ? null : map;
+		}
+		else if ( resultSets == resultSet || resultSets != null && resultSets.equals( resultSet ) ) {
+			return null;
+		}
+		else {
+			return resultSets;
 		}
-		resultSets.forEach( (resultSet, o) -> close( resultSet ) );
-		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
-		closeAll( r );
-		close( s );
+	private static void closeAll(final Object resultSets) {
+		if ( resultSets instanceof ResultSet resultSet ) {
+			close( resultSet );
+		}
+		else if ( resultSets != null ) {
+			//noinspection unchecked
+			final HashMap<ResultSet,Object> map = (HashMap<ResultSet,Object>) resultSets;
+			map.forEach( (resultSet, o) -> close( resultSet ) );
+			map.clear();
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -226,19 +311,17 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			}
 		}
 		if ( statement != null ) {
-			HashMap<ResultSet,Object> resultSets = xref.get( statement );
+			final int index = indexOf( statement );
 
 			// Keep this at DEBUG level, rather than warn.  Numerous connection pool implementations can return a
 			// proxy/wrapper around the JDBC Statement, causing excessive logging here.  See HHH-8210.
-			if ( resultSets == null ) {
+			if ( index < 0 ) {
 				log.debug( "ResultSet statement was not registered (on register)" );
+				add( statement, resultSet );
 			}
-
-			if ( resultSets == null || resultSets == EMPTY ) {
-				resultSets = new HashMap<>();
-				xref.put( statement, resultSets );
+			else {
+				statementResultSets[index] = addResultSet( statementResultSets[index], resultSet );
 			}
-			resultSets.put( resultSet, PRESENT );
 		}
 		else {
 			if ( unassociatedResultSets == null ) {
@@ -329,8 +412,17 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcEventHandler.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
-		xref.clear();
+		for ( int i = 0; i < statementCount; i++ ) {
+			closeAll( statementResultSets[i] );
+			close( statements[i] );
+			statements[i] = null;
+			statementResultSets[i] = null;
+		}
+		statementCount = 0;
+
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
 
 		closeAll( unassociatedResultSets );
 
@@ -6,6 +6,7 @@ package org.hibernate.sql.exec.spi;
 
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -58,6 +59,30 @@ public interface ExecutionContext {
 		return null;
 	}
 
+	/**
+	 * The managed instance whose state is being refreshed, and which should be
+	 * initialized instead of instantiating a new one, when the entity with the
+	 * given key is read, or {@code null} if the entity is not being refreshed.
+	 * <p>
+	 * This allows the state of several entities to be refreshed by a single
+	 * select, unlike {@link #getEntityInstance()}, which identifies only one.
+	 *
+	 * @since 7.0
+	 */
+	default Object getEntityInstanceToRefresh(EntityKey entityKey) {
+		return null;
+	}
+
+	/**
+	 * Does {@link #getEntityInstanceToRefresh(EntityKey)} identify any
+	 * instances whose state is being refreshed?
+	 *
+	 * @since 7.0
+	 */
+	default boolean hasEntityInstancesToRefresh() {
+		return false;
+	}
+
 	default String getEntityUniqueKeyAttributePath() {
 		return null;
 	}
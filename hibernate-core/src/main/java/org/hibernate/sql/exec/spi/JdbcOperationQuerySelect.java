@@ -27,6 +27,9 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
 
+	// the typical number of rows read by the executions of this select, or -1
+	private volatile int rowCountEstimate = -1;
+
 	public JdbcOperationQuerySelect(
 			String sql,
 			List<JdbcParameterBinder> parameterBinders,
@@ -94,6 +97,34 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * The typical number of rows read by the previous executions of this select.
+	 *
+	 * @return the estimate, or {@code -1} if no execution was recorded
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#ADAPTIVE_FETCH_SIZE_MAX
+	 *
+	 * @since 7.0
+	 */
+	public int getRowCountEstimate() {
+		return rowCountEstimate;
+	}
+
+	/**
+	 * Record the number of rows read by an execution of this select. The estimate
+	 * rises at once to a larger row count, and decays slowly toward smaller ones,
+	 * so that an occasional small result does not cause extra round trips for the
+	 * large results which follow.
+	 *
+	 * @since 7.0
+	 */
+	public void recordRowCount(int rowCount) {
+		final int estimate = rowCountEstimate;
+		rowCountEstimate = estimate < 0 || rowCount >= estimate
+				? rowCount
+				: estimate - ( estimate - rowCount + 3 ) / 4;
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
@@ -19,13 +19,30 @@ import org.hibernate.sql.model.internal.TableDeleteStandard;
  * @author Marco Belladelli
  */
 public class CollectionRowDeleteBuilder extends TableDeleteBuilderStandard {
+	private final Expectation expectation;
+
 	public CollectionRowDeleteBuilder(
 			MutationTarget<?> mutationTarget,
 			MutatingTableReference tableReference,
 			SessionFactoryImplementor sessionFactory,
 			String whereFragment) {
+		this( mutationTarget, tableReference, sessionFactory, whereFragment, null );
+	}
+
+	/**
+	 * Creates the builder, using the given expectation instead of the one
+	 * of the {@linkplain CollectionTableMapping#getDeleteRowDetails() row
+	 * delete details}, unless it is {@code null}.
+	 */
+	public CollectionRowDeleteBuilder(
+			MutationTarget<?> mutationTarget,
+			MutatingTableReference tableReference,
+			SessionFactoryImplementor sessionFactory,
+			String whereFragment,
+			Expectation expectation) {
 		super( mutationTarget, tableReference, sessionFactory, whereFragment );
 		assert tableReference.getTableMapping() instanceof CollectionTableMapping;
+		this.expectation = expectation;
 	}
 
 	@Override
@@ -56,6 +73,9 @@ public class CollectionRowDeleteBuilder extends TableDeleteBuilderStandard {
 				}
 			};
 		}
+		final Expectation expectation = this.expectation == null
+				? tableMapping.getDeleteRowDetails().getExpectation()
+				: this.expectation;
 		return new TableDeleteStandard(
 				getMutatingTable(),
 				getMutationTarget(),
@@ -67,7 +87,7 @@ public class CollectionRowDeleteBuilder extends TableDeleteBuilderStandard {
 		) {
 			@Override
 			public Expectation getExpectation() {
-				return tableMapping.getDeleteRowDetails().getExpectation();
+				return expectation;
 			}
 		};
 	}
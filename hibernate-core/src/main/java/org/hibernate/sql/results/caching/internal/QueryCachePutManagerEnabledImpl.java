@@ -11,6 +11,7 @@ import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesColumns;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -25,6 +26,8 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final int columnarThreshold;
+	private final int offset;
 	private final List<Object> dataToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
@@ -33,12 +36,27 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			QueryKey queryKey,
 			String queryIdentifier,
 			CachedJdbcValuesMetadata metadataForCache) {
+		this( queryCache, statistics, queryKey, queryIdentifier, metadataForCache, 0 );
+	}
+
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			CachedJdbcValuesMetadata metadataForCache,
+			int columnarThreshold) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.columnarThreshold = columnarThreshold;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
+			offset = 1;
+		}
+		else {
+			offset = 0;
 		}
 	}
 
@@ -55,6 +73,9 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	@Override
 	public void finishUp(int resultCount, SharedSessionContractImplementor session) {
 		if ( !dataToCache.isEmpty() ) {
+			if ( columnarThreshold > 0 && dataToCache.size() - offset >= columnarThreshold ) {
+				encodeColumns();
+			}
 			dataToCache.add( resultCount );
 		}
 		final boolean put = queryCache.put(
@@ -66,4 +87,14 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
 		}
 	}
+
+	private void encodeColumns() {
+		final List<Object> rows = dataToCache.subList( offset, dataToCache.size() );
+		final CachedJdbcValuesColumns columns = CachedJdbcValuesColumns.encode( rows );
+		if ( columns != null ) {
+			// the encoded rows stand in for the rows, see JdbcValuesCacheHit
+			rows.clear();
+			dataToCache.add( columns );
+		}
+	}
 }
@@ -14,6 +14,8 @@ import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
@@ -81,6 +83,75 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return (J) jdbcValue;
 	}
 
+	/**
+	 * The primitive type corresponding to the assembled Java type, if
+	 * the values can be read unboxed using {@link #assembleLong} and
+	 * {@link #assembleDouble}, or {@code null} if they cannot.
+	 */
+	public @Nullable Class<?> getPrimitiveType() {
+		if ( valueConverter != null ) {
+			return null;
+		}
+		final Class<?> javaTypeClass = assembledJavaType.getJavaTypeClass();
+		if ( javaTypeClass == Integer.class ) {
+			return int.class;
+		}
+		else if ( javaTypeClass == Long.class ) {
+			return long.class;
+		}
+		else if ( javaTypeClass == Short.class ) {
+			return short.class;
+		}
+		else if ( javaTypeClass == Byte.class ) {
+			return byte.class;
+		}
+		else if ( javaTypeClass == Double.class ) {
+			return double.class;
+		}
+		else if ( javaTypeClass == Float.class ) {
+			return float.class;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Read the integral value without boxing it, returning zero for {@code null}.
+	 *
+	 * @see #getPrimitiveType()
+	 * @see #isNull(RowProcessingState)
+	 */
+	public long assembleLong(RowProcessingState rowProcessingState) {
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.getJdbcLongValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Read the floating point value without boxing it, returning zero for {@code null}.
+	 *
+	 * @see #getPrimitiveType()
+	 * @see #isNull(RowProcessingState)
+	 */
+	public double assembleDouble(RowProcessingState rowProcessingState) {
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.getJdbcDoubleValue( valuesArrayPosition );
+	}
+
+	/**
+	 * Whether the value is {@code null}.
+	 */
+	public boolean isNull(RowProcessingState rowProcessingState) {
+		if ( unwrapRowProcessingState ) {
+			rowProcessingState = rowProcessingState.unwrap();
+		}
+		return rowProcessingState.isJdbcValueNull( valuesArrayPosition );
+	}
+
 	@Override
 	public void resolveState(RowProcessingState rowProcessingState) {
 		extractRawValue( rowProcessingState );
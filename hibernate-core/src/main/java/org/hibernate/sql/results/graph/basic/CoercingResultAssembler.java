@@ -8,6 +8,8 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@link BasicResultAssembler} which does type coercion to handle cases
  * where the expression type and the expected result {@link JavaType} are different
@@ -24,6 +26,12 @@ public class CoercingResultAssembler<J> extends BasicResultAssembler<J> {
 		super( valuesArrayPosition, assembledJavaType, valueConverter, nestedInAggregateComponent );
 	}
 
+	@Override
+	public @Nullable Class<?> getPrimitiveType() {
+		// the raw values need to be coerced
+		return null;
+	}
+
 	/**
 	 * Access to the row value, coerced to expected type
 	 */
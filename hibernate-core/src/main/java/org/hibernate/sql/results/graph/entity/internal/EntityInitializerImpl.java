@@ -20,6 +20,7 @@ import org.hibernate.WrongClassException;
 import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -27,6 +28,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
+import org.hibernate.engine.spi.HashedSnapshot;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionEventListenerManager;
@@ -65,6 +67,7 @@ import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerData;
 import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.graph.UnfetchedResultAssembler;
 import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.collection.internal.AbstractImmediateCollectionInitializer;
 import org.hibernate.sql.results.graph.embeddable.EmbeddableInitializer;
@@ -73,9 +76,11 @@ import org.hibernate.sql.results.graph.entity.EntityResultGraphNode;
 import org.hibernate.sql.results.graph.internal.AbstractInitializer;
 import org.hibernate.sql.results.internal.NullValueAssembler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
 
 import org.checkerframework.checker.nullness.qual.EnsuresNonNull;
@@ -136,6 +141,8 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 	private final MutabilityPlan<Object>[][] updatableAttributeMutabilityPlans;
 	private final ImmutableBitSet[] lazySets;
 	private final ImmutableBitSet[] maybeLazySets;
+	// attributes which are not mapped as lazy, but were left unfetched by a fetch graph
+	private final ImmutableBitSet[] graphUnfetchedSets;
 	private final boolean hasLazySubInitializers;
 
 	public static class EntityInitializerData extends InitializerData {
@@ -289,6 +296,7 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 		final Initializer<?>[][] collectionContainingSubInitializers = new Initializer<?>[subMappingTypes.size() + 1][];
 		final BitSet[] lazySets = new BitSet[subMappingTypes.size() + 1];
 		final BitSet[] maybeLazySets = new BitSet[subMappingTypes.size() + 1];
+		final BitSet[] graphUnfetchedSets = new BitSet[subMappingTypes.size() + 1];
 		final MutabilityPlan[][] updatableAttributeMutabilityPlans = new MutabilityPlan[subMappingTypes.size() + 1][];
 		assemblers[rootEntityDescriptor.getSubclassId()] =
 				new DomainResultAssembler[rootEntityDescriptor.getNumberOfFetchables()];
@@ -346,6 +354,16 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 				}
 			}
 
+			final boolean graphUnfetched = stateAssembler instanceof UnfetchedResultAssembler<?>
+					&& !declaringType.getEntityPersister().getBytecodeEnhancementMetadata()
+							.getLazyAttributesMetadata().isLazyAttribute( attributeMapping.getAttributeName() );
+			if ( graphUnfetched ) {
+				if ( graphUnfetchedSets[subclassId] == null ) {
+					graphUnfetchedSets[subclassId] = new BitSet( size );
+				}
+				graphUnfetchedSets[subclassId].set( stateArrayPosition );
+			}
+
 			assemblers[subclassId][stateArrayPosition] = stateAssembler;
 			final AttributeMetadata attributeMetadata = attributeMapping.getAttributeMetadata();
 			if ( attributeMetadata.isUpdatable() ) {
@@ -355,6 +373,12 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 				assemblers[subMappingType.getSubclassId()][stateArrayPosition] = stateAssembler;
 				updatableAttributeMutabilityPlans[subMappingType.getSubclassId()][stateArrayPosition] =
 						updatableAttributeMutabilityPlans[subclassId][stateArrayPosition];
+				if ( graphUnfetched ) {
+					if ( graphUnfetchedSets[subMappingType.getSubclassId()] == null ) {
+						graphUnfetchedSets[subMappingType.getSubclassId()] = new BitSet( size );
+					}
+					graphUnfetchedSets[subMappingType.getSubclassId()].set( stateArrayPosition );
+				}
 				if ( subInitializer != null ) {
 					if ( subInitializers[subMappingType.getSubclassId()] == null ) {
 						subInitializers[subMappingType.getSubclassId()] = new Initializer<?>[size];
@@ -431,6 +455,9 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 		this.maybeLazySets = Arrays.stream( maybeLazySets )
 				.map( ImmutableBitSet::valueOf )
 				.toArray( ImmutableBitSet[]::new );
+		this.graphUnfetchedSets = Arrays.stream( graphUnfetchedSets )
+				.map( set -> set == null ? ImmutableBitSet.EMPTY : ImmutableBitSet.valueOf( set ) )
+				.toArray( ImmutableBitSet[]::new );
 		this.hasLazySubInitializers = hasLazySubInitializers;
 		this.updatableAttributeMutabilityPlans = updatableAttributeMutabilityPlans;
 		this.notFoundAction = notFoundAction;
@@ -797,15 +824,22 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 		return isResultInitializer;
 	}
 
-	private void deepCopy(EntityPersister containerDescriptor, Object[] source, Object[] target) {
+	private void deepCopy(
+			EntityPersister containerDescriptor,
+			Object[] source,
+			Object[] target,
+			SharedSessionContractImplementor session) {
 		final MutabilityPlan<Object>[] updatableAttributeMutabilityPlan =
 				updatableAttributeMutabilityPlans[containerDescriptor.getSubclassId()];
+		final JavaType<?>[] hashedSnapshotJavaTypes = HashedSnapshot.getJavaTypes( containerDescriptor, session );
 		for ( int i = 0; i < updatableAttributeMutabilityPlan.length; i++ ) {
 			final Object sourceValue = source[i];
 			if ( updatableAttributeMutabilityPlan[i] != null
 					&& sourceValue != LazyPropertyInitializer.UNFETCHED_PROPERTY
 					&& sourceValue != PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
-				target[i] = updatableAttributeMutabilityPlan[i].deepCopy( source[i] );
+				target[i] = hashedSnapshotJavaTypes != null && hashedSnapshotJavaTypes[i] != null
+						? HashedSnapshot.of( sourceValue, hashedSnapshotJavaTypes[i] )
+						: updatableAttributeMutabilityPlan[i].deepCopy( sourceValue );
 			}
 		}
 	}
@@ -1260,15 +1294,19 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 	}
 
 	private Object resolveToOptionalInstance(EntityInitializerData data) {
+		final JdbcValuesSourceProcessingState processingState =
+				data.getRowProcessingState().getJdbcValuesSourceProcessingState();
 		if ( isResultInitializer() ) {
 			// this isEntityReturn bit is just for entity loaders, not hql/criteria
-			final JdbcValuesSourceProcessingOptions processingOptions =
-					data.getRowProcessingState().getJdbcValuesSourceProcessingState().getProcessingOptions();
-			return matchesOptionalInstance( data, processingOptions ) ? processingOptions.getEffectiveOptionalObject() : null;
-		}
-		else {
-			return null;
+			final JdbcValuesSourceProcessingOptions processingOptions = processingState.getProcessingOptions();
+			if ( matchesOptionalInstance( data, processingOptions ) ) {
+				return processingOptions.getEffectiveOptionalObject();
+			}
 		}
+		// one of several instances refreshed together
+		return processingState.hasEntityInstancesToRefresh()
+				? processingState.getExecutionContext().getEntityInstanceToRefresh( data.entityKey )
+				: null;
 	}
 
 	private boolean matchesOptionalInstance(
@@ -1351,6 +1389,7 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 				data.concreteDescriptor.getBytecodeEnhancementMetadata()
 						.injectInterceptor( entityInstanceForNotify, entityIdentifier, session );
 			}
+			markGraphUnfetchedAttributes( data, entityInstanceForNotify );
 		}
 		data.concreteDescriptor.setPropertyValues( entityInstanceForNotify, resolvedEntityState );
 
@@ -1404,13 +1443,34 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 		);
 	}
 
+	/**
+	 * Register the attributes left unfetched by a fetch graph as lazy attributes
+	 * of the interceptor, so that they are loaded when first accessed.
+	 */
+	private void markGraphUnfetchedAttributes(EntityInitializerData data, Object entityInstance) {
+		final ImmutableBitSet graphUnfetchedSet = graphUnfetchedSets[data.concreteDescriptor.getSubclassId()];
+		if ( !graphUnfetchedSet.isEmpty()
+				&& asPersistentAttributeInterceptable( entityInstance ).$$_hibernate_getInterceptor()
+						instanceof LazyAttributeLoadingInterceptor interceptor ) {
+			final int size = data.concreteDescriptor.getNumberOfAttributeMappings();
+			for ( int i = 0; i < size; i++ ) {
+				if ( graphUnfetchedSet.get( i ) ) {
+					interceptor.addLazyFieldByGraph( data.concreteDescriptor.getAttributeMapping( i ).getAttributeName() );
+				}
+			}
+		}
+	}
+
 	protected void updateCaches(
 			EntityInitializerData data,
 			SharedSessionContractImplementor session,
 			PersistenceContext persistenceContext,
 			Object[] resolvedEntityState,
 			Object version) {
+		// The cached state of attributes left unfetched by a fetch graph could
+		// not be told apart from the cached state of uninitialized lazy attributes
 		if ( data.concreteDescriptor.canWriteToCache()
+				&& graphUnfetchedSets[data.concreteDescriptor.getSubclassId()].isEmpty()
 				// No need to put into the entity cache if this is coming from the query cache already
 				&& !data.getRowProcessingState().isQueryCacheHit()
 				&& session.getCacheMode().isPutEnabled() ) {
@@ -1448,7 +1508,7 @@ public class EntityInitializerImpl extends AbstractInitializer<EntityInitializer
 		}
 		else {
 			//take a snapshot
-			deepCopy( data.concreteDescriptor, resolvedEntityState, resolvedEntityState );
+			deepCopy( data.concreteDescriptor, resolvedEntityState, resolvedEntityState, session );
 			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
 		}
 	}
@@ -4,26 +4,37 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.setterHandle;
+
 /**
  * @author Steve Ebersole
  */
 class BeanInjectorField<T> implements BeanInjector<T> {
-	private final Field field;
+	private final MethodHandle setter;
 
 	public BeanInjectorField(Field field) {
-		this.field = field;
+		try {
+			this.setter = setterHandle( field );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Error performing the dynamic instantiation", e );
+		}
 	}
 
 	@Override
 	public void inject(T target, Object value) {
 		try {
-			field.set( target, value );
+			setter.invokeExact( (Object) target, value );
+		}
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Error performing the dynamic instantiation", e );
 		}
 	}
@@ -4,30 +4,37 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.setterHandle;
+
 /**
  * @author Steve Ebersole
  */
 class BeanInjectorSetter<T> implements BeanInjector<T> {
-	private final Method setter;
+	private final MethodHandle setter;
 
 	public BeanInjectorSetter(Method setter) {
-		this.setter = setter;
+		try {
+			this.setter = setterHandle( setter );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Error performing the dynamic instantiation", e );
+		}
 	}
 
 	@Override
 	public void inject(T target, Object value) {
 		try {
-			setter.invoke( target, value );
+			setter.invokeExact( (Object) target, value );
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error performing the dynamic instantiation", e.getCause() );
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Error performing the dynamic instantiation", e );
 		}
 	}
@@ -4,22 +4,63 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /**
+ * Instantiates the result by calling a constructor through a method handle
+ * of type {@code (RowProcessingState)Object}, which reads every argument
+ * and passes it to the constructor. Arguments of primitive numeric
+ * constructor parameters which are basic values are read without boxing
+ * them.
+ *
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
+	private static final MethodHandle ASSEMBLE;
+	private static final MethodHandle READ_LONG;
+	private static final MethodHandle READ_DOUBLE;
+
+	static {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			ASSEMBLE = lookup.findVirtual(
+					DomainResultAssembler.class,
+					"assemble",
+					methodType( Object.class, RowProcessingState.class )
+			);
+			READ_LONG = lookup.findStatic(
+					DynamicInstantiationAssemblerConstructorImpl.class,
+					"readLong",
+					methodType( long.class, BasicResultAssembler.class, RowProcessingState.class )
+			);
+			READ_DOUBLE = lookup.findStatic(
+					DynamicInstantiationAssemblerConstructorImpl.class,
+					"readDouble",
+					methodType( double.class, BasicResultAssembler.class, RowProcessingState.class )
+			);
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new AssertionFailure( "Could not resolve method handles for dynamic instantiation", e );
+		}
+	}
+
 	private final Constructor<R> targetConstructor;
+	private final MethodHandle instantiator;
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
 
@@ -28,31 +69,91 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 			JavaType<R> resultType,
 			List<ArgumentReader<?>> argumentReaders) {
 		this.targetConstructor = targetConstructor;
+		try {
+			this.instantiator = instantiator( targetConstructor, argumentReaders );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Error instantiating class '"
+					+ targetConstructor.getDeclaringClass().getName() + "'", e );
+		}
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
 	}
 
+	private static MethodHandle instantiator(Constructor<?> constructor, List<ArgumentReader<?>> argumentReaders)
+			throws IllegalAccessException {
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		final MethodHandle[] readers = new MethodHandle[parameterTypes.length];
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			readers[i] = reader( argumentReaders.get( i ), parameterTypes[i] );
+		}
+		final MethodHandle instantiator = MethodHandles.filterArguments(
+				MethodHandles.lookup().unreflectConstructor( constructor ).asFixedArity(),
+				0,
+				readers
+		);
+		// every reader gets the same row processing state
+		return MethodHandles.permuteArguments(
+				instantiator,
+				methodType( constructor.getDeclaringClass(), RowProcessingState.class ),
+				new int[parameterTypes.length]
+		).asType( methodType( Object.class, RowProcessingState.class ) );
+	}
+
+	private static MethodHandle reader(ArgumentReader<?> argumentReader, Class<?> parameterType) {
+		if ( parameterType.isPrimitive()
+				&& argumentReader.getDelegateAssembler() instanceof BasicResultAssembler<?> basicResultAssembler
+				&& basicResultAssembler.getPrimitiveType() == parameterType ) {
+			final MethodHandle reader = parameterType == double.class || parameterType == float.class
+					? READ_DOUBLE
+					: READ_LONG;
+			// narrowing is lossless, since the value was read from a column of the parameter type
+			return MethodHandles.explicitCastArguments(
+					reader.bindTo( basicResultAssembler ),
+					methodType( parameterType, RowProcessingState.class )
+			);
+		}
+		else {
+			return ASSEMBLE.bindTo( argumentReader )
+					.asType( methodType( parameterType, RowProcessingState.class ) );
+		}
+	}
+
+	private static long readLong(BasicResultAssembler<?> assembler, RowProcessingState rowProcessingState) {
+		final long value = assembler.assembleLong( rowProcessingState );
+		if ( value == 0L && assembler.isNull( rowProcessingState ) ) {
+			throw new IllegalArgumentException( "Null value for a primitive constructor parameter" );
+		}
+		return value;
+	}
+
+	private static double readDouble(BasicResultAssembler<?> assembler, RowProcessingState rowProcessingState) {
+		final double value = assembler.assembleDouble( rowProcessingState );
+		if ( value == 0d && assembler.isNull( rowProcessingState ) ) {
+			throw new IllegalArgumentException( "Null value for a primitive constructor parameter" );
+		}
+		return value;
+	}
+
 	@Override
 	public JavaType<R> getAssembledJavaType() {
 		return resultType;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public R assemble(RowProcessingState rowProcessingState) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
-		for ( int i = 0; i < numberOfArgs; i++ ) {
-			args[i] = argumentReaders.get( i ).assemble( rowProcessingState );
-		}
-
 		try {
-			return targetConstructor.newInstance( args );
+			return (R) instantiator.invokeExact( rowProcessingState );
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e.getCause() );
+		catch (HibernateException e) {
+			// a problem reading the arguments
+			throw e;
+		}
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Error instantiating class '"
 					+ targetConstructor.getDeclaringClass().getName() + "'", e );
 		}
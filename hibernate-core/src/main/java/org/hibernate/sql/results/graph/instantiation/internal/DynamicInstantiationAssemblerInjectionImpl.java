@@ -6,9 +6,9 @@ package org.hibernate.sql.results.graph.instantiation.internal;
 
 import java.beans.BeanInfo;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +21,7 @@ import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.defaultConstructorHandle;
 import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.findField;
 import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.propertyMatches;
 
@@ -30,6 +31,9 @@ import static org.hibernate.sql.results.graph.instantiation.internal.Instantiati
 public class DynamicInstantiationAssemblerInjectionImpl<T> implements DomainResultAssembler<T> {
 	private final JavaType<T> target;
 	private final List<BeanInjection> beanInjections;
+	// resolved once, the failure is only reported when a row is assembled
+	private final MethodHandle instantiator;
+	private final Exception instantiatorFailure;
 
 	public DynamicInstantiationAssemblerInjectionImpl(
 			JavaType<T> target,
@@ -50,11 +54,21 @@ public class DynamicInstantiationAssemblerInjectionImpl<T> implements DomainResu
 			throw new IllegalStateException( "The number of readers did not match the number of injections" );
 		}
 		this.beanInjections = beanInjections;
-	}
 
-	private DynamicInstantiationAssemblerInjectionImpl(List<BeanInjection> beanInjections, JavaType<T> target) {
-		this.target = target;
-		this.beanInjections = beanInjections;
+		MethodHandle instantiator;
+		Exception instantiatorFailure;
+		try {
+			final Constructor<?> constructor = targetJavaType.getDeclaredConstructor();
+			constructor.setAccessible( true );
+			instantiator = defaultConstructorHandle( constructor );
+			instantiatorFailure = null;
+		}
+		catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+			instantiator = null;
+			instantiatorFailure = e;
+		}
+		this.instantiator = instantiator;
+		this.instantiatorFailure = instantiatorFailure;
 	}
 
 	private static BeanInjection injection(BeanInfo beanInfo, ArgumentReader<?> argument, Class<?> targetJavaType) {
@@ -90,14 +104,19 @@ public class DynamicInstantiationAssemblerInjectionImpl<T> implements DomainResu
 	@Override
 	@SuppressWarnings("unchecked")
 	public T assemble(RowProcessingState rowProcessingState) {
+		if ( instantiator == null ) {
+			throw new InstantiationException( "Error instantiating class '"
+					+ target.getTypeName() + "' using default constructor: " + instantiatorFailure.getMessage(),
+					instantiatorFailure );
+		}
 		final T result;
 		try {
-			final Constructor<T> constructor = target.getJavaTypeClass().getDeclaredConstructor();
-			constructor.setAccessible( true );
-			result = constructor.newInstance();
+			result = (T) instantiator.invokeExact();
+		}
+		catch (Error e) {
+			throw e;
 		}
-		catch ( NoSuchMethodException | IllegalAccessException | InvocationTargetException | InstantiationException
-				| java.lang.InstantiationException e ) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Error instantiating class '"
 					+ target.getTypeName() + "' using default constructor: " + e.getMessage(), e );
 		}
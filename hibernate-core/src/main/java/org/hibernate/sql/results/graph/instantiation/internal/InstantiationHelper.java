@@ -10,11 +10,15 @@ import org.jboss.logging.Logger;
 
 import java.beans.BeanInfo;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.List;
 
+import static java.lang.invoke.MethodType.methodType;
 import static org.hibernate.query.sqm.tree.expression.Compatibility.areAssignmentCompatible;
 
 /**
@@ -113,6 +117,56 @@ public class InstantiationHelper {
 		return null;
 	}
 
+	/**
+	 * Create a {@link MethodHandle} of type {@code (Object[])Object} invoking
+	 * the given constructor with the elements of the argument array.
+	 * <p>
+	 * The handle is meant to be created once, when the plan is built, and
+	 * avoids the access checks and argument copying of
+	 * {@link Constructor#newInstance} for every row. Canonical constructors
+	 * of records are handled in the same way.
+	 *
+	 * @throws IllegalAccessException if the constructor is not accessible
+	 */
+	public static MethodHandle constructorHandle(Constructor<?> constructor) throws IllegalAccessException {
+		return MethodHandles.lookup().unreflectConstructor( constructor )
+				.asSpreader( Object[].class, constructor.getParameterCount() )
+				.asType( methodType( Object.class, Object[].class ) );
+	}
+
+	/**
+	 * Create a {@link MethodHandle} of type {@code ()Object} invoking the
+	 * given no-argument constructor.
+	 *
+	 * @throws IllegalAccessException if the constructor is not accessible
+	 */
+	static MethodHandle defaultConstructorHandle(Constructor<?> constructor) throws IllegalAccessException {
+		return MethodHandles.lookup().unreflectConstructor( constructor )
+				.asType( methodType( Object.class ) );
+	}
+
+	/**
+	 * Create a {@link MethodHandle} of type {@code (Object,Object)void}
+	 * invoking the given setter.
+	 *
+	 * @throws IllegalAccessException if the setter is not accessible
+	 */
+	static MethodHandle setterHandle(Method setter) throws IllegalAccessException {
+		return MethodHandles.lookup().unreflect( setter )
+				.asType( methodType( void.class, Object.class, Object.class ) );
+	}
+
+	/**
+	 * Create a {@link MethodHandle} of type {@code (Object,Object)void}
+	 * assigning the given field.
+	 *
+	 * @throws IllegalAccessException if the field is not accessible
+	 */
+	static MethodHandle setterHandle(Field field) throws IllegalAccessException {
+		return MethodHandles.lookup().unreflectSetter( field )
+				.asType( methodType( void.class, Object.class, Object.class ) );
+	}
+
 	static boolean propertyMatches(String alias, Class<?> argType, PropertyDescriptor propertyDescriptor) {
 		return alias.equals( propertyDescriptor.getName() )
 			&& propertyDescriptor.getWriteMethod() != null
@@ -53,8 +53,12 @@ public class ResultsHelper {
 			Class<R> transformedResultJavaType,
 			JdbcValuesMapping jdbcValuesMapping) {
 		final JdbcValuesMappingResolution jdbcValuesMappingResolution = jdbcValuesMapping.resolveAssemblers( sessionFactory );
+		final int optimizationThreshold = sessionFactory.getSessionFactoryOptions().getRowReaderOptimizationThreshold();
 		return new StandardRowReader<>(
 				jdbcValuesMappingResolution,
+				optimizationThreshold > 0
+						? jdbcValuesMappingResolution.resolveRowReaderOptimizer( optimizationThreshold, sessionFactory )
+						: null,
 				rowTransformer,
 				transformedResultJavaType
 		);
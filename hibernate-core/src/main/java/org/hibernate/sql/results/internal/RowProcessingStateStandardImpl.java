@@ -150,6 +150,21 @@ public class RowProcessingStateStandardImpl extends BaseExecutionContext impleme
 		return jdbcValues.getCurrentRowValue( position );
 	}
 
+	@Override
+	public long getJdbcLongValue(int position) {
+		return jdbcValues.getCurrentRowLongValue( position );
+	}
+
+	@Override
+	public double getJdbcDoubleValue(int position) {
+		return jdbcValues.getCurrentRowDoubleValue( position );
+	}
+
+	@Override
+	public boolean isJdbcValueNull(int position) {
+		return jdbcValues.isCurrentRowValueNull( position );
+	}
+
 	@Override
 	public void registerNonExists(EntityFetch fetch) {
 	}
@@ -8,6 +8,7 @@ import jakarta.persistence.TupleElement;
 import org.hibernate.InstantiationException;
 import org.hibernate.sql.results.spi.RowTransformer;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.util.List;
 
@@ -15,6 +16,7 @@ import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.tree.SqmExpressibleAccessor;
 
 import static org.hibernate.query.sqm.tree.expression.Compatibility.areAssignmentCompatible;
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.constructorHandle;
 
 /**
  * {@link RowTransformer} instantiating an arbitrary class
@@ -23,7 +25,7 @@ import static org.hibernate.query.sqm.tree.expression.Compatibility.areAssignmen
  */
 public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	private final Class<T> type;
-	private final Constructor<T> constructor;
+	private final MethodHandle constructor;
 
 	public RowTransformerConstructorImpl(Class<T> type, TupleMetadata tupleMetadata) {
 		this.type = type;
@@ -37,8 +39,9 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 			throw new InstantiationException( "Cannot instantiate query result type, argument types are unknown ", type );
 		}
 		try {
-			constructor = findMatchingConstructor( type, sig );
-			constructor.setAccessible( true );
+			final Constructor<T> matchingConstructor = findMatchingConstructor( type, sig );
+			matchingConstructor.setAccessible( true );
+			constructor = constructorHandle( matchingConstructor );
 		}
 		catch (Exception e) {
 			//TODO try again with primitive types
@@ -88,11 +91,15 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public T transformRow(Object[] row) {
 		try {
-			return constructor.newInstance( row );
+			return (T) constructor.invokeExact( row );
 		}
-		catch (Exception e) {
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
 			throw new InstantiationException( "Cannot instantiate query result type", type, e );
 		}
 	}
@@ -8,6 +8,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
@@ -34,6 +35,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final Initializer<InitializerData>[] sortedForResolveInstance;
 	private final InitializerData[] sortedForResolveInstanceData;
 	private final boolean hasCollectionInitializers;
+	private final @Nullable RowReaderOptimizer optimizer;
 	private final @Nullable RowTransformer<T> rowTransformer;
 	private final Class<T> domainResultJavaType;
 
@@ -44,12 +46,21 @@ public class StandardRowReader<T> implements RowReader<T> {
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
+		this( jdbcValuesMappingResolution, null, rowTransformer, domainResultJavaType );
+	}
+
+	public StandardRowReader(
+			JdbcValuesMappingResolution jdbcValuesMappingResolution,
+			@Nullable RowReaderOptimizer optimizer,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
 		this(
 				jdbcValuesMappingResolution.getDomainResultAssemblers(),
 				jdbcValuesMappingResolution.getResultInitializers(),
 				jdbcValuesMappingResolution.getInitializers(),
 				jdbcValuesMappingResolution.getSortedForResolveInstance(),
 				jdbcValuesMappingResolution.hasCollectionInitializers(),
+				optimizer,
 				rowTransformer,
 				domainResultJavaType
 		);
@@ -63,6 +74,27 @@ public class StandardRowReader<T> implements RowReader<T> {
 			boolean hasCollectionInitializers,
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
+		this(
+				resultAssemblers,
+				resultInitializers,
+				initializers,
+				sortedForResolveInitializers,
+				hasCollectionInitializers,
+				null,
+				rowTransformer,
+				domainResultJavaType
+		);
+	}
+
+	private StandardRowReader(
+			DomainResultAssembler<?>[] resultAssemblers,
+			Initializer<?>[] resultInitializers,
+			Initializer<?>[] initializers,
+			Initializer<?>[] sortedForResolveInitializers,
+			boolean hasCollectionInitializers,
+			@Nullable RowReaderOptimizer optimizer,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
 		this.resultAssemblers = resultAssemblers;
 		this.resultInitializers = (Initializer<InitializerData>[]) resultInitializers;
 		this.resultInitializersData = new InitializerData[resultInitializers.length];
@@ -71,6 +103,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.sortedForResolveInstance = (Initializer<InitializerData>[]) sortedForResolveInitializers;
 		this.sortedForResolveInstanceData = new InitializerData[sortedForResolveInstance.length];
 		this.hasCollectionInitializers = hasCollectionInitializers;
+		this.optimizer = optimizer;
 		this.rowTransformer = rowTransformer == RowTransformerArrayImpl.instance() && resultAssemblers.length != 1
 				|| rowTransformer == RowTransformerStandardImpl.instance()
 				|| rowTransformer == RowTransformerSingularReturnImpl.instance() && resultAssemblers.length == 1
@@ -140,12 +173,19 @@ public class StandardRowReader<T> implements RowReader<T> {
 		else {
 			if ( resultAssemblers.length == 1 && rowTransformer == null ) {
 				//noinspection unchecked
-				result = (T) resultAssemblers[0].assemble( rowProcessingState );
+				result = optimizer == null
+						? (T) resultAssemblers[0].assemble( rowProcessingState )
+						: (T) optimizer.assembleFirst( rowProcessingState );
 			}
 			else {
 				final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
-				for ( int i = 0; i < resultAssemblers.length; i++ ) {
-					resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+				if ( optimizer == null ) {
+					for ( int i = 0; i < resultAssemblers.length; i++ ) {
+						resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+					}
+				}
+				else {
+					optimizer.assembleRow( rowProcessingState, resultRow );
 				}
 				//noinspection unchecked
 				result = rowTransformer == null
@@ -218,12 +258,20 @@ public class StandardRowReader<T> implements RowReader<T> {
 	}
 
 	private void finishUpRow() {
+		if ( optimizer != null ) {
+			optimizer.finishUpRow( initializersData );
+			return;
+		}
 		for ( InitializerData data : initializersData ) {
 			data.setState( Initializer.State.UNINITIALIZED );
 		}
 	}
 
 	private void coordinateInitializers(RowProcessingState rowProcessingState) {
+		if ( optimizer != null ) {
+			optimizer.coordinateInitializers( resultInitializersData, sortedForResolveInstanceData, initializersData );
+			return;
+		}
 		for ( int i = 0; i < resultInitializers.length; i++ ) {
 			resultInitializers[i].resolveKey( resultInitializersData[i] );
 		}
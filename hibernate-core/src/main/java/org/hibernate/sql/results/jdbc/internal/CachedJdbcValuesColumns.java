@@ -0,0 +1,293 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The JDBC values of the rows of a query result put in the query cache,
+ * encoded column by column: integral and floating point values are held
+ * in primitive arrays, strings are encoded against a dictionary of the
+ * distinct values of the column, and nulls are recorded in bitmaps.
+ * <p>
+ * Stands in the cached results for the rows it encodes, which are either
+ * all arrays of JDBC values of the same length or all single JDBC values.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR_THRESHOLD
+ *
+ * @since 7.0
+ */
+public final class CachedJdbcValuesColumns implements Serializable {
+	private final int rowCount;
+	private final Column[] columns;
+
+	private CachedJdbcValuesColumns(int rowCount, Column[] columns) {
+		this.rowCount = rowCount;
+		this.columns = columns;
+	}
+
+	/**
+	 * Encode the given rows column by column.
+	 *
+	 * @return the encoded rows, or {@code null} if the rows are not all
+	 * arrays of JDBC values of the same length, nor all single JDBC values
+	 */
+	public static @Nullable CachedJdbcValuesColumns encode(List<?> rows) {
+		if ( rows.isEmpty() ) {
+			return null;
+		}
+		final Object firstRow = rows.get( 0 );
+		final boolean singleValueRows = !( firstRow instanceof Object[] );
+		final int columnCount = singleValueRows ? 1 : ( (Object[]) firstRow ).length;
+		for ( Object row : rows ) {
+			if ( singleValueRows
+					? row instanceof Object[]
+					: row == null || row.getClass() != Object[].class || ( (Object[]) row ).length != columnCount ) {
+				return null;
+			}
+		}
+		final Column[] columns = new Column[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			final Object[] values = new Object[rows.size()];
+			for ( int j = 0; j < values.length; j++ ) {
+				final Object row = rows.get( j );
+				values[j] = singleValueRows ? row : ( (Object[]) row )[i];
+			}
+			columns[i] = column( values );
+		}
+		return new CachedJdbcValuesColumns( rows.size(), columns );
+	}
+
+	private static Column column(Object[] values) {
+		Class<?> valueClass = null;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				if ( valueClass == null ) {
+					valueClass = value.getClass();
+				}
+				else if ( valueClass != value.getClass() ) {
+					return new ObjectColumn( values );
+				}
+			}
+		}
+		if ( valueClass == Integer.class || valueClass == Long.class
+				|| valueClass == Short.class || valueClass == Byte.class ) {
+			return new LongColumn( values, valueClass );
+		}
+		else if ( valueClass == Double.class || valueClass == Float.class ) {
+			return new DoubleColumn( values, valueClass );
+		}
+		else if ( valueClass == String.class ) {
+			final StringColumn column = StringColumn.create( values );
+			return column == null ? new ObjectColumn( values ) : column;
+		}
+		else {
+			return new ObjectColumn( values );
+		}
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public Object getValue(int row, int column) {
+		return columns[column].getValue( row );
+	}
+
+	public long getLongValue(int row, int column) {
+		return columns[column].getLongValue( row );
+	}
+
+	public double getDoubleValue(int row, int column) {
+		return columns[column].getDoubleValue( row );
+	}
+
+	public boolean isNull(int row, int column) {
+		return columns[column].isNull( row );
+	}
+
+	private abstract static class Column implements Serializable {
+		abstract Object getValue(int row);
+
+		boolean isNull(int row) {
+			return getValue( row ) == null;
+		}
+
+		long getLongValue(int row) {
+			final Object value = getValue( row );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+
+		double getDoubleValue(int row) {
+			final Object value = getValue( row );
+			return value == null ? 0d : ( (Number) value ).doubleValue();
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		Object getValue(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class LongColumn extends Column {
+		private final Class<?> valueClass;
+		private final long[] values;
+		private final BitSet nulls = new BitSet();
+
+		private LongColumn(Object[] values, Class<?> valueClass) {
+			this.valueClass = valueClass;
+			this.values = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] == null ) {
+					nulls.set( i );
+				}
+				else {
+					this.values[i] = ( (Number) values[i] ).longValue();
+				}
+			}
+		}
+
+		@Override
+		Object getValue(int row) {
+			if ( nulls.get( row ) ) {
+				return null;
+			}
+			final long value = values[row];
+			if ( valueClass == Integer.class ) {
+				return (int) value;
+			}
+			else if ( valueClass == Long.class ) {
+				return value;
+			}
+			else if ( valueClass == Short.class ) {
+				return (short) value;
+			}
+			else {
+				return (byte) value;
+			}
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return nulls.get( row );
+		}
+
+		@Override
+		long getLongValue(int row) {
+			return values[row];
+		}
+
+		@Override
+		double getDoubleValue(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final Class<?> valueClass;
+		private final double[] values;
+		private final BitSet nulls = new BitSet();
+
+		private DoubleColumn(Object[] values, Class<?> valueClass) {
+			this.valueClass = valueClass;
+			this.values = new double[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] == null ) {
+					nulls.set( i );
+				}
+				else {
+					this.values[i] = ( (Number) values[i] ).doubleValue();
+				}
+			}
+		}
+
+		@Override
+		Object getValue(int row) {
+			if ( nulls.get( row ) ) {
+				return null;
+			}
+			final double value = values[row];
+			if ( valueClass == Float.class ) {
+				return (float) value;
+			}
+			else {
+				return value;
+			}
+		}
+
+		@Override
+		boolean isNull(int row) {
+			return nulls.get( row );
+		}
+
+		@Override
+		long getLongValue(int row) {
+			return (long) values[row];
+		}
+
+		@Override
+		double getDoubleValue(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class StringColumn extends Column {
+		private final String[] dictionary;
+		// index into the dictionary by row, or -1 for null
+		private final int[] codes;
+
+		private StringColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		/**
+		 * @return the dictionary encoded column, or {@code null} if most of
+		 * the values are distinct, and a dictionary would not save anything
+		 */
+		static @Nullable StringColumn create(Object[] values) {
+			final Map<String, Integer> codesByValue = new HashMap<>();
+			final int[] codes = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				final String value = (String) values[i];
+				if ( value == null ) {
+					codes[i] = -1;
+				}
+				else {
+					final Integer code = codesByValue.putIfAbsent( value, codesByValue.size() );
+					codes[i] = code == null ? codesByValue.size() - 1 : code;
+				}
+			}
+			if ( codesByValue.size() > values.length / 2 ) {
+				return null;
+			}
+			final String[] dictionary = new String[codesByValue.size()];
+			for ( Map.Entry<String, Integer> entry : codesByValue.entrySet() ) {
+				dictionary[entry.getValue()] = entry.getKey();
+			}
+			return new StringColumn( dictionary, codes );
+		}
+
+		@Override
+		Object getValue(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+}
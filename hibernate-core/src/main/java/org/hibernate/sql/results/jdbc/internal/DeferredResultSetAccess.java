@@ -11,6 +11,7 @@ import java.util.Collections;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
@@ -187,13 +188,14 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
 
 		// set options
-		if ( queryOptions != null ) {
-			if ( queryOptions.getFetchSize() != null ) {
-				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
-			}
-			if ( queryOptions.getTimeout() != null ) {
-				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
-			}
+		if ( queryOptions != null && queryOptions.getFetchSize() != null ) {
+			preparedStatement.setFetchSize( queryOptions.getFetchSize() );
+		}
+		else {
+			applyAdaptiveFetchSize( preparedStatement );
+		}
+		if ( queryOptions != null && queryOptions.getTimeout() != null ) {
+			preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 		}
 
 		// bind parameters
@@ -222,6 +224,34 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private void applyAdaptiveFetchSize(PreparedStatement preparedStatement) throws SQLException {
+		final SessionFactoryOptions options = getFactory().getSessionFactoryOptions();
+		final int maxFetchSize = options.getAdaptiveFetchSizeMax();
+		if ( maxFetchSize > 0 ) {
+			final int rowCountEstimate = jdbcSelect.getRowCountEstimate();
+			if ( rowCountEstimate >= 0 ) {
+				// one more row than expected, so that the end of the results
+				// usually arrives with the last rows, in the same round trip
+				final int fetchSize = Math.max(
+						options.getAdaptiveFetchSizeMin(),
+						Math.min( maxFetchSize, rowCountEstimate + 1 )
+				);
+				// only ever raise the fetch size set by hibernate.jdbc.fetch_size,
+				// or the default fetch size of the driver
+				if ( fetchSize > preparedStatement.getFetchSize() ) {
+					preparedStatement.setFetchSize( fetchSize );
+				}
+			}
+		}
+	}
+
+	@Override
+	public void recordRowCount(int rowCount) {
+		if ( preparedStatement != null && getFactory().getSessionFactoryOptions().getAdaptiveFetchSizeMax() > 0 ) {
+			jdbcSelect.recordRowCount( rowCount );
+		}
+	}
+
 	private void executeQuery() {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 
@@ -17,6 +17,8 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	// the rows of the cached results, if they were encoded column by column
+	private CachedJdbcValuesColumns cachedColumns;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -28,7 +30,15 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
 		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
-		this.numberOfRows = cachedResults.size() - offset - 1;
+		if ( cachedResults.size() == offset + 2
+				&& cachedResults.get( offset ) instanceof CachedJdbcValuesColumns columns ) {
+			this.cachedColumns = columns;
+			this.numberOfRows = columns.getRowCount();
+		}
+		else {
+			this.cachedColumns = null;
+			this.numberOfRows = cachedResults.size() - offset - 1;
+		}
 		this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
 		this.resolvedMapping = resolvedMapping;
 		this.valueIndexesToCacheIndexes = resolvedMapping.getValueIndexesToCacheIndexes();
@@ -170,6 +180,9 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( cachedColumns != null ) {
+			return cachedColumns.getValue( position, cacheIndex( valueIndex ) );
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( valueIndexesToCacheIndexes == null ) {
 			return ( (Object[]) row )[valueIndex];
@@ -183,9 +196,38 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		}
 	}
 
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		if ( cachedColumns != null && position < numberOfRows ) {
+			return cachedColumns.getLongValue( position, cacheIndex( valueIndex ) );
+		}
+		return super.getCurrentRowLongValue( valueIndex );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		if ( cachedColumns != null && position < numberOfRows ) {
+			return cachedColumns.getDoubleValue( position, cacheIndex( valueIndex ) );
+		}
+		return super.getCurrentRowDoubleValue( valueIndex );
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int valueIndex) {
+		if ( cachedColumns != null && position < numberOfRows ) {
+			return cachedColumns.isNull( position, cacheIndex( valueIndex ) );
+		}
+		return super.isCurrentRowValueNull( valueIndex );
+	}
+
+	private int cacheIndex(int valueIndex) {
+		return valueIndexesToCacheIndexes == null ? valueIndex : valueIndexesToCacheIndexes[valueIndex];
+	}
+
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		cachedColumns = null;
 	}
 
 	@Override
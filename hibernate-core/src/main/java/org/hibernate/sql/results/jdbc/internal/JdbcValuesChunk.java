@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * An {@link AbstractJdbcValues} implementation over a chunk of rows whose JDBC
+ * values were already read from the result set, allowing the rows to be hydrated
+ * by a thread other than the one reading the result set.
+ * <p>
+ * The rows may only be read forward, and are not registered with the query cache,
+ * since that is done as the rows are read from the result set.
+ *
+ * @see org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_THRESHOLD
+ *
+ * @since 7.0
+ */
+public class JdbcValuesChunk extends AbstractJdbcValues {
+	private final Object[][] rows;
+	private final int numberOfRows;
+	private final JdbcValuesMapping resolvedMapping;
+	private final boolean usesFollowOnLocking;
+	private int position = -1;
+
+	public JdbcValuesChunk(
+			Object[][] rows,
+			int numberOfRows,
+			JdbcValuesMapping resolvedMapping,
+			boolean usesFollowOnLocking) {
+		this.rows = rows;
+		this.numberOfRows = numberOfRows;
+		this.resolvedMapping = resolvedMapping;
+		this.usesFollowOnLocking = usesFollowOnLocking;
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		position++;
+		if ( position >= numberOfRows ) {
+			position = numberOfRows;
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Chunk of JDBC values may only be read forward" );
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Chunk of JDBC values may only be read forward" );
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Chunk of JDBC values may only be read forward" );
+	}
+
+	@Override
+	public int getPosition() {
+		return position;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0;
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		position = -1;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0;
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Chunk of JDBC values may only be read forward" );
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return position >= numberOfRows;
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		position = numberOfRows;
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		return position == numberOfRows - 1;
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		throw new UnsupportedOperationException( "Chunk of JDBC values may only be read forward" );
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return resolvedMapping;
+	}
+
+	@Override
+	public boolean usesFollowOnLocking() {
+		return usesFollowOnLocking;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int valueIndex) {
+		return position < numberOfRows ? rows[position][valueIndex] : null;
+	}
+
+	@Override
+	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
+		// No-op
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		// No-op
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {
+	}
+
+	@Override
+	public int getResultCountEstimate() {
+		return numberOfRows;
+	}
+}
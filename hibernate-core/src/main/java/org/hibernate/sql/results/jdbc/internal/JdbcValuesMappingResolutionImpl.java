@@ -5,12 +5,18 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.internal.InitializersList;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolution {
 
 	private final DomainResultAssembler<?>[] domainResultAssemblers;
@@ -18,6 +24,11 @@ public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolut
 	private final boolean hasCollectionInitializers;
 	private final InitializersList initializersList;
 
+	private final AtomicInteger rowReaderOptimizerRequestCount = new AtomicInteger();
+	private volatile @Nullable RowReaderOptimizer rowReaderOptimizer;
+	// set once the optimizer was requested from the BytecodeProvider, which may have returned null
+	private volatile boolean rowReaderOptimizerResolved;
+
 	public JdbcValuesMappingResolutionImpl(
 			DomainResultAssembler<?>[] domainResultAssemblers,
 			boolean hasCollectionInitializers,
@@ -69,4 +80,22 @@ public class JdbcValuesMappingResolutionImpl implements JdbcValuesMappingResolut
 		return initializersList.getSortedForResolveInstance();
 	}
 
+	@Override
+	public @Nullable RowReaderOptimizer resolveRowReaderOptimizer(int threshold, SessionFactoryImplementor sessionFactory) {
+		if ( rowReaderOptimizerResolved ) {
+			return rowReaderOptimizer;
+		}
+		// only the thread reaching the threshold generates the optimizer
+		else if ( rowReaderOptimizerRequestCount.incrementAndGet() == threshold ) {
+			final RowReaderOptimizer optimizer =
+					sessionFactory.getServiceRegistry().requireService( BytecodeProvider.class )
+							.getRowReaderOptimizer( this );
+			rowReaderOptimizer = optimizer;
+			rowReaderOptimizerResolved = true;
+			return optimizer;
+		}
+		else {
+			return null;
+		}
+	}
 }
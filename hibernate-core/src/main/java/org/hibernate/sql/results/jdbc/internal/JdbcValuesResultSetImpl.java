@@ -26,6 +26,8 @@ import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
+import org.hibernate.type.descriptor.ValueExtractor;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -45,12 +47,22 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
+	// The extractors able to read numeric values unboxed, by position,
+	// or null if no value of the row can be read unboxed
+	private final PrimitiveValueExtractor<?>[] primitiveExtractors;
+	// Values of the current row read unboxed, which are only valid
+	// for the positions set in longValueIndexes or doubleValueIndexes
+	private final long[] currentRowLongValues;
+	private final double[] currentRowDoubleValues;
+	private final BitSet longValueIndexes;
+	private final BitSet doubleValueIndexes;
 	private final int[] valueIndexesToCacheIndexes;
 	// Is only meaningful if valueIndexesToCacheIndexes is not null
 	// Contains the size of the row to cache, or if the value is negative,
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 	private int resultCount;
+	private int rowCount;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -82,6 +94,19 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
+		this.primitiveExtractors = primitiveExtractors( sqlSelections );
+		if ( primitiveExtractors == null ) {
+			this.currentRowLongValues = null;
+			this.currentRowDoubleValues = null;
+			this.longValueIndexes = null;
+			this.doubleValueIndexes = null;
+		}
+		else {
+			this.currentRowLongValues = new long[rowSize];
+			this.currentRowDoubleValues = new double[rowSize];
+			this.longValueIndexes = new BitSet( rowSize );
+			this.doubleValueIndexes = new BitSet( rowSize );
+		}
 		if ( queryCachePutManager == null ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
@@ -104,6 +129,23 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 	}
 
+	private static PrimitiveValueExtractor<?>[] primitiveExtractors(SqlSelection[] sqlSelections) {
+		PrimitiveValueExtractor<?>[] primitiveExtractors = null;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections[i];
+			if ( sqlSelection != null ) {
+				final ValueExtractor<?> extractor = sqlSelection.getJdbcValueExtractor();
+				if ( extractor instanceof PrimitiveValueExtractor<?> primitiveExtractor ) {
+					if ( primitiveExtractors == null ) {
+						primitiveExtractors = new PrimitiveValueExtractor<?>[sqlSelections.length];
+					}
+					primitiveExtractors[i] = primitiveExtractor;
+				}
+			}
+		}
+		return primitiveExtractors;
+	}
+
 	private int determineResultCountEstimate(
 			ResultSetAccess resultSetAccess,
 			QueryOptions queryOptions,
@@ -135,7 +177,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					factory.getSessionFactoryOptions().getQueryCacheColumnarThreshold()
 			);
 		}
 		else {
@@ -145,7 +188,11 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance( advanceNext() );
+		final boolean hasResult = advanceNext();
+		if ( hasResult ) {
+			rowCount++;
+		}
+		return advance( hasResult );
 	}
 
 	@Override
@@ -325,6 +372,10 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	public void readCurrentRowValues() {
 		initializedIndexes.clear();
+		if ( primitiveExtractors != null ) {
+			longValueIndexes.clear();
+			doubleValueIndexes.clear();
+		}
 	}
 
 	@Override
@@ -332,6 +383,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		if ( queryCachePutManager != null ) {
 			queryCachePutManager.finishUp( resultCount, session );
 		}
+		resultSetAccess.recordRowCount( rowCount );
 		resultSetAccess.release();
 	}
 
@@ -351,6 +403,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			if ( wasAdded ) {
 				resultCount++;
 			}
+			boxPrimitiveValues();
 			final Object objectToCache;
 			if ( valueIndexesToCacheIndexes == null ) {
 				objectToCache = Arrays.copyOf( currentRowJdbcValues, currentRowJdbcValues.length );
@@ -376,8 +429,34 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 	}
 
+	private void boxPrimitiveValues() {
+		if ( primitiveExtractors != null ) {
+			for ( int i = longValueIndexes.nextSetBit( 0 ); i >= 0; i = longValueIndexes.nextSetBit( i + 1 ) ) {
+				currentRowJdbcValues[i] = primitiveExtractors[i].wrapLong( currentRowLongValues[i], executionContext.getSession() );
+			}
+			longValueIndexes.clear();
+			for ( int i = doubleValueIndexes.nextSetBit( 0 ); i >= 0; i = doubleValueIndexes.nextSetBit( i + 1 ) ) {
+				currentRowJdbcValues[i] = primitiveExtractors[i].wrapDouble( currentRowDoubleValues[i], executionContext.getSession() );
+			}
+			doubleValueIndexes.clear();
+		}
+	}
+
 	@Override
 	public Object getCurrentRowValue(int valueIndex) {
+		if ( primitiveExtractors != null ) {
+			// box the value if it was read unboxed before
+			if ( longValueIndexes.get( valueIndex ) ) {
+				longValueIndexes.clear( valueIndex );
+				currentRowJdbcValues[valueIndex] = primitiveExtractors[valueIndex]
+						.wrapLong( currentRowLongValues[valueIndex], executionContext.getSession() );
+			}
+			else if ( doubleValueIndexes.get( valueIndex ) ) {
+				doubleValueIndexes.clear( valueIndex );
+				currentRowJdbcValues[valueIndex] = primitiveExtractors[valueIndex]
+						.wrapDouble( currentRowDoubleValues[valueIndex], executionContext.getSession() );
+			}
+		}
 		if ( !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
 			final SqlSelection sqlSelection = sqlSelections[valueIndex];
@@ -389,16 +468,89 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 				);
 			}
 			catch ( SQLException e ) {
-				// do not want to wrap in ExecutionException here
-				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
-						e,
-						"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
-				);
+				throw convertExtractionException( e, sqlSelection );
 			}
 		}
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		if ( primitiveExtractors != null ) {
+			if ( longValueIndexes.get( valueIndex ) ) {
+				return currentRowLongValues[valueIndex];
+			}
+			final PrimitiveValueExtractor<?> extractor = primitiveExtractors[valueIndex];
+			if ( extractor != null && !initializedIndexes.get( valueIndex ) ) {
+				initializedIndexes.set( valueIndex );
+				final SqlSelection sqlSelection = sqlSelections[valueIndex];
+				try {
+					final long value = extractor.extractLong( resultSet, sqlSelection.getJdbcResultSetIndex() );
+					if ( resultSet.wasNull() ) {
+						currentRowJdbcValues[valueIndex] = null;
+					}
+					else {
+						currentRowLongValues[valueIndex] = value;
+						longValueIndexes.set( valueIndex );
+					}
+					return value;
+				}
+				catch ( SQLException e ) {
+					throw convertExtractionException( e, sqlSelection );
+				}
+			}
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		if ( primitiveExtractors != null ) {
+			if ( doubleValueIndexes.get( valueIndex ) ) {
+				return currentRowDoubleValues[valueIndex];
+			}
+			final PrimitiveValueExtractor<?> extractor = primitiveExtractors[valueIndex];
+			if ( extractor != null && !initializedIndexes.get( valueIndex ) ) {
+				initializedIndexes.set( valueIndex );
+				final SqlSelection sqlSelection = sqlSelections[valueIndex];
+				try {
+					final double value = extractor.extractDouble( resultSet, sqlSelection.getJdbcResultSetIndex() );
+					if ( resultSet.wasNull() ) {
+						currentRowJdbcValues[valueIndex] = null;
+					}
+					else {
+						currentRowDoubleValues[valueIndex] = value;
+						doubleValueIndexes.set( valueIndex );
+					}
+					return value;
+				}
+				catch ( SQLException e ) {
+					throw convertExtractionException( e, sqlSelection );
+				}
+			}
+		}
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int valueIndex) {
+		if ( primitiveExtractors != null
+				&& ( longValueIndexes.get( valueIndex ) || doubleValueIndexes.get( valueIndex ) ) ) {
+			return false;
+		}
+		return getCurrentRowValue( valueIndex ) == null;
+	}
+
+	private JDBCException convertExtractionException(SQLException e, SqlSelection sqlSelection) {
+		// do not want to wrap in ExecutionException here
+		return executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+				e,
+				"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+		);
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
@@ -20,6 +20,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.graph.collection.LoadingCollectionEntry;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.stat.spi.FetchPlanProfiler;
 
 /**
  * @author Steve Ebersole
@@ -28,6 +29,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 
 	private final ExecutionContext executionContext;
 	private final JdbcValuesSourceProcessingOptions processingOptions;
+	private final boolean hasEntityInstancesToRefresh;
 
 	private List<EntityHolder> loadingEntityHolders;
 	private List<EntityHolder> reloadedEntityHolders;
@@ -41,6 +43,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 			JdbcValuesSourceProcessingOptions processingOptions) {
 		this.executionContext = executionContext;
 		this.processingOptions = processingOptions;
+		this.hasEntityInstancesToRefresh = executionContext.hasEntityInstancesToRefresh();
 
 		if ( executionContext.getSession().isEventSource() ) {
 			final EventSource eventSource = executionContext.getSession().asEventSource();
@@ -68,6 +71,11 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		return processingOptions;
 	}
 
+	@Override
+	public boolean hasEntityInstancesToRefresh() {
+		return hasEntityInstancesToRefresh;
+	}
+
 	@Override
 	public PreLoadEvent getPreLoadEvent() {
 		return preLoadEvent;
@@ -125,6 +133,11 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 
 	@Override
 	public void finishUp(boolean registerSubselects) {
+		final FetchPlanProfiler fetchPlanProfiler = getSession().getFetchPlanProfiler();
+		if ( fetchPlanProfiler != null && fetchPlanProfiler.isExecutingQuery() ) {
+			notifyInitialized( fetchPlanProfiler );
+		}
+
 		// now we can finalize loading collections
 		finishLoadingCollections();
 
@@ -146,6 +159,19 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	}
 
 
+	private void notifyInitialized(FetchPlanProfiler fetchPlanProfiler) {
+		if ( loadingEntityHolders != null ) {
+			for ( EntityHolder holder : loadingEntityHolders ) {
+				fetchPlanProfiler.initialized( holder.getEntity() );
+			}
+		}
+		if ( loadingCollectionMap != null ) {
+			for ( LoadingCollectionEntry loadingCollectionEntry : loadingCollectionMap.values() ) {
+				fetchPlanProfiler.initialized( loadingCollectionEntry.getCollectionInstance() );
+			}
+		}
+	}
+
 	private void finishLoadingCollections() {
 		if ( loadingCollectionMap != null ) {
 			for ( LoadingCollectionEntry loadingCollectionEntry : loadingCollectionMap.values() ) {
@@ -29,6 +29,14 @@ public interface ResultSetAccess extends JdbcValuesMetadata {
 	ResultSet getResultSet();
 	SessionFactoryImplementor getFactory();
 	void release();
+
+	/**
+	 * Record the number of rows read from the result set, before it is released.
+	 *
+	 * @since 7.0
+	 */
+	default void recordRowCount(int rowCount) {
+	}
 	/**
 	 * The estimate for the amount of results that can be expected for pre-sizing collections.
 	 * May return zero or negative values if the count can not be reasonably estimated.
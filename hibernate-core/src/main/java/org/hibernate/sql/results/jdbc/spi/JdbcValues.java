@@ -74,6 +74,46 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Get the numeric JDBC value at the given index for the row currently
+	 * positioned at within this source as a {@code long}, avoiding to box it
+	 * when possible.
+	 *
+	 * @return The value, or zero if it is {@code null}, which needs to be
+	 * told apart using {@link #isCurrentRowValueNull(int)}
+	 *
+	 * @since 7.0
+	 */
+	default long getCurrentRowLongValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Get the numeric JDBC value at the given index for the row currently
+	 * positioned at within this source as a {@code double}, avoiding to box
+	 * it when possible.
+	 *
+	 * @return The value, or zero if it is {@code null}, which needs to be
+	 * told apart using {@link #isCurrentRowValueNull(int)}
+	 *
+	 * @since 7.0
+	 */
+	default double getCurrentRowDoubleValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Whether the JDBC value at the given index for the row currently
+	 * positioned at within this source is {@code null}.
+	 *
+	 * @since 7.0
+	 */
+	default boolean isCurrentRowValueNull(int valueIndex) {
+		return getCurrentRowValue( valueIndex ) == null;
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
 	/**
@@ -4,10 +4,13 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * The "resolved" form of {@link JdbcValuesMapping} providing access
  * to resolved ({@link DomainResultAssembler}) descriptors and resolved
@@ -26,4 +29,20 @@ public interface JdbcValuesMappingResolution {
 	Initializer<?>[] getSortedForResolveInstance();
 
 	boolean hasCollectionInitializers();
+
+	/**
+	 * The optimizer specialized for the initializers and assemblers of this
+	 * resolution, once this method was called the given number of times.
+	 *
+	 * @param threshold The number of calls after which the optimizer is generated
+	 *
+	 * @return The optimizer, or {@code null} if it was not, or could not be, generated
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#ROW_READER_OPTIMIZATION_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	default @Nullable RowReaderOptimizer resolveRowReaderOptimizer(int threshold, SessionFactoryImplementor sessionFactory) {
+		return null;
+	}
 }
@@ -35,6 +35,16 @@ public interface JdbcValuesSourceProcessingState {
 
 	JdbcValuesSourceProcessingOptions getProcessingOptions();
 
+	/**
+	 * Does the {@linkplain #getExecutionContext() execution context} identify
+	 * instances whose state is being refreshed by the rows being processed?
+	 *
+	 * @see ExecutionContext#hasEntityInstancesToRefresh()
+	 */
+	default boolean hasEntityInstancesToRefresh() {
+		return getExecutionContext().hasEntityInstancesToRefresh();
+	}
+
 	PreLoadEvent getPreLoadEvent();
 	PostLoadEvent getPostLoadEvent();
 
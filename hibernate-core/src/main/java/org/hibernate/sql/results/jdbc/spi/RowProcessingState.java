@@ -56,6 +56,42 @@ public interface RowProcessingState extends ExecutionContext {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Retrieve the numeric value corresponding to the given index as part
+	 * of the "current JDBC row" as a {@code long}, without boxing it if the
+	 * underlying source allows it. Returns zero for {@code null}.
+	 *
+	 * @see #isJdbcValueNull(int)
+	 * @since 7.0
+	 */
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Retrieve the numeric value corresponding to the given index as part
+	 * of the "current JDBC row" as a {@code double}, without boxing it if
+	 * the underlying source allows it. Returns zero for {@code null}.
+	 *
+	 * @see #isJdbcValueNull(int)
+	 * @since 7.0
+	 */
+	default double getJdbcDoubleValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Whether the value corresponding to the given index as part of the
+	 * "current JDBC row" is {@code null}.
+	 *
+	 * @since 7.0
+	 */
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
@@ -8,15 +8,22 @@ import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesChunk;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.spi.EntityJavaType;
@@ -25,6 +32,8 @@ import org.hibernate.type.spi.TypeConfiguration;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyList;
+
 /**
  * ResultsConsumer for creating a List of results
  *
@@ -125,6 +134,10 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 			results.add( result );
 		}
 
+		public void addAll(List<R> results) {
+			this.results.addAll( results );
+		}
+
 		public List<R> getResults() {
 			return results;
 		}
@@ -196,7 +209,21 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 				readRows = readUniqueAssert( rowProcessingState, rowReader, results );
 			}
 			else {
-				readRows = read( rowProcessingState, rowReader, results );
+				final int parallelHydrationThreshold =
+						session.getFactory().getSessionFactoryOptions().getParallelHydrationThreshold();
+				if ( parallelHydrationThreshold > 0 && rowReader.getInitializerCount() == 0 ) {
+					readRows = readParallel(
+							jdbcValues,
+							jdbcValuesSourceProcessingState,
+							rowProcessingState,
+							rowReader,
+							results,
+							parallelHydrationThreshold
+					);
+				}
+				else {
+					readRows = read( rowProcessingState, rowReader, results );
+				}
 			}
 
 			rowReader.finishUp( rowProcessingState );
@@ -251,6 +278,117 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		return readRows;
 	}
 
+	/**
+	 * Hydrates the first {@code chunkSize} rows like {@link #read}, and then reads the
+	 * JDBC values of the remaining rows into chunks, which are hydrated by the common pool
+	 * while the following rows are read from the result set. Only used for rows without
+	 * initializers, which have no effect on the persistence context.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#PARALLEL_HYDRATION_THRESHOLD
+	 */
+	private static <R> int readParallel(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			Results<R> results,
+			int chunkSize) {
+		int readRows = 0;
+		while ( readRows < chunkSize && rowProcessingState.next() ) {
+			results.add( rowReader.readRow( rowProcessingState ) );
+			rowProcessingState.finishRowProcessing( true );
+			readRows++;
+		}
+		if ( readRows < chunkSize ) {
+			return readRows;
+		}
+
+		final JdbcValuesMapping valuesMapping = jdbcValues.getValuesMapping();
+		final boolean usesFollowOnLocking = jdbcValues.usesFollowOnLocking();
+		final int rowSize = valuesMapping.getRowSize();
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+		final ArrayList<ForkJoinTask<List<R>>> tasks = new ArrayList<>();
+		// tells the chunks not yet hydrated to give up when a row could not be read
+		final AtomicBoolean failed = new AtomicBoolean();
+		try {
+			Object[][] rows = new Object[chunkSize][];
+			int chunkRows = 0;
+			while ( rowProcessingState.next() ) {
+				// the result set may only be accessed by this thread
+				final Object[] row = new Object[rowSize];
+				for ( int i = 0; i < rowSize; i++ ) {
+					row[i] = jdbcValues.getCurrentRowValue( i );
+				}
+				rows[chunkRows++] = row;
+				rowProcessingState.finishRowProcessing( true );
+				readRows++;
+				if ( chunkRows == chunkSize ) {
+					final JdbcValuesChunk chunk = new JdbcValuesChunk( rows, chunkRows, valuesMapping, usesFollowOnLocking );
+					tasks.add( pool.submit( () -> failed.get()
+							? emptyList()
+							: hydrate( chunk, jdbcValuesSourceProcessingState, rowReader ) ) );
+					rows = new Object[chunkSize][];
+					chunkRows = 0;
+				}
+			}
+			// hydrate the last chunk while the pool works on the others
+			final List<R> lastChunk = hydrate(
+					new JdbcValuesChunk( rows, chunkRows, valuesMapping, usesFollowOnLocking ),
+					jdbcValuesSourceProcessingState,
+					rowReader
+			);
+			for ( ForkJoinTask<List<R>> task : tasks ) {
+				results.addAll( getHydratedChunk( task ) );
+			}
+			results.addAll( lastChunk );
+			return readRows;
+		}
+		catch (RuntimeException | Error e) {
+			failed.set( true );
+			// the chunks still being hydrated use the session
+			for ( ForkJoinTask<List<R>> task : tasks ) {
+				task.quietlyJoin();
+			}
+			throw e;
+		}
+	}
+
+	private static <R> List<R> getHydratedChunk(ForkJoinTask<List<R>> task) {
+		try {
+			return task.get();
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			else if ( cause instanceof Error error ) {
+				throw error;
+			}
+			else {
+				throw new HibernateException( "Unable to hydrate rows", cause );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while hydrating rows", e );
+		}
+	}
+
+	private static <R> List<R> hydrate(
+			JdbcValuesChunk chunk,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowReader<R> rowReader) {
+		final ExecutionContext executionContext = jdbcValuesSourceProcessingState.getExecutionContext();
+		final RowProcessingStateStandardImpl rowProcessingState =
+				new RowProcessingStateStandardImpl( jdbcValuesSourceProcessingState, executionContext, rowReader, chunk );
+		final List<R> results = new ArrayList<>( chunk.getResultCountEstimate() );
+		while ( rowProcessingState.next() ) {
+			results.add( rowReader.readRow( rowProcessingState ) );
+		}
+		return results;
+	}
+
 	private static <R> int readUniqueAssert(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
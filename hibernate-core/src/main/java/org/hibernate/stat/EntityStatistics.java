@@ -48,4 +48,57 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch size currently used to batch fetch this entity, as adjusted by
+	 * {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 * adaptive batch fetching}, or zero if it was never adjusted.
+	 *
+	 * @since 7.0
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Number of times (since last Statistics clearing) the batch size used to
+	 * batch fetch this entity was adjusted by adaptive batch fetching.
+	 *
+	 * @since 7.0
+	 */
+	default long getBatchFetchSizeAdjustmentCount() {
+		return 0;
+	}
+
+	/**
+	 * Number of times (since last Statistics clearing) an
+	 * {@linkplain org.hibernate.cfg.SessionEventSettings#N_PLUS_ONE_THRESHOLD
+	 * N+1 select problem} was detected for this entity.
+	 *
+	 * @since 7.0
+	 */
+	default long getNPlusOneCount() {
+		return 0;
+	}
+
+	/**
+	 * Number of separate fetches of this entity (since last Statistics clearing)
+	 * which were part of a detected N+1 select problem.
+	 *
+	 * @since 7.0
+	 */
+	default long getNPlusOneFetchCount() {
+		return 0;
+	}
+
+	/**
+	 * Total time, in milliseconds, spent (since last Statistics clearing) in the
+	 * separate fetches of this entity which were part of a detected N+1 select
+	 * problem.
+	 *
+	 * @since 7.0
+	 */
+	default long getNPlusOneFetchTime() {
+		return 0;
+	}
 }
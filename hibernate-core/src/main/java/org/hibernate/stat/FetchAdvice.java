@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * A suggested change to the fetch plan of a query, based on how the associations
+ * of the entities it returned were used in a sample of sessions.
+ * <p>
+ * A suggestion to {@linkplain Kind#FETCH fetch} an association may be applied
+ * by adding it to an entity graph or a fetch profile, or by a {@code join fetch}
+ * in the query. A suggestion {@linkplain Kind#DO_NOT_FETCH not to fetch} it may
+ * be applied by removing it from the entity graph or fetch profile, or by
+ * mapping it {@linkplain jakarta.persistence.FetchType#LAZY lazy}.
+ *
+ * @see Statistics#getFetchAdvice()
+ * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_SAMPLING_RATE
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface FetchAdvice extends Serializable {
+
+	enum Kind {
+		/**
+		 * The association was usually initialized after being left unfetched by
+		 * the query.
+		 */
+		FETCH,
+		/**
+		 * The association was fetched by the query, but rarely read.
+		 */
+		DO_NOT_FETCH
+	}
+
+	/**
+	 * The query string of the query.
+	 */
+	String getQueryString();
+
+	/**
+	 * The name of the entity returned by the query, from which the
+	 * {@linkplain #getAttributePath() attribute path} starts.
+	 */
+	String getEntityName();
+
+	/**
+	 * The path of the association from the {@linkplain #getEntityName() entity},
+	 * with attribute names separated by dots, for example {@code "order.lines"}.
+	 */
+	String getAttributePath();
+
+	/**
+	 * The suggested change.
+	 */
+	Kind getKind();
+
+	/**
+	 * The number of sampled entity instances the advice is based on.
+	 */
+	long getSampleCount();
+
+	/**
+	 * For {@link Kind#FETCH}, the fraction of the sampled instances for which the
+	 * unfetched association was initialized later; for {@link Kind#DO_NOT_FETCH},
+	 * the fraction for which the fetched association was read.
+	 */
+	double getRatio();
+}
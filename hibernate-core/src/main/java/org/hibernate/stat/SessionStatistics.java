@@ -4,8 +4,11 @@
  */
 package org.hibernate.stat;
 
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.Collections.emptyMap;
+
 /**
  * Information about the first-level (session) cache for a particular
  * instance of {@link org.hibernate.Session}.
@@ -33,4 +36,45 @@ public interface SessionStatistics {
 	 */
 	Set<?> getCollectionKeys();
 
+	/**
+	 * A rough estimate, in bytes, of the memory held by the session: its managed
+	 * entities with their loaded state, its managed collections with their
+	 * snapshots, and the actions waiting to be flushed.
+	 * <p>
+	 * The estimate depends only on the number of entities, attributes, elements,
+	 * and actions, and never on the actual values held, so it is cheap to obtain,
+	 * but it is only useful for comparing sessions or tracking growth.
+	 *
+	 * @see org.hibernate.cfg.SessionEventSettings#SESSION_MEMORY_SOFT_CAP
+	 *
+	 * @since 7.0
+	 */
+	default long getEstimatedMemorySize() {
+		return 0;
+	}
+
+	/**
+	 * A rough estimate, in bytes, of the memory held by the managed instances
+	 * of each entity, keyed by entity name.
+	 *
+	 * @see #getEstimatedMemorySize()
+	 *
+	 * @since 7.0
+	 */
+	default Map<String,Long> getEstimatedMemorySizeByEntityName() {
+		return emptyMap();
+	}
+
+	/**
+	 * A rough estimate, in bytes, of the memory held by the managed collections
+	 * of each role, keyed by role.
+	 *
+	 * @see #getEstimatedMemorySize()
+	 *
+	 * @since 7.0
+	 */
+	default Map<String,Long> getEstimatedMemorySizeByCollectionRole() {
+		return emptyMap();
+	}
+
 }
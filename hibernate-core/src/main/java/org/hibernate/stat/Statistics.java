@@ -5,10 +5,13 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyList;
+
 /**
  * Exposes statistics collected from all sessions belonging to a
  * particular {@link org.hibernate.SessionFactory}.
@@ -384,6 +387,30 @@ public interface Statistics {
 	 */
 	long getOptimisticFailureCount();
 
+	/**
+	 * The global number of
+	 * {@linkplain org.hibernate.cfg.SessionEventSettings#N_PLUS_ONE_THRESHOLD
+	 * N+1 select problems} detected.
+	 *
+	 * @since 7.0
+	 */
+	default long getNPlusOneCount() {
+		return 0;
+	}
+
+	/**
+	 * Suggested changes to the fetch plans of queries, based on the associations
+	 * fetched and accessed in the sessions sampled according to
+	 * {@value org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_SAMPLING_RATE}.
+	 *
+	 * @return the advice, or an empty list if fetch plan advice is disabled
+	 *
+	 * @since 7.0
+	 */
+	default List<FetchAdvice> getFetchAdvice() {
+		return emptyList();
+	}
+
 	/**
 	 * The global number of query plans successfully retrieved from cache.
 	 */
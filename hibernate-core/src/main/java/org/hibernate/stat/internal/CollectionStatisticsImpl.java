@@ -23,6 +23,11 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final LongAdder batchFetchSizeAdjustmentCount = new LongAdder();
+	private volatile int batchFetchSize;
+	private final LongAdder nPlusOneCount = new LongAdder();
+	private final LongAdder nPlusOneFetchCount = new LongAdder();
+	private final LongAdder nPlusOneFetchTime = new LongAdder();
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -74,6 +79,37 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		removeCount.increment();
 	}
 
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
+	public long getBatchFetchSizeAdjustmentCount() {
+		return batchFetchSizeAdjustmentCount.sum();
+	}
+
+	void adjustBatchFetchSize(int batchSize) {
+		batchFetchSize = batchSize;
+		batchFetchSizeAdjustmentCount.increment();
+	}
+
+	public long getNPlusOneCount() {
+		return nPlusOneCount.sum();
+	}
+
+	public long getNPlusOneFetchCount() {
+		return nPlusOneFetchCount.sum();
+	}
+
+	public long getNPlusOneFetchTime() {
+		return nPlusOneFetchTime.sum();
+	}
+
+	void nPlusOneDetected(int fetchCount, long fetchTimeMillis) {
+		nPlusOneCount.increment();
+		nPlusOneFetchCount.add( fetchCount );
+		nPlusOneFetchTime.add( fetchTimeMillis );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
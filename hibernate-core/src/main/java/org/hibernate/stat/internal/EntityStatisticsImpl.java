@@ -24,6 +24,11 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final LongAdder batchFetchSizeAdjustmentCount = new LongAdder();
+	private volatile int batchFetchSize;
+	private final LongAdder nPlusOneCount = new LongAdder();
+	private final LongAdder nPlusOneFetchCount = new LongAdder();
+	private final LongAdder nPlusOneFetchTime = new LongAdder();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -82,6 +87,37 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
+	public long getBatchFetchSizeAdjustmentCount() {
+		return batchFetchSizeAdjustmentCount.sum();
+	}
+
+	void adjustBatchFetchSize(int batchSize) {
+		batchFetchSize = batchSize;
+		batchFetchSizeAdjustmentCount.increment();
+	}
+
+	public long getNPlusOneCount() {
+		return nPlusOneCount.sum();
+	}
+
+	public long getNPlusOneFetchCount() {
+		return nPlusOneFetchCount.sum();
+	}
+
+	public long getNPlusOneFetchTime() {
+		return nPlusOneFetchTime.sum();
+	}
+
+	void nPlusOneDetected(int fetchCount, long fetchTimeMillis) {
+		nPlusOneCount.increment();
+		nPlusOneFetchCount.add( fetchCount );
+		nPlusOneFetchTime.add( fetchTimeMillis );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
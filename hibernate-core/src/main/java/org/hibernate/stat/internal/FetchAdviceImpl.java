@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Locale;
+
+import org.hibernate.stat.FetchAdvice;
+
+/**
+ * Standard implementation of {@link FetchAdvice}.
+ */
+public class FetchAdviceImpl implements FetchAdvice {
+	private final String queryString;
+	private final String entityName;
+	private final String attributePath;
+	private final Kind kind;
+	private final long sampleCount;
+	private final double ratio;
+
+	public FetchAdviceImpl(
+			String queryString,
+			String entityName,
+			String attributePath,
+			Kind kind,
+			long sampleCount,
+			double ratio) {
+		this.queryString = queryString;
+		this.entityName = entityName;
+		this.attributePath = attributePath;
+		this.kind = kind;
+		this.sampleCount = sampleCount;
+		this.ratio = ratio;
+	}
+
+	@Override
+	public String getQueryString() {
+		return queryString;
+	}
+
+	@Override
+	public String getEntityName() {
+		return entityName;
+	}
+
+	@Override
+	public String getAttributePath() {
+		return attributePath;
+	}
+
+	@Override
+	public Kind getKind() {
+		return kind;
+	}
+
+	@Override
+	public long getSampleCount() {
+		return sampleCount;
+	}
+
+	@Override
+	public double getRatio() {
+		return ratio;
+	}
+
+	@Override
+	public String toString() {
+		return kind == Kind.FETCH
+				? String.format(
+						Locale.ROOT,
+						"Query [%s]: fetch '%s' of %s (initialized later for %.0f%% of %s instances)",
+						queryString,
+						attributePath,
+						entityName,
+						ratio * 100,
+						sampleCount
+				)
+				: String.format(
+						Locale.ROOT,
+						"Query [%s]: do not fetch '%s' of %s (read for %.0f%% of %s instances)",
+						queryString,
+						attributePath,
+						entityName,
+						ratio * 100,
+						sampleCount
+				);
+	}
+}
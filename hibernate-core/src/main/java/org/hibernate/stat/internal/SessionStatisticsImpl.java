@@ -5,6 +5,7 @@
 package org.hibernate.stat.internal;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.engine.spi.SessionImplementor;
@@ -37,10 +38,23 @@ public class SessionStatisticsImpl implements SessionStatistics {
 		return Collections.unmodifiableSet( session.getPersistenceContextInternal().getCollectionsByKey().keySet() );
 	}
 
+	public long getEstimatedMemorySize() {
+		return session.getPersistenceContextInternal().getEstimatedMemorySize();
+	}
+
+	public Map<String,Long> getEstimatedMemorySizeByEntityName() {
+		return Collections.unmodifiableMap( session.getPersistenceContextInternal().getEstimatedMemorySizeByEntityName() );
+	}
+
+	public Map<String,Long> getEstimatedMemorySizeByCollectionRole() {
+		return Collections.unmodifiableMap( session.getPersistenceContextInternal().getEstimatedMemorySizeByCollectionRole() );
+	}
+
 	public String toString() {
 		return "SessionStatistics[" +
 				"entity count=" + getEntityCount() +
 				",collection count=" + getCollectionCount() +
+				",estimated memory size=" + getEstimatedMemorySize() +
 				']';
 	}
 
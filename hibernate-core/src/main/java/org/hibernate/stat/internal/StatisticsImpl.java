@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
@@ -26,7 +27,9 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.FetchAdvice;
 import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.FetchPlanAdvisor;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
@@ -106,6 +109,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
+	private final LongAdder nPlusOneCount = new LongAdder();
+
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
@@ -125,6 +130,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	private final @Nullable FetchPlanAdvisor fetchPlanAdvisor;
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -137,6 +144,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		fetchPlanAdvisor = FetchPlanAdvisor.create( sessionFactory );
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -199,6 +207,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		optimisticFailureCount.reset();
 
+		nPlusOneCount.reset();
+		if ( fetchPlanAdvisor != null ) {
+			fetchPlanAdvisor.clear();
+		}
+
 		entityStatsMap.clear();
 		collectionStatsMap.clear();
 		naturalIdQueryStatsMap.clear();
@@ -285,6 +298,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public long getNPlusOneCount() {
+		return nPlusOneCount.sum();
+	}
+
+	@Override
+	public List<FetchAdvice> getFetchAdvice() {
+		return fetchPlanAdvisor == null ? List.of() : fetchPlanAdvisor.getAdvice();
+	}
+
+	@Override
+	public @Nullable FetchPlanAdvisor getFetchPlanAdvisor() {
+		return fetchPlanAdvisor;
+	}
+
 	@Override
 	public void loadEntity(String entityName) {
 		entityLoadCount.increment();
@@ -398,6 +426,28 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void adjustEntityBatchFetchSize(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).adjustBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public void adjustCollectionBatchFetchSize(String role, int batchSize) {
+		getCollectionStatistics( role ).adjustBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public void nPlusOneDetected(String role, int fetchCount, long fetchTime) {
+		nPlusOneCount.increment();
+		final long fetchTimeMillis = TimeUnit.NANOSECONDS.toMillis( fetchTime );
+		if ( metamodel.findCollectionDescriptor( role ) != null ) {
+			getCollectionStatistics( role ).nPlusOneDetected( fetchCount, fetchTimeMillis );
+		}
+		else {
+			getEntityStatistics( role ).nPlusOneDetected( fetchCount, fetchTimeMillis );
+		}
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
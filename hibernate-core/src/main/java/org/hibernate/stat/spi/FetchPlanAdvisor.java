@@ -0,0 +1,373 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.spi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.GraphParser;
+import org.hibernate.graph.internal.RootGraphImpl;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.stat.FetchAdvice;
+import org.hibernate.stat.internal.FetchAdviceImpl;
+
+import jakarta.persistence.EntityGraph;
+
+/**
+ * Aggregates the use of associations observed by the {@link FetchPlanProfiler}s
+ * of the sampled sessions, per query, and derives {@link FetchAdvice} from it.
+ * <p>
+ * The observations are weighted towards the recent executions of each query:
+ * every {@value #WINDOW_SIZE} profiled executions of a query, the counts held
+ * for the query are halved. Associations fetched because of the advice itself
+ * are not observed, so the advice for them lapses as the counts decay, and is
+ * then derived again from the fetch plan of the query.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_SAMPLING_RATE
+ *
+ * @since 7.0
+ */
+@Incubating
+public class FetchPlanAdvisor {
+	// no advice is given before this many entity instances were observed
+	private static final int MINIMUM_SAMPLE_COUNT = 10;
+	private static final double FETCH_RATIO = 0.5;
+	private static final double DO_NOT_FETCH_RATIO = 0.1;
+	// the counts of a query are halved after this many profiled executions
+	private static final int WINDOW_SIZE = 100;
+	// bounds the memory held by the advisor
+	private static final int MAXIMUM_QUERY_COUNT = 1_000;
+
+	private final SessionFactoryImplementor factory;
+	private final double samplingRate;
+	private final boolean applyEnabled;
+
+	private final Map<String, QueryUse> queryUses = new ConcurrentHashMap<>();
+	private final Map<String, AdvisedFetchGraph> fetchGraphs = new ConcurrentHashMap<>();
+
+	private FetchPlanAdvisor(SessionFactoryImplementor factory, double samplingRate, boolean applyEnabled) {
+		this.factory = factory;
+		this.samplingRate = samplingRate;
+		this.applyEnabled = applyEnabled;
+	}
+
+	/**
+	 * Create a {@code FetchPlanAdvisor}, or return {@code null} if fetch plan
+	 * advice is disabled.
+	 */
+	public static FetchPlanAdvisor create(SessionFactoryImplementor factory) {
+		final double samplingRate = factory.getSessionFactoryOptions().getFetchAdvisorSamplingRate();
+		return samplingRate > 0
+				? new FetchPlanAdvisor( factory, samplingRate, factory.getSessionFactoryOptions().isFetchAdvisorApplyEnabled() )
+				: null;
+	}
+
+	/**
+	 * Should the associations which the advice recommends fetching be applied to
+	 * queries as a load graph?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#FETCH_ADVISOR_APPLY
+	 */
+	public boolean isApplyEnabled() {
+		return applyEnabled;
+	}
+
+	/**
+	 * Create a profiler for the given session, or return {@code null} if the
+	 * session is not part of the sample.
+	 */
+	public FetchPlanProfiler createProfiler(SharedSessionContractImplementor session) {
+		return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate
+				? new FetchPlanProfiler( this, session )
+				: null;
+	}
+
+	private QueryUse getQueryUse(String queryString) {
+		final QueryUse queryUse = queryUses.get( queryString );
+		if ( queryUse == null && queryUses.size() < MAXIMUM_QUERY_COUNT ) {
+			return queryUses.computeIfAbsent( queryString, QueryUse::new );
+		}
+		return queryUse;
+	}
+
+	/**
+	 * Record a profiled execution of the query.
+	 */
+	void recordExecution(String queryString) {
+		final QueryUse queryUse = getQueryUse( queryString );
+		if ( queryUse != null ) {
+			queryUse.recordExecution();
+		}
+	}
+
+	/**
+	 * Record that the query left the association of an entity instance unfetched.
+	 *
+	 * @param initializedLater whether the association was initialized later in the session
+	 */
+	void recordUnfetched(
+			String queryString,
+			String entityName,
+			String attributePath,
+			boolean throughCollection,
+			boolean initializedLater) {
+		final QueryUse queryUse = getQueryUse( queryString );
+		if ( queryUse != null ) {
+			queryUse.getAssociationUse( entityName, attributePath, throughCollection )
+					.recordUnfetched( initializedLater );
+		}
+	}
+
+	/**
+	 * Record that the query fetched the association of an entity instance whose
+	 * reads are observable.
+	 *
+	 * @param read whether the association was read later in the session
+	 */
+	void recordFetched(
+			String queryString,
+			String entityName,
+			String attributePath,
+			boolean throughCollection,
+			boolean read) {
+		final QueryUse queryUse = getQueryUse( queryString );
+		if ( queryUse != null ) {
+			queryUse.getAssociationUse( entityName, attributePath, throughCollection )
+					.recordFetched( read );
+		}
+	}
+
+	public List<FetchAdvice> getAdvice() {
+		final List<FetchAdvice> advice = new ArrayList<>();
+		for ( QueryUse queryUse : queryUses.values() ) {
+			for ( AssociationUse use : queryUse.associationUses.values() ) {
+				use.addAdvice( advice );
+			}
+		}
+		return advice;
+	}
+
+	/**
+	 * The associations which the advice recommends fetching for the given query,
+	 * as an entity graph rooted at the given entity, or {@code null} if there are
+	 * none.
+	 *
+	 * @param includeCollections whether to include associations through collections
+	 */
+	public AdvisedFetchGraph getFetchGraph(String queryString, String entityName, boolean includeCollections) {
+		final QueryUse queryUse = queryUses.get( queryString );
+		if ( queryUse == null ) {
+			return null;
+		}
+		final Map<String, Object> graph = new LinkedHashMap<>();
+		for ( AssociationUse use : queryUse.associationUses.values() ) {
+			if ( use.entityName.equals( entityName )
+					&& ( includeCollections || !use.throughCollection )
+					&& use.shouldFetch() ) {
+				addToGraph( graph, use.attributePath );
+			}
+		}
+		if ( graph.isEmpty() ) {
+			return null;
+		}
+		final StringBuilder graphText = new StringBuilder();
+		renderGraph( graph, graphText );
+		final String graphNodes = graphText.toString();
+		final String key = entityName + '(' + graphNodes + ')';
+		final AdvisedFetchGraph fetchGraph = fetchGraphs.get( key );
+		if ( fetchGraph != null ) {
+			return fetchGraph;
+		}
+		if ( fetchGraphs.size() >= MAXIMUM_QUERY_COUNT ) {
+			// the advice has changed many times since, most of these are stale
+			fetchGraphs.clear();
+		}
+		return fetchGraphs.computeIfAbsent( key, k -> parseGraph( entityName, graphNodes, graph ) );
+	}
+
+	private AdvisedFetchGraph parseGraph(String entityName, String graphNodes, Map<String, Object> graph) {
+		final RootGraphImpl<?> rootGraph =
+				new RootGraphImpl<>( null, factory.getRuntimeMetamodels().getJpaMetamodel().entity( entityName ) );
+		GraphParser.parseInto( (EntityGraph<?>) rootGraph, graphNodes, factory );
+		final List<String> attributePaths = new ArrayList<>();
+		collectAttributePaths( graph, "", attributePaths );
+		return new AdvisedFetchGraph( rootGraph.makeImmutableCopy( null ), Set.copyOf( attributePaths ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void addToGraph(Map<String, Object> graph, String attributePath) {
+		Map<String, Object> subgraph = graph;
+		for ( String attributeName : attributePath.split( "\\." ) ) {
+			subgraph = (Map<String, Object>) subgraph.computeIfAbsent( attributeName, name -> new LinkedHashMap<>() );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void renderGraph(Map<String, Object> graph, StringBuilder graphText) {
+		boolean first = true;
+		for ( Map.Entry<String, Object> node : graph.entrySet() ) {
+			if ( !first ) {
+				graphText.append( ", " );
+			}
+			first = false;
+			graphText.append( node.getKey() );
+			final Map<String, Object> subgraph = (Map<String, Object>) node.getValue();
+			if ( !subgraph.isEmpty() ) {
+				graphText.append( '(' );
+				renderGraph( subgraph, graphText );
+				graphText.append( ')' );
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void collectAttributePaths(Map<String, Object> graph, String pathPrefix, List<String> attributePaths) {
+		for ( Map.Entry<String, Object> node : graph.entrySet() ) {
+			final String attributePath = pathPrefix + node.getKey();
+			attributePaths.add( attributePath );
+			collectAttributePaths( (Map<String, Object>) node.getValue(), attributePath + '.', attributePaths );
+		}
+	}
+
+	public void clear() {
+		queryUses.clear();
+		fetchGraphs.clear();
+	}
+
+	/**
+	 * The associations recommended for fetching by a query, as an entity graph.
+	 */
+	public static final class AdvisedFetchGraph {
+		private final RootGraphImplementor<?> graph;
+		private final Set<String> attributePaths;
+
+		private AdvisedFetchGraph(RootGraphImplementor<?> graph, Set<String> attributePaths) {
+			this.graph = graph;
+			this.attributePaths = attributePaths;
+		}
+
+		/**
+		 * The immutable entity graph.
+		 */
+		public RootGraphImplementor<?> getGraph() {
+			return graph;
+		}
+
+		/**
+		 * The paths, from the root entity, of the associations in the graph.
+		 */
+		public Set<String> getAttributePaths() {
+			return attributePaths;
+		}
+	}
+
+	private static class QueryUse {
+		private final String queryString;
+		private final Map<String, AssociationUse> associationUses = new ConcurrentHashMap<>();
+		private final AtomicInteger executionCount = new AtomicInteger();
+
+		private QueryUse(String queryString) {
+			this.queryString = queryString;
+		}
+
+		private AssociationUse getAssociationUse(String entityName, String attributePath, boolean throughCollection) {
+			return associationUses.computeIfAbsent(
+					entityName + '#' + attributePath,
+					key -> new AssociationUse( queryString, entityName, attributePath, throughCollection )
+			);
+		}
+
+		private void recordExecution() {
+			if ( executionCount.incrementAndGet() % WINDOW_SIZE == 0 ) {
+				for ( AssociationUse use : associationUses.values() ) {
+					use.decay();
+				}
+			}
+		}
+	}
+
+	private static class AssociationUse {
+		private final String queryString;
+		private final String entityName;
+		private final String attributePath;
+		private final boolean throughCollection;
+
+		private long unfetchedCount;
+		private long initializedLaterCount;
+		private long fetchedCount;
+		private long readCount;
+
+		private AssociationUse(String queryString, String entityName, String attributePath, boolean throughCollection) {
+			this.queryString = queryString;
+			this.entityName = entityName;
+			this.attributePath = attributePath;
+			this.throughCollection = throughCollection;
+		}
+
+		private synchronized void recordUnfetched(boolean initializedLater) {
+			unfetchedCount++;
+			if ( initializedLater ) {
+				initializedLaterCount++;
+			}
+		}
+
+		private synchronized void recordFetched(boolean read) {
+			fetchedCount++;
+			if ( read ) {
+				readCount++;
+			}
+		}
+
+		private synchronized void decay() {
+			unfetchedCount /= 2;
+			initializedLaterCount /= 2;
+			fetchedCount /= 2;
+			readCount /= 2;
+		}
+
+		private synchronized boolean shouldFetch() {
+			return unfetchedCount >= MINIMUM_SAMPLE_COUNT
+				&& (double) initializedLaterCount / unfetchedCount >= FETCH_RATIO;
+		}
+
+		private synchronized void addAdvice(List<FetchAdvice> advice) {
+			if ( unfetchedCount >= MINIMUM_SAMPLE_COUNT ) {
+				final double ratio = (double) initializedLaterCount / unfetchedCount;
+				if ( ratio >= FETCH_RATIO ) {
+					advice.add( new FetchAdviceImpl(
+							queryString,
+							entityName,
+							attributePath,
+							FetchAdvice.Kind.FETCH,
+							unfetchedCount,
+							ratio
+					) );
+				}
+			}
+			if ( fetchedCount >= MINIMUM_SAMPLE_COUNT ) {
+				final double ratio = (double) readCount / fetchedCount;
+				if ( ratio < DO_NOT_FETCH_RATIO ) {
+					advice.add( new FetchAdviceImpl(
+							queryString,
+							entityName,
+							attributePath,
+							FetchAdvice.Kind.DO_NOT_FETCH,
+							fetchedCount,
+							ratio
+					) );
+				}
+			}
+		}
+	}
+}
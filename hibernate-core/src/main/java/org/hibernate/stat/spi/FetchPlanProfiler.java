@@ -0,0 +1,369 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Incubating;
+import org.hibernate.SessionEventListener;
+import org.hibernate.collection.spi.AbstractPersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Observes, for a sampled session, which associations of the entities returned
+ * by each query were fetched by the query, which of the unfetched ones were
+ * initialized later, and which of the fetched ones were actually read. The
+ * observations are handed to the {@link FetchPlanAdvisor} when the session ends.
+ * <p>
+ * Only the state produced by the query itself is observed: the load contexts
+ * report the entities and collections they initialize while the query is
+ * executed, and other entities and collections, as well as associations
+ * fetched because of the {@link FetchPlanAdvisor.AdvisedFetchGraph advice},
+ * are ignored. Reads of collections are observed for every entity, but
+ * reads of fetched to-one associations only for entities enhanced for lazy
+ * loading, since Hibernate has no other way to observe them.
+ *
+ * @since 7.0
+ */
+@Incubating
+public class FetchPlanProfiler implements SessionEventListener {
+	// how far the associations of the query results are followed
+	private static final int MAXIMUM_DEPTH = 3;
+	// bounds the memory held by the profiler of a long-running session
+	private static final int MAXIMUM_ENTITY_COUNT = 1_000;
+
+	private final FetchPlanAdvisor advisor;
+	private final SharedSessionContractImplementor session;
+
+	private final Map<Object, Set<String>> readAttributesByEntity = new IdentityHashMap<>();
+	private final List<TrackedAssociation> trackedAssociations = new ArrayList<>();
+	private final List<String> executedQueries = new ArrayList<>();
+	// the entities and collections initialized by each query being executed
+	private final List<Set<Object>> executingQueries = new ArrayList<>( 1 );
+	private boolean ended;
+
+	FetchPlanProfiler(FetchPlanAdvisor advisor, SharedSessionContractImplementor session) {
+		this.advisor = advisor;
+		this.session = session;
+	}
+
+	/**
+	 * Called before a query is executed.
+	 *
+	 * @return the set which collects the entity instances and collections
+	 * initialized while the query is executed, to be passed to {@link #queryExecuted}
+	 */
+	public Set<Object> beforeQuery() {
+		if ( ended || readAttributesByEntity.size() >= MAXIMUM_ENTITY_COUNT ) {
+			return null;
+		}
+		final Set<Object> initializedByQuery = new IdentitySet<>();
+		executingQueries.add( initializedByQuery );
+		return initializedByQuery;
+	}
+
+	/**
+	 * Called by the load context when it finished initializing the given entity
+	 * instance or collection.
+	 */
+	public void initialized(Object entityOrCollection) {
+		for ( int i = 0; i < executingQueries.size(); i++ ) {
+			executingQueries.get( i ).add( entityOrCollection );
+		}
+	}
+
+	/**
+	 * Whether a query is being executed, so that {@link #initialized} needs to be called.
+	 */
+	public boolean isExecutingQuery() {
+		return !executingQueries.isEmpty();
+	}
+
+	/**
+	 * Called after a query returned the given results, or failed.
+	 *
+	 * @param results the results of the query, or {@code null} if it failed
+	 * @param initializedByQuery the result of {@link #beforeQuery()}
+	 * @param advisedAttributePaths the paths of the associations fetched because of
+	 * the {@linkplain FetchPlanAdvisor#getFetchGraph advice} for the query
+	 */
+	public void queryExecuted(
+			String queryString,
+			List<?> results,
+			Set<Object> initializedByQuery,
+			Set<String> advisedAttributePaths) {
+		if ( initializedByQuery == null ) {
+			return;
+		}
+		executingQueries.remove( initializedByQuery );
+		if ( ended || queryString == null || results == null ) {
+			return;
+		}
+		executedQueries.add( queryString );
+		final QueryExecution execution =
+				new QueryExecution( queryString, initializedByQuery, advisedAttributePaths );
+		for ( Object result : results ) {
+			if ( result instanceof Object[] tuple ) {
+				for ( Object element : tuple ) {
+					trackQueryResult( execution, element );
+				}
+			}
+			else {
+				trackQueryResult( execution, result );
+			}
+		}
+	}
+
+	/**
+	 * Called when an attribute of an entity enhanced for lazy loading is read.
+	 */
+	public void attributeRead(Object entity, String attributeName) {
+		if ( !ended ) {
+			final Set<String> readAttributes = readAttributesByEntity.get( entity );
+			if ( readAttributes != null ) {
+				readAttributes.add( attributeName );
+			}
+		}
+	}
+
+	private void trackQueryResult(QueryExecution execution, Object result) {
+		final Object entity = initializedEntity( result );
+		// an entity which was already managed was not produced by the query
+		if ( entity != null && execution.initializedByQuery.contains( entity ) ) {
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( entity );
+			if ( entry != null ) {
+				final EntityPersister persister = entry.getPersister();
+				track( execution, persister.getEntityName(), entity, persister, "", false, 0 );
+			}
+		}
+	}
+
+	private static Object initializedEntity(Object object) {
+		if ( object == null ) {
+			return null;
+		}
+		final LazyInitializer lazyInitializer = extractLazyInitializer( object );
+		if ( lazyInitializer != null ) {
+			return lazyInitializer.isUninitialized() ? null : lazyInitializer.getImplementation();
+		}
+		else {
+			return object;
+		}
+	}
+
+	private void track(
+			QueryExecution execution,
+			String rootEntityName,
+			Object entity,
+			EntityPersister persister,
+			String pathPrefix,
+			boolean throughCollection,
+			int depth) {
+		if ( readAttributesByEntity.containsKey( entity )
+				|| readAttributesByEntity.size() >= MAXIMUM_ENTITY_COUNT ) {
+			return;
+		}
+		final boolean enhancedForLazyLoading = persister.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading();
+		final List<Object> fetchedValues = new ArrayList<>();
+		final List<TrackedAssociation> fetchedAssociations = new ArrayList<>();
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			final boolean plural = attributeMapping.isPluralAttributeMapping();
+			if ( plural || attributeMapping instanceof ToOneAttributeMapping ) {
+				final String attributeName = attributeMapping.getAttributeName();
+				final boolean propertyInitialized =
+						!enhancedForLazyLoading || Hibernate.isPropertyInitialized( entity, attributeName );
+				final Object value = propertyInitialized ? attributeMapping.getValue( entity ) : null;
+				final Object initializedValue = plural ? value : initializedEntity( value );
+				final boolean initialized = propertyInitialized && Hibernate.isInitialized( value );
+				if ( propertyInitialized && ( value == null
+						|| plural && !( value instanceof AbstractPersistentCollection<?> ) )
+						|| initialized && !execution.initializedByQuery.contains( initializedValue ) ) {
+					// nothing to fetch, or nothing the query fetched
+					continue;
+				}
+				final boolean fetchedByQuery = initialized;
+				final TrackedAssociation association = new TrackedAssociation(
+						execution.queryString,
+						rootEntityName,
+						pathPrefix + attributeName,
+						throughCollection || plural,
+						entity,
+						attributeMapping,
+						enhancedForLazyLoading,
+						fetchedByQuery
+				);
+				// the associations fetched because of the advice say nothing
+				// about the fetch plan of the query, and are not recorded
+				if ( !execution.advisedAttributePaths.contains( association.attributePath )
+						&& ( !fetchedByQuery || association.isReadObservable() ) ) {
+					trackedAssociations.add( association );
+				}
+				if ( fetchedByQuery && depth + 1 < MAXIMUM_DEPTH ) {
+					fetchedValues.add( initializedValue );
+					fetchedAssociations.add( association );
+				}
+			}
+		}
+		// only register the entity for read tracking now, so that
+		// the reads of the attribute values above are not counted
+		readAttributesByEntity.put( entity, enhancedForLazyLoading ? new HashSet<>() : null );
+
+		for ( int i = 0; i < fetchedValues.size(); i++ ) {
+			final TrackedAssociation association = fetchedAssociations.get( i );
+			final Object value = fetchedValues.get( i );
+			if ( value instanceof Map<?, ?> map ) {
+				trackAssociated( execution, association, map.values(), depth );
+			}
+			else if ( value instanceof Collection<?> collection ) {
+				trackAssociated( execution, association, collection, depth );
+			}
+			else {
+				trackAssociated( execution, association, value, depth );
+			}
+			// start observing reads of the collection only now,
+			// so that the iteration above is not counted
+			if ( value instanceof AbstractPersistentCollection<?> collection ) {
+				collection.observeReads();
+			}
+		}
+	}
+
+	private void trackAssociated(
+			QueryExecution execution,
+			TrackedAssociation association,
+			Collection<?> elements,
+			int depth) {
+		for ( Object element : elements ) {
+			trackAssociated( execution, association, element, depth );
+		}
+	}
+
+	private void trackAssociated(
+			QueryExecution execution,
+			TrackedAssociation association,
+			Object value,
+			int depth) {
+		final Object entity = initializedEntity( value );
+		if ( entity != null && execution.initializedByQuery.contains( entity ) ) {
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( entity );
+			if ( entry != null ) {
+				track(
+						execution,
+						association.rootEntityName,
+						entity,
+						entry.getPersister(),
+						association.attributePath + '.',
+						association.throughCollection,
+						depth + 1
+				);
+			}
+		}
+	}
+
+	@Override
+	public void end() {
+		if ( !ended ) {
+			ended = true;
+			for ( String queryString : executedQueries ) {
+				advisor.recordExecution( queryString );
+			}
+			for ( TrackedAssociation association : trackedAssociations ) {
+				association.record();
+			}
+			executedQueries.clear();
+			executingQueries.clear();
+			trackedAssociations.clear();
+			readAttributesByEntity.clear();
+		}
+	}
+
+	private static class QueryExecution {
+		private final String queryString;
+		private final Set<Object> initializedByQuery;
+		private final Set<String> advisedAttributePaths;
+
+		private QueryExecution(String queryString, Set<Object> initializedByQuery, Set<String> advisedAttributePaths) {
+			this.queryString = queryString;
+			this.initializedByQuery = initializedByQuery;
+			this.advisedAttributePaths = advisedAttributePaths;
+		}
+	}
+
+	private class TrackedAssociation {
+		private final String queryString;
+		private final String rootEntityName;
+		private final String attributePath;
+		private final boolean throughCollection;
+		private final Object entity;
+		private final AttributeMapping attributeMapping;
+		private final boolean enhancedForLazyLoading;
+		private final boolean fetchedByQuery;
+
+		private TrackedAssociation(
+				String queryString,
+				String rootEntityName,
+				String attributePath,
+				boolean throughCollection,
+				Object entity,
+				AttributeMapping attributeMapping,
+				boolean enhancedForLazyLoading,
+				boolean fetchedByQuery) {
+			this.queryString = queryString;
+			this.rootEntityName = rootEntityName;
+			this.attributePath = attributePath;
+			this.throughCollection = throughCollection;
+			this.entity = entity;
+			this.attributeMapping = attributeMapping;
+			this.enhancedForLazyLoading = enhancedForLazyLoading;
+			this.fetchedByQuery = fetchedByQuery;
+		}
+
+		private boolean isReadObservable() {
+			return enhancedForLazyLoading || attributeMapping.isPluralAttributeMapping();
+		}
+
+		private void record() {
+			if ( fetchedByQuery ) {
+				advisor.recordFetched( queryString, rootEntityName, attributePath, throughCollection, wasRead() );
+			}
+			else {
+				advisor.recordUnfetched( queryString, rootEntityName, attributePath, throughCollection, isInitialized() );
+			}
+		}
+
+		private boolean wasRead() {
+			if ( attributeMapping.isPluralAttributeMapping() ) {
+				return attributeMapping.getValue( entity ) instanceof AbstractPersistentCollection<?> collection
+					&& collection.wasRead();
+			}
+			else {
+				return readAttributesByEntity.get( entity ).contains( attributeMapping.getAttributeName() );
+			}
+		}
+
+		private boolean isInitialized() {
+			return ( !enhancedForLazyLoading || Hibernate.isPropertyInitialized( entity, attributeMapping.getAttributeName() ) )
+				&& Hibernate.isInitialized( attributeMapping.getValue( entity ) );
+		}
+	}
+}
@@ -129,6 +129,47 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void recreateCollection(String role);
 
+	/**
+	 * Callback indicating that adaptive batch fetching adjusted the batch size
+	 * used to batch fetch an entity.
+	 *
+	 * @param entityName The name of the entity
+	 * @param batchSize The new batch size
+	 *
+	 * @since 7.0
+	 */
+	default void adjustEntityBatchFetchSize(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that adaptive batch fetching adjusted the batch size
+	 * used to batch fetch a collection.
+	 *
+	 * @param role The collection role
+	 * @param batchSize The new batch size
+	 *
+	 * @since 7.0
+	 */
+	default void adjustCollectionBatchFetchSize(String role, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that an N+1 select problem was detected, that is, that
+	 * an entity or collection was fetched by many separate selects within a single
+	 * flush cycle of a session.
+	 *
+	 * @param role The entity name, or the collection role
+	 * @param fetchCount The number of separate fetches
+	 * @param fetchTime The total time spent in the fetches, in nanoseconds
+	 *
+	 * @since 7.0
+	 */
+	default void nPlusOneDetected(String role, int fetchCount, long fetchTime) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating a collection removal.
 	 *
@@ -289,4 +330,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * The advisor collecting the use of associations in sampled sessions,
+	 * or {@code null} if fetch plan advice is disabled.
+	 *
+	 * @since 7.0
+	 */
+	default FetchPlanAdvisor getFetchPlanAdvisor() {
+		//For backward compatibility
+		return null;
+	}
 }
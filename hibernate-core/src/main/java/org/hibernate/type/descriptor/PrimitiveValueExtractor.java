@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.type.descriptor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A {@link ValueExtractor} for a numeric JDBC type which is also able to
+ * extract values from a {@link ResultSet} as primitives, without boxing
+ * them.
+ * <p>
+ * Like the primitive getters of {@code ResultSet}, the primitive extraction
+ * methods return zero when the value is SQL {@code null}, and the caller is
+ * expected to consult {@link ResultSet#wasNull()} right after calling them.
+ *
+ * @since 7.0
+ */
+public interface PrimitiveValueExtractor<X> extends ValueExtractor<X> {
+	/**
+	 * Extract the value from the result set as a {@code long}.
+	 *
+	 * @throws SQLException Indicates a JDBC error occurred.
+	 */
+	long extractLong(ResultSet rs, int paramIndex) throws SQLException;
+
+	/**
+	 * Extract the value from the result set as a {@code double}.
+	 *
+	 * @throws SQLException Indicates a JDBC error occurred.
+	 */
+	double extractDouble(ResultSet rs, int paramIndex) throws SQLException;
+
+	/**
+	 * Box a value obtained from {@link #extractLong}, producing the same
+	 * value {@link #extract(ResultSet, int, WrapperOptions)} would have.
+	 */
+	X wrapLong(long value, WrapperOptions options);
+
+	/**
+	 * Box a value obtained from {@link #extractDouble}, producing the same
+	 * value {@link #extract(ResultSet, int, WrapperOptions)} would have.
+	 */
+	X wrapDouble(double value, WrapperOptions options);
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Convenience base implementation of {@link PrimitiveValueExtractor} for
+ * floating point JDBC types, whose values are natively extracted as
+ * {@code double}.
+ *
+ * @since 7.0
+ */
+public abstract class BasicFloatingPointExtractor<J> extends BasicExtractor<J> implements PrimitiveValueExtractor<J> {
+	public BasicFloatingPointExtractor(JavaType<J> javaType, JdbcType jdbcType) {
+		super( javaType, jdbcType );
+	}
+
+	@Override
+	public long extractLong(ResultSet rs, int paramIndex) throws SQLException {
+		return (long) extractDouble( rs, paramIndex );
+	}
+
+	@Override
+	public J wrapLong(long value, WrapperOptions options) {
+		return wrapDouble( value, options );
+	}
+}
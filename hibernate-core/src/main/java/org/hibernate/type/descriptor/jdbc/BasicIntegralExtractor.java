@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.type.descriptor.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.descriptor.PrimitiveValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Convenience base implementation of {@link PrimitiveValueExtractor} for
+ * integral JDBC types, whose values are natively extracted as {@code long}.
+ *
+ * @since 7.0
+ */
+public abstract class BasicIntegralExtractor<J> extends BasicExtractor<J> implements PrimitiveValueExtractor<J> {
+	public BasicIntegralExtractor(JavaType<J> javaType, JdbcType jdbcType) {
+		super( javaType, jdbcType );
+	}
+
+	@Override
+	public double extractDouble(ResultSet rs, int paramIndex) throws SQLException {
+		return extractLong( rs, paramIndex );
+	}
+
+	@Override
+	public J wrapDouble(double value, WrapperOptions options) {
+		return wrapLong( (long) value, options );
+	}
+}
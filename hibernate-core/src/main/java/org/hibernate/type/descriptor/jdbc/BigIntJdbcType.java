@@ -70,12 +70,22 @@ public class BigIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
-		return new BasicExtractor<>( javaType, this ) {
+		return new BasicIntegralExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 				return javaType.wrap( rs.getLong( paramIndex ), options );
 			}
 
+			@Override
+			public long extractLong(ResultSet rs, int paramIndex) throws SQLException {
+				return rs.getLong( paramIndex );
+			}
+
+			@Override
+			public X wrapLong(long value, WrapperOptions options) {
+				return javaType.wrap( value, options );
+			}
+
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
 				return javaType.wrap( statement.getLong( index ), options );
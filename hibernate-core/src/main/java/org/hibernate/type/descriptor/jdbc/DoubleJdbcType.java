@@ -96,12 +96,22 @@ public class DoubleJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
-		return new BasicExtractor<>( javaType, this ) {
+		return new BasicFloatingPointExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 				return javaType.wrap( rs.getDouble( paramIndex ), options );
 			}
 
+			@Override
+			public double extractDouble(ResultSet rs, int paramIndex) throws SQLException {
+				return rs.getDouble( paramIndex );
+			}
+
+			@Override
+			public X wrapDouble(double value, WrapperOptions options) {
+				return javaType.wrap( value, options );
+			}
+
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
 				return javaType.wrap( statement.getDouble( index ), options );
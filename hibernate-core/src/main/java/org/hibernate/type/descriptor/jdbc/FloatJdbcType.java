@@ -85,12 +85,22 @@ public class FloatJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
-		return new BasicExtractor<>( javaType, this ) {
+		return new BasicFloatingPointExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 				return javaType.wrap( rs.getFloat( paramIndex ), options );
 			}
 
+			@Override
+			public double extractDouble(ResultSet rs, int paramIndex) throws SQLException {
+				return rs.getFloat( paramIndex );
+			}
+
+			@Override
+			public X wrapDouble(double value, WrapperOptions options) {
+				return javaType.wrap( (float) value, options );
+			}
+
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
 				return javaType.wrap( statement.getFloat( index ), options );
@@ -82,12 +82,22 @@ public class TinyIntJdbcType implements JdbcType {
 
 	@Override
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
-		return new BasicExtractor<>( javaType, this ) {
+		return new BasicIntegralExtractor<>( javaType, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
 				return javaType.wrap( rs.getByte( paramIndex ), options );
 			}
 
+			@Override
+			public long extractLong(ResultSet rs, int paramIndex) throws SQLException {
+				return rs.getByte( paramIndex );
+			}
+
+			@Override
+			public X wrapLong(long value, WrapperOptions options) {
+				return javaType.wrap( (byte) value, options );
+			}
+
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
 				return javaType.wrap( statement.getByte( index ), options );
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
+import org.hibernate.stat.EntityStatistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Customer.class,
+		AdaptiveBatchFetchTest.Order.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "2"),
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "16"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		}
+)
+public class AdaptiveBatchFetchTest {
+
+	private static final int ORDERS = 40;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ORDERS; i++ ) {
+						final Customer customer = new Customer( i, "customer " + i );
+						session.persist( customer );
+						session.persist( new Order( i, customer ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from CustomerOrder" ).executeUpdate();
+					session.createMutationQuery( "delete from Customer" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testBatchSizeGrows(SessionFactoryScope scope) {
+		// only the loaders using an array parameter adapt their batch size
+		assumeTrue( MultiKeyLoadHelper.supportsSqlArrayType( scope.getSessionFactory().getJdbcServices().getDialect() ) );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.getSessionFactory().getStatistics().clear();
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders = session.createSelectionQuery( "from CustomerOrder order by id", Order.class )
+							.getResultList();
+					statementInspector.clear();
+					for ( Order order : orders ) {
+						Hibernate.initialize( order.customer );
+					}
+					// batches of 2, 4, 8, 16, and the remaining 10
+					statementInspector.assertExecutedCount( 5 );
+				}
+		);
+
+		final EntityStatistics statistics = scope.getSessionFactory().getStatistics()
+				.getEntityStatistics( Customer.class.getName() );
+		assertThat( statistics.getBatchFetchSize() ).isEqualTo( 16 );
+		assertThat( statistics.getBatchFetchSizeAdjustmentCount() ).isEqualTo( 3 );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "CustomerOrder")
+	@Table(name = "customer_order")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = {
+		InitializeAllTest.Customer.class,
+		InitializeAllTest.Order.class,
+		InitializeAllTest.OrderLine.class,
+		InitializeAllTest.Product.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class InitializeAllTest {
+
+	private static final int ORDERS = 20;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ORDERS; i++ ) {
+						final Customer customer = new Customer( i, "customer " + i );
+						session.persist( customer );
+						final Order order = new Order( i, customer );
+						session.persist( order );
+						for ( int j = 0; j < 2; j++ ) {
+							final Product product = new Product( i * 2 + j, "product " + ( i * 2 + j ) );
+							session.persist( product );
+							final OrderLine line = new OrderLine( i * 2 + j, order, product );
+							session.persist( line );
+							order.lines.add( line );
+						}
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from OrderLine" ).executeUpdate();
+					session.createMutationQuery( "delete from Product" ).executeUpdate();
+					session.createMutationQuery( "delete from CustomerOrder" ).executeUpdate();
+					session.createMutationQuery( "delete from Customer" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testToOne(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders = session.createSelectionQuery( "from CustomerOrder", Order.class )
+							.getResultList();
+					statementInspector.clear();
+					session.initializeAll( orders, "customer" );
+					statementInspector.assertExecutedCount( 1 );
+					for ( Order order : orders ) {
+						assertThat( Hibernate.isInitialized( order.customer ) ).isTrue();
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testNestedPath(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders = session.createSelectionQuery( "from CustomerOrder", Order.class )
+							.getResultList();
+					statementInspector.clear();
+					session.initializeAll( orders, "lines.product" );
+					// one for all the lines, and one for all the products
+					statementInspector.assertExecutedCount( 2 );
+					for ( Order order : orders ) {
+						assertThat( Hibernate.isInitialized( order.lines ) ).isTrue();
+						assertThat( order.lines ).hasSize( 2 );
+						for ( OrderLine line : order.lines ) {
+							assertThat( Hibernate.isInitialized( line.product ) ).isTrue();
+						}
+					}
+
+					// already initialized
+					statementInspector.clear();
+					session.initializeAll( orders, "lines.product" );
+					statementInspector.assertExecutedCount( 0 );
+				}
+		);
+	}
+
+	@Test
+	public void testProxies(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders = new ArrayList<>();
+					for ( int i = 0; i < ORDERS; i++ ) {
+						orders.add( session.getReference( Order.class, i ) );
+					}
+					statementInspector.clear();
+					session.initializeAll( orders, "customer" );
+					// one for the orders, and one for the customers
+					statementInspector.assertExecutedCount( 2 );
+					for ( Order order : orders ) {
+						assertThat( Hibernate.isInitialized( order ) ).isTrue();
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testNotAnAssociation(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Customer> customers = session.createSelectionQuery( "from Customer", Customer.class )
+							.getResultList();
+					assertThatThrownBy( () -> session.initializeAll( customers, "name" ) )
+							.isInstanceOf( IllegalArgumentException.class );
+				}
+		);
+	}
+
+	@Test
+	public void testDetachedOwner(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders = session.createSelectionQuery( "from CustomerOrder", Order.class )
+							.getResultList();
+					session.evict( orders.get( 0 ) );
+					assertThatThrownBy( () -> session.initializeAll( orders, "lines" ) )
+							.isInstanceOf( IllegalArgumentException.class )
+							.hasMessageContaining( "CustomerOrder" );
+				}
+		);
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "CustomerOrder")
+	@Table(name = "customer_order")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		@OneToMany(mappedBy = "order")
+		private List<OrderLine> lines = new ArrayList<>();
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Order order;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Product product;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Integer id, Order order, Product product) {
+			this.id = id;
+			this.order = order;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
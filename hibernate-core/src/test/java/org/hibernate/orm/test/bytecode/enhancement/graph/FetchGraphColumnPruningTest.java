@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.graph;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.jpa.SpecHints;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.graph.GraphSemantic.FETCH;
+import static org.hibernate.graph.GraphSemantic.LOAD;
+
+@DomainModel(annotatedClasses = FetchGraphColumnPruningTest.Document.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.FETCH_GRAPH_COLUMN_PRUNING, value = "true"))
+@BytecodeEnhanced
+@EnhancementOptions(lazyLoading = true)
+public class FetchGraphColumnPruningTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1L, "first", "the first body" ) );
+			session.persist( new Document( 2L, "second", "the second body" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Document" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testQueryWithFetchGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final EntityGraph<Document> graph = session.createEntityGraph( Document.class );
+			graph.addAttributeNode( "title" );
+			statementInspector.clear();
+			final List<Document> documents = session.createSelectionQuery( "from Document d order by d.id", Document.class )
+					.setEntityGraph( graph, FETCH )
+					.getResultList();
+			statementInspector.assertExecutedCount( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( "title" ).doesNotContain( "body" );
+
+			final Document document = documents.get( 0 );
+			assertThat( Hibernate.isPropertyInitialized( document, "title" ) ).isTrue();
+			assertThat( Hibernate.isPropertyInitialized( document, "body" ) ).isFalse();
+			assertThat( document.getBody() ).isEqualTo( "the first body" );
+			assertThat( Hibernate.isPropertyInitialized( document, "body" ) ).isTrue();
+			statementInspector.assertExecutedCount( 2 );
+		} );
+	}
+
+	@Test
+	public void testQueryWithLoadGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final EntityGraph<Document> graph = session.createEntityGraph( Document.class );
+			graph.addAttributeNode( "title" );
+			statementInspector.clear();
+			final Document document = session.createSelectionQuery( "from Document d where d.id = 1", Document.class )
+					.setEntityGraph( graph, LOAD )
+					.getSingleResult();
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( "body" );
+			assertThat( Hibernate.isPropertyInitialized( document, "body" ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testFindWithFetchGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final EntityGraph<Document> graph = session.createEntityGraph( Document.class );
+			graph.addAttributeNode( "title" );
+			statementInspector.clear();
+			final Document document = session.find(
+					Document.class,
+					2L,
+					Map.of( SpecHints.HINT_SPEC_FETCH_GRAPH, graph )
+			);
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "body" );
+			assertThat( document.getTitle() ).isEqualTo( "second" );
+			assertThat( Hibernate.isPropertyInitialized( document, "body" ) ).isFalse();
+			assertThat( document.getBody() ).isEqualTo( "the second body" );
+		} );
+	}
+
+	@Test
+	public void testUpdateDoesNotOverwriteUnfetchedAttribute(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final EntityGraph<Document> graph = session.createEntityGraph( Document.class );
+			graph.addAttributeNode( "title" );
+			final Document document = session.createSelectionQuery( "from Document d where d.id = 1", Document.class )
+					.setEntityGraph( graph, FETCH )
+					.getSingleResult();
+			document.setTitle( "updated" );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1L );
+			assertThat( document.getTitle() ).isEqualTo( "updated" );
+			assertThat( document.getBody() ).isEqualTo( "the first body" );
+			assertThat( document.getVersion() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private String body;
+
+		@Version
+		private int version;
+
+		public Document() {
+		}
+
+		public Document(Long id, String title, String body) {
+			this.id = id;
+			this.title = title;
+			this.body = body;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryIdsOnlyTest.Product.class)
+@SessionFactory(generateStatistics = true, useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = QuerySettings.QUERY_IDS_ONLY, value = "true")
+})
+public class QueryIdsOnlyTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1L, "first" ) );
+			session.persist( new Product( 2L, "second" ) );
+			session.persist( new Product( 3L, "third" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Product" ).executeUpdate()
+		);
+		scope.getSessionFactory().getCache().evictEntityData();
+	}
+
+	@Test
+	public void testWarmCache(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createSelectionQuery(
+					"from Product p where p.name <> :name order by p.id desc",
+					Product.class
+			).setParameter( "name", "second" ).getResultList();
+			assertThat( products ).extracting( Product::getName ).containsExactly( "third", "first" );
+		} );
+		statementInspector.assertExecutedCount( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWith( "select p1_0.id from" );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testCacheMisses(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Product.class, 2L );
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createQuery( "from Product p order by p.id", Product.class )
+					.getResultList();
+			assertThat( products ).extracting( Product::getName ).containsExactly( "first", "second", "third" );
+		} );
+		statementInspector.assertExecutedCount( 2 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testHintDisablesIdsOnly(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createQuery( "from Product p order by p.id", Product.class )
+					.setHint( HibernateHints.HINT_QUERY_IDS_ONLY, false )
+					.getResultList();
+			assertThat( products ).hasSize( 3 );
+		} );
+		statementInspector.assertExecutedCount( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).contains( "name" );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testDistinctOrderedByOtherAttribute(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createSelectionQuery(
+					"select distinct p from Product p order by p.name desc",
+					Product.class
+			).getResultList();
+			assertThat( products ).extracting( Product::getName ).containsExactly( "third", "second", "first" );
+		} );
+		statementInspector.assertExecutedCount( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWith( "select distinct p1_0.id,p1_0.name from" );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testDistinctOrderedByIdentifier(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createSelectionQuery(
+					"select distinct p from Product p order by p.id",
+					Product.class
+			).getResultList();
+			assertThat( products ).extracting( Product::getName ).containsExactly( "first", "second", "third" );
+		} );
+		statementInspector.assertExecutedCount( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWith( "select distinct p1_0.id from" );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testProjectionNotAffected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> names = session.createQuery( "select p.name from Product p order by p.id", String.class )
+					.getResultList();
+			assertThat( names ).containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Entity(name = "Product")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cascade;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(
+		annotatedClasses = {
+				RemoveUninitializedOneToManyTest.Parent.class,
+				RemoveUninitializedOneToManyTest.Child.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true, generateStatistics = true)
+public class RemoveUninitializedOneToManyTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Parent parent = new Parent( 1L );
+					for ( long i = 1; i <= 3; i++ ) {
+						parent.addChild( new Child( i ) );
+					}
+					session.persist( parent );
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from RemChild" ).executeUpdate();
+					session.createMutationQuery( "delete from RemParent" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testRemoveWithoutLoadingChildren(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction(
+				session -> {
+					final Parent parent = session.find( Parent.class, 1L );
+					assertFalse( Hibernate.isInitialized( parent.getChildren() ) );
+
+					statementInspector.clear();
+					session.remove( parent );
+					session.flush();
+
+					assertFalse( Hibernate.isInitialized( parent.getChildren() ) );
+					statementInspector.assertExecutedCount( 2 );
+					final String childDelete = statementInspector.getSqlQueries().get( 0 ).toLowerCase();
+					assertTrue( childDelete.startsWith( "delete from rem_child" ), childDelete );
+					statementInspector.assertNumberOfOccurrenceInQuery( 1, "rem_parent", 1 );
+				}
+		);
+		// the children deleted by the single statement are counted
+		assertEquals( 3L, statistics.getEntityStatistics( Child.class.getName() ).getDeleteCount() );
+		assertEquals( 4L, statistics.getEntityDeleteCount() );
+		scope.inTransaction(
+				session -> assertEquals(
+						0L,
+						session.createSelectionQuery( "select count(*) from RemChild", Long.class )
+								.getSingleResult()
+				)
+		);
+	}
+
+	@Test
+	public void testRemoveWithManagedChild(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					// a managed child must be deleted as an entity instance
+					final Child child = session.find( Child.class, 2L );
+					final Parent parent = child.getParent();
+					session.remove( parent );
+					session.flush();
+
+					assertTrue( Hibernate.isInitialized( parent.getChildren() ) );
+					assertFalse( session.contains( child ) );
+				}
+		);
+		scope.inTransaction(
+				session -> assertEquals(
+						0L,
+						session.createSelectionQuery( "select count(*) from RemChild", Long.class )
+								.getSingleResult()
+				)
+		);
+	}
+
+	@Entity(name = "RemParent")
+	@Table(name = "rem_parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public List<Child> getChildren() {
+			return children;
+		}
+
+		public void addChild(Child child) {
+			child.parent = this;
+			children.add( child );
+		}
+	}
+
+	@Entity(name = "RemChild")
+	@Table(name = "rem_child")
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id) {
+			this.id = id;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+	}
+}
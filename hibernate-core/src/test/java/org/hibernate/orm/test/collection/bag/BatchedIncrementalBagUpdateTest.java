@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Bag;
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Like {@link IncrementalBagUpdateTest}, but with JDBC batching, where the
+ * row counts of the deletes are checked by the batch.
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.INCREMENTAL_BAG_UPDATES, value = "true"),
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10")
+})
+@DomainModel(annotatedClasses = BatchedIncrementalBagUpdateTest.Owner.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class BatchedIncrementalBagUpdateTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1 );
+					owner.tags.addAll( List.of( "a", "b", "b", "c", "d", "d", "d" ) );
+					session.persist( owner );
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.find( Owner.class, 1 ) ) );
+	}
+
+	@Test
+	public void testRemoveDuplicate(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.remove( "b" );
+
+					statementInspector.clear();
+					session.flush();
+
+					// the delete affects both rows of the duplicate
+					statementInspector.assertExecutedCount( 2 );
+					assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "delete" );
+					statementInspector.assertIsInsert( 1 );
+				}
+		);
+		assertTags( scope, "a", "b", "c", "d", "d", "d" );
+	}
+
+	@Test
+	public void testRemoveSeveralDuplicates(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.remove( "b" );
+					owner.tags.remove( "d" );
+					owner.tags.remove( "a" );
+				}
+		);
+		assertTags( scope, "b", "c", "d", "d" );
+	}
+
+	private static void assertTags(SessionFactoryScope scope, String... expected) {
+		scope.inTransaction(
+				session -> assertThat( session.find( Owner.class, 1 ).tags )
+						.containsExactlyInAnyOrder( expected )
+		);
+	}
+
+	@Entity(name = "BatchedTagOwner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@Bag
+		@ElementCollection
+		@CollectionTable(name = "batched_owner_tags")
+		@Column(name = "tag", nullable = false)
+		private List<String> tags = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Bag;
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = @Setting(name = BatchSettings.INCREMENTAL_BAG_UPDATES, value = "true"))
+@DomainModel(annotatedClasses = IncrementalBagUpdateTest.Owner.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class IncrementalBagUpdateTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1 );
+					owner.tags.addAll( List.of( "a", "b", "b", "c", "d" ) );
+					owner.nullableTags.addAll( List.of( "a", "b", "c" ) );
+					session.persist( owner );
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.find( Owner.class, 1 ) ) );
+	}
+
+	@Test
+	public void testRemoveElement(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.remove( "c" );
+
+					statementInspector.clear();
+					session.flush();
+
+					statementInspector.assertExecutedCount( 1 );
+					assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "delete" );
+				}
+		);
+		assertTags( scope, "a", "b", "b", "d" );
+	}
+
+	@Test
+	public void testAddElement(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.add( 0, "b" );
+					owner.tags.add( "e" );
+
+					statementInspector.clear();
+					session.flush();
+
+					statementInspector.assertExecutedCount( 2 );
+					statementInspector.assertIsInsert( 0 );
+					statementInspector.assertIsInsert( 1 );
+				}
+		);
+		assertTags( scope, "a", "b", "b", "b", "c", "d", "e" );
+	}
+
+	@Test
+	public void testRemoveDuplicate(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.tags.remove( "b" );
+
+					statementInspector.clear();
+					session.flush();
+
+					// the rows can't be told apart, so both are
+					// deleted and the remaining one is reinserted
+					statementInspector.assertExecutedCount( 2 );
+					assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "delete" );
+					statementInspector.assertIsInsert( 1 );
+				}
+		);
+		assertTags( scope, "a", "b", "c", "d" );
+	}
+
+	@Test
+	public void testNullableElementRecreates(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					owner.nullableTags.remove( "c" );
+
+					statementInspector.clear();
+					session.flush();
+
+					// one delete of all rows, and an insert per element
+					statementInspector.assertExecutedCount( 3 );
+				}
+		);
+	}
+
+	private static void assertTags(SessionFactoryScope scope, String... expected) {
+		scope.inTransaction(
+				session -> assertThat( session.find( Owner.class, 1 ).tags )
+						.containsExactlyInAnyOrder( expected )
+		);
+	}
+
+	@Entity(name = "TagOwner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@Bag
+		@ElementCollection
+		@CollectionTable(name = "owner_tags")
+		@Column(name = "tag", nullable = false)
+		private List<String> tags = new ArrayList<>();
+
+		@Bag
+		@ElementCollection
+		@CollectionTable(name = "owner_nullable_tags")
+		@Column(name = "tag")
+		private List<String> nullableTags = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+}
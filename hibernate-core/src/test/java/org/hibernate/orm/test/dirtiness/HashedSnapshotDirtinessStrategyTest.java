@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.HashedSnapshot;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A {@link CustomEntityDirtinessStrategy} receives the loaded values, so they
+ * are never {@linkplain HashedSnapshot hashed}.
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = PersistenceSettings.HASHED_SNAPSHOTS, value = "true"),
+		@Setting(name = AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY,
+				value = "org.hibernate.orm.test.dirtiness.HashedSnapshotDirtinessStrategyTest$Strategy")
+})
+@DomainModel(annotatedClasses = HashedSnapshotDirtinessStrategyTest.Document.class)
+@SessionFactory
+public class HashedSnapshotDirtinessStrategyTest {
+
+	private static final List<Object> LOADED_VALUES = new ArrayList<>();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist( new Document( 1L, new byte[] { 1, 2, 3 } ) )
+		);
+		LOADED_VALUES.clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from StrategyDocument" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStrategyReceivesLoadedValue(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 1L );
+					assertThat( session.getPersistenceContextInternal().getEntry( document ).getLoadedState() )
+							.noneSatisfy( value -> assertThat( value ).isInstanceOf( HashedSnapshot.class ) );
+					document.content = new byte[] { 1, 5, 3 };
+				}
+		);
+		assertThat( LOADED_VALUES ).contains( new byte[] { 1, 2, 3 } );
+		scope.inTransaction(
+				session -> assertThat( session.find( Document.class, 1L ).content ).containsExactly( 1, 5, 3 )
+		);
+	}
+
+	public static class Strategy implements CustomEntityDirtinessStrategy {
+		@Override
+		public boolean canDirtyCheck(Object entity, EntityPersister persister, Session session) {
+			return entity instanceof Document;
+		}
+
+		@Override
+		public boolean isDirty(Object entity, EntityPersister persister, Session session) {
+			return true;
+		}
+
+		@Override
+		public void resetDirty(Object entity, EntityPersister persister, Session session) {
+		}
+
+		@Override
+		public void findDirty(
+				Object entity,
+				EntityPersister persister,
+				Session session,
+				DirtyCheckContext dirtyCheckContext) {
+			dirtyCheckContext.doDirtyChecking(
+					attributeInformation -> {
+						final Object loadedValue = attributeInformation.getLoadedValue();
+						LOADED_VALUES.add( loadedValue );
+						return !Objects.deepEquals( attributeInformation.getCurrentValue(), loadedValue );
+					}
+			);
+		}
+	}
+
+	@Entity(name = "StrategyDocument")
+	public static class Document {
+		@Id
+		private Long id;
+
+		private byte[] content;
+
+		public Document() {
+		}
+
+		public Document(Long id, byte[] content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.HashedSnapshot;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.HASHED_SNAPSHOTS, value = "true"))
+@DomainModel(annotatedClasses = HashedSnapshotTest.Document.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class HashedSnapshotTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist( new Document( 1L, "title", new byte[] { 1, 2, 3 } ) )
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testLoadedStateIsHashed(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 1L );
+					final Object[] loadedState = session.getPersistenceContextInternal()
+							.getEntry( document )
+							.getLoadedState();
+					assertThat( loadedState ).anySatisfy( value -> assertThat( value ).isInstanceOf( HashedSnapshot.class ) );
+					assertThat( loadedState ).contains( "title" );
+				}
+		);
+	}
+
+	@Test
+	public void testUnmodified(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					session.find( Document.class, 1L );
+					statementInspector.clear();
+					session.flush();
+					statementInspector.assertNoUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testModifiedInPlace(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 1L );
+					document.content[1] = 5;
+					statementInspector.clear();
+					session.flush();
+					statementInspector.assertExecutedCount( 1 );
+					statementInspector.assertIsUpdate( 0 );
+
+					// the new state is snapshotted again after the update
+					statementInspector.clear();
+					session.flush();
+					statementInspector.assertNoUpdate();
+
+					document.content = new byte[] { 1, 5, 3, 4 };
+					statementInspector.clear();
+					session.flush();
+					statementInspector.assertIsUpdate( 0 );
+				}
+		);
+		scope.inTransaction(
+				session -> assertThat( session.find( Document.class, 1L ).content ).containsExactly( 1, 5, 3, 4 )
+		);
+	}
+
+	@Test
+	public void testModifiedToCollidingHashCode(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final Document document = session.find( Document.class, 1L );
+					document.content = new byte[] { 0, 31 };
+					session.flush();
+
+					// same length and same Arrays.hashCode() as the previous value
+					document.content[0] = 1;
+					document.content[1] = 0;
+					statementInspector.clear();
+					session.flush();
+					statementInspector.assertIsUpdate( 0 );
+				}
+		);
+		scope.inTransaction(
+				session -> assertThat( session.find( Document.class, 1L ).content ).containsExactly( 1, 0 )
+		);
+	}
+
+	@Test
+	public void testInterceptorReceivesPreviousValue(SessionFactoryScope scope) {
+		final List<Object> previousContent = new ArrayList<>();
+		final Interceptor interceptor = new Interceptor() {
+			@Override
+			public boolean onFlushDirty(
+					Object entity,
+					Object id,
+					Object[] currentState,
+					Object[] previousState,
+					String[] propertyNames,
+					Type[] types) {
+				previousContent.add( previousState[Arrays.asList( propertyNames ).indexOf( "content" )] );
+				return false;
+			}
+		};
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession() ) {
+			session.getTransaction().begin();
+			final Document document = session.find( Document.class, 1L );
+			document.content[1] = 5;
+			session.getTransaction().commit();
+		}
+		assertThat( previousContent ).singleElement().isEqualTo( new byte[] { 1, 2, 3 } );
+	}
+
+	@Test
+	public void testRemove(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.find( Document.class, 1L ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Document.class, 1L ) ).isNull() );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private byte[] content;
+
+		public Document() {
+		}
+
+		public Document(Long id, String title, byte[] content) {
+			this.id = id;
+			this.title = title;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ServiceRegistry(settings = @Setting(name = QuerySettings.SCOPED_AUTO_FLUSH, value = "true"))
+@DomainModel(annotatedClasses = {
+		ScopedAutoFlushTest.Person.class,
+		ScopedAutoFlushTest.Advertisement.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class ScopedAutoFlushTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Person( 1L, "John Doe" ) );
+					session.persist( new Advertisement( 1L, "Hibernate" ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Person" ).executeUpdate();
+					session.createMutationQuery( "delete from Advertisement" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testUnrelatedChangeIsNotFlushed(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					session.find( Person.class, 1L );
+					session.find( Advertisement.class, 1L ).title = "Hibernate ORM";
+
+					statementInspector.clear();
+					session.createSelectionQuery( "from Person", Person.class ).getResultList();
+					statementInspector.assertExecutedCount( 1 );
+					statementInspector.assertNoUpdate();
+
+					statementInspector.clear();
+					final String title = session.createSelectionQuery( "select title from Advertisement", String.class )
+							.getSingleResult();
+					assertEquals( "Hibernate ORM", title );
+					statementInspector.assertExecutedCount( 2 );
+					statementInspector.assertIsUpdate( 0 );
+				}
+		);
+	}
+
+	@Test
+	public void testRelatedChangeIsFlushed(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					session.find( Person.class, 1L ).name = "Jane Doe";
+					session.find( Advertisement.class, 1L );
+
+					statementInspector.clear();
+					final String name = session.createSelectionQuery( "select name from Person", String.class )
+							.getSingleResult();
+					assertEquals( "Jane Doe", name );
+					statementInspector.assertExecutedCount( 2 );
+					statementInspector.assertIsUpdate( 0 );
+				}
+		);
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Advertisement")
+	public static class Advertisement {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Advertisement() {
+		}
+
+		public Advertisement(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -4,6 +4,14 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -15,6 +23,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -302,6 +311,115 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledLoPrefetchOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 4 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 4 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		// crossing the low-water mark prefetches the next block
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+4), sequence.getCurrentValue() );
+		// the prefetched block is not in use yet
+		assertEquals( 1, optimizer.getLastSourceValue().makeValue().intValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// "clock over" to the prefetched block without hitting the source
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+4), sequence.getCurrentValue() );
+		assertEquals( 5, optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoPrefetchOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 1000;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 10 );
+		// the mock source is not thread-safe, a real sequence is
+		final AccessCallback source = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				synchronized ( sequence ) {
+					return sequence.getNextValue();
+				}
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+		final Set<Long> generated = ConcurrentHashMap.newKeySet();
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						final Long next = (Long) optimizer.generate( source );
+						assertTrue( generated.add( next ), "Duplicate value generated: " + next );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertEquals( threads * valuesPerThread, generated.size() );
+		// every fetched block is used, so no values are skipped
+		for ( long value = 1; value <= threads * valuesPerThread; value++ ) {
+			assertTrue( generated.contains( value ), "Value skipped: " + value );
+		}
+		// at most one block is fetched ahead of time
+		assertTrue( sequence.getTimesCalled() <= threads * valuesPerThread / 10 + 1 );
+	}
+
+	@Test
+	public void testBasicBulkOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1 );
+		final Optimizer optimizer = buildBulkOptimizer( -1, 3 );
+
+		assertEquals( 1, optimizer.getIncrementSize() );
+		assertEquals( 0, sequence.getTimesCalled() );
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+			assertEquals( 3, sequence.getTimesCalled() );
+			assertEquals( 3, sequence.getCurrentValue() );
+		}
+
+		// fetch the next chunk of values
+		final Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 6, sequence.getTimesCalled() );
+		assertEquals( 6, sequence.getCurrentValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -322,6 +440,14 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoPrefetchOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_PREFETCH, initial, increment );
+	}
+
+	private static Optimizer buildBulkOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.BULK, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
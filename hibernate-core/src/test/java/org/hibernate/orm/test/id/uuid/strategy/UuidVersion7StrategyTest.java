@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.id.uuid.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BaseUnitTest
+public class UuidVersion7StrategyTest {
+
+	@Test
+	public void testVersionAndVariant() {
+		final long before = System.currentTimeMillis();
+		final UUID uuid = new UuidVersion7Strategy().generateUuid( null );
+		final long after = System.currentTimeMillis();
+
+		assertEquals( 2, uuid.variant() );
+		assertEquals( 7, uuid.version() );
+
+		final long timestamp = uuid.getMostSignificantBits() >>> 16;
+		assertTrue( timestamp >= before );
+		// the counter may have overflowed into the timestamp
+		assertTrue( timestamp <= after + 1 );
+	}
+
+	@Test
+	public void testMonotonic() {
+		final UuidVersion7Strategy strategy = new UuidVersion7Strategy();
+		UUID previous = strategy.generateUuid( null );
+		// more than fits into the counter for a single millisecond
+		for ( int i = 0; i < 10_000; i++ ) {
+			final UUID next = strategy.generateUuid( null );
+			assertEquals( 7, next.version() );
+			assertTrue(
+					Long.compareUnsigned( previous.getMostSignificantBits(), next.getMostSignificantBits() ) < 0,
+					"Values not increasing: " + previous + " then " + next
+			);
+			previous = next;
+		}
+	}
+
+	@Test
+	public void testUniqueUnderContention() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 10_000;
+		final UuidVersion7Strategy strategy = new UuidVersion7Strategy();
+		final Set<UUID> generated = ConcurrentHashMap.newKeySet();
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						generated.add( strategy.generateUuid( null ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertEquals( threads * valuesPerThread, generated.size() );
+	}
+}
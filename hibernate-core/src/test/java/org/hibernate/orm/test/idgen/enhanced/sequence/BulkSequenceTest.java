@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.id.enhanced.BulkOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = @Setting(name = MappingSettings.PREFERRED_POOLED_OPTIMIZER, value = "bulk"))
+@DomainModel(annotatedClasses = BulkSequenceTest.Ticket.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@RequiresDialect(OracleDialect.class)
+public class BulkSequenceTest {
+
+	private static final int FETCH_SIZE = 5;
+
+	@Test
+	public void testValuesFetchedInOneStatement(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Ticket.class );
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) persister.getIdentifierGenerator();
+		assertThat( generator.getOptimizer() ).isInstanceOf( BulkOptimizer.class );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		final Set<Long> ids = new HashSet<>();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < FETCH_SIZE; i++ ) {
+				final Ticket ticket = new Ticket();
+				session.persist( ticket );
+				ids.add( ticket.id );
+			}
+			assertThat( generator.getDatabaseStructure().getTimesAccessed() ).isEqualTo( 1 );
+			statementInspector.assertExecutedCount( 1 );
+
+			// the next value needs another round-trip
+			final Ticket ticket = new Ticket();
+			session.persist( ticket );
+			ids.add( ticket.id );
+			assertThat( generator.getDatabaseStructure().getTimesAccessed() ).isEqualTo( 2 );
+		} );
+		// the sequence itself increments by one
+		assertThat( ids ).containsExactlyInAnyOrder( 1L, 2L, 3L, 4L, 5L, 6L );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Ticket" ).executeUpdate()
+		);
+	}
+
+	@jakarta.persistence.Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "bulk_generator")
+		@SequenceGenerator(name = "bulk_generator", sequenceName = "ticket_seq", allocationSize = FETCH_SIZE)
+		private Long id;
+	}
+}
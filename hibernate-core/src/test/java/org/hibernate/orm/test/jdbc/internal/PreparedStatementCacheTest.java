@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.util.List;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = JdbcSettings.STATEMENT_CACHE_SIZE, value = "2"))
+public class PreparedStatementCacheTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Item" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testStatementReusedWithinTransaction(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Item item = session.find( Item.class, i );
+				assertThat( item.name ).isEqualTo( "item " + i );
+			}
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			for ( int i = 1; i <= 3; i++ ) {
+				final List<String> names = session.createSelectionQuery( "select i.name from Item i where i.id >= :id order by i.id", String.class )
+						.setParameter( "id", i )
+						.setMaxResults( 2 )
+						.getResultList();
+				assertThat( names ).containsExactly( "item " + i, "item " + ( i + 1 ) );
+			}
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		} );
+	}
+
+	@Test
+	public void testStatementsClosedAfterTransaction(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 1; i <= 2; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> {
+				session.find( Item.class, id );
+				session.clear();
+				session.find( Item.class, id );
+			} );
+		}
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementEvicted(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				session.createSelectionQuery( "select i.name from Item i where i.id = 1", String.class ).getSingleResult();
+				session.createSelectionQuery( "select i.name from Item i where i.id = 2", String.class ).getSingleResult();
+				session.createSelectionQuery( "select i.name from Item i where i.id = 3", String.class ).getSingleResult();
+			}
+		} );
+		// with room for two idle statements, cycling through three queries never hits the cache
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 6 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ResourceRegistryStandardImplTest {
+
+	@Test
+	public void testSingleResultSet() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final PreparedStatement statement = mock( PreparedStatement.class );
+		final ResultSet resultSet = mock( ResultSet.class );
+
+		registry.register( statement, true );
+		registry.register( resultSet, statement );
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.release( resultSet, statement );
+		verify( resultSet ).close();
+		verify( statement, never() ).close();
+		assertThat( registry.hasRegisteredResources() ).isTrue();
+
+		registry.release( statement );
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testSeveralResultSets() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final PreparedStatement statement = mock( PreparedStatement.class );
+		final ResultSet first = mock( ResultSet.class );
+		final ResultSet second = mock( ResultSet.class );
+		final ResultSet third = mock( ResultSet.class );
+
+		registry.register( statement, false );
+		registry.register( first, statement );
+		registry.register( second, statement );
+		registry.register( third, statement );
+		registry.release( second, statement );
+		verify( second ).close();
+
+		registry.release( statement );
+		verify( first ).close();
+		verify( third ).close();
+		verify( statement ).close();
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+
+	@Test
+	public void testManyStatements() throws SQLException {
+		final ResourceRegistryStandardImpl registry = new ResourceRegistryStandardImpl();
+		final PreparedStatement[] statements = new PreparedStatement[10];
+		final ResultSet[] resultSets = new ResultSet[statements.length];
+		for ( int i = 0; i < statements.length; i++ ) {
+			statements[i] = mock( PreparedStatement.class );
+			resultSets[i] = mock( ResultSet.class );
+			registry.register( statements[i], true );
+			registry.register( resultSets[i], statements[i] );
+		}
+		assertThatThrownBy( () -> registry.register( statements[7], true ) )
+				.isInstanceOf( HibernateException.class );
+
+		registry.release( statements[2] );
+		verify( resultSets[2] ).close();
+		verify( statements[2] ).close();
+
+		registry.releaseResources();
+		for ( int i = 0; i < statements.length; i++ ) {
+			verify( resultSets[i] ).close();
+			verify( statements[i] ).close();
+		}
+		assertThat( registry.hasRegisteredResources() ).isFalse();
+	}
+}
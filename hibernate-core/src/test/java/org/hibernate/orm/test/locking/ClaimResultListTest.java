@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.locking;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ClaimResultListTest.Job.class)
+@SessionFactory
+public class ClaimResultListTest {
+
+	private static final int JOBS = 10;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < JOBS; i++ ) {
+						session.persist( new Job( i, "NEW" ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Job" ).executeUpdate() );
+	}
+
+	@Test
+	public void testClaim(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Job> jobs = session.createSelectionQuery( "from Job where status = 'NEW' order by id", Job.class )
+							.claimResultList( 3, job -> job.status = "RUNNING" );
+					assertThat( jobs ).extracting( job -> job.id ).containsExactly( 0, 1, 2 );
+					for ( Job job : jobs ) {
+						assertThat( session.getCurrentLockMode( job ) ).isEqualTo( LockMode.UPGRADE_SKIPLOCKED );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> assertThat(
+						session.createSelectionQuery( "select count(*) from Job where status = 'RUNNING'", Long.class )
+								.getSingleResult()
+				).isEqualTo( 3L )
+		);
+	}
+
+	@Test
+	public void testQueryOptionsUnchanged(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final SelectionQuery<Job> query =
+							session.createSelectionQuery( "from Job order by id", Job.class );
+					assertThat( query.claimResultList( 3 ) ).hasSize( 3 );
+					assertThat( query.getHibernateLockMode() ).isEqualTo( LockMode.NONE );
+					assertThat( query.getMaxResults() ).isEqualTo( Integer.MAX_VALUE );
+					assertThat( query.getResultList() ).hasSize( JOBS );
+				}
+		);
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsSkipLocked.class)
+	public void testConcurrentClaimsSkipLockedRows(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Job> first = session.createSelectionQuery( "from Job where status = 'NEW' order by id", Job.class )
+							.claimResultList( 5, job -> job.status = "RUNNING" );
+					assertThat( first ).hasSize( 5 );
+
+					scope.inTransaction(
+							other -> {
+								final List<Job> second = other.createSelectionQuery( "from Job where status = 'NEW' order by id", Job.class )
+										.claimResultList( 5 );
+								assertThat( second ).hasSize( 5 );
+								assertThat( second ).extracting( job -> job.id )
+										.doesNotContainAnyElementsOf( first.stream().map( job -> job.id ).toList() );
+							}
+					);
+				}
+		);
+	}
+
+	@Entity(name = "Job")
+	@Table(name = "claimed_job")
+	public static class Job {
+		@Id
+		private Integer id;
+
+		private String status;
+
+		public Job() {
+		}
+
+		public Job(Integer id, String status) {
+			this.id = id;
+			this.status = status;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.locking;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = MultiLockAndRefreshTest.Account.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY, value = "false"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class MultiLockAndRefreshTest {
+
+	private static final int ACCOUNTS = 5;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ACCOUNTS; i++ ) {
+						session.persist( new Account( i, 100 ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Account" ).executeUpdate() );
+	}
+
+	@Test
+	public void testRefreshAll(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+							.getResultList();
+					session.createMutationQuery( "update Account set balance = balance + 1" ).executeUpdate();
+
+					statementInspector.clear();
+					session.refreshAll( accounts );
+					statementInspector.assertExecutedCount( 1 );
+
+					for ( Account account : accounts ) {
+						assertThat( account.balance ).isEqualTo( 101 );
+						assertThat( session.contains( account ) ).isTrue();
+						assertThat( session.find( Account.class, account.id ) ).isSameAs( account );
+					}
+					statementInspector.assertExecutedCount( 1 );
+				}
+		);
+	}
+
+	@Test
+	public void testRefreshAllKeepsReadLock(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+							.getResultList();
+					assertThat( session.getCurrentLockMode( accounts.get( 0 ) ) ).isEqualTo( LockMode.READ );
+
+					statementInspector.clear();
+					session.refreshAll( accounts, new LockOptions( LockMode.NONE ) );
+					statementInspector.assertExecutedCount( 1 );
+					for ( Account account : accounts ) {
+						assertThat( session.getCurrentLockMode( account ) ).isEqualTo( LockMode.READ );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testRefreshAllKeepsReadOnly(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+							.getResultList();
+					session.setReadOnly( accounts.get( 0 ), true );
+					session.refreshAll( accounts );
+					assertThat( session.isReadOnly( accounts.get( 0 ) ) ).isTrue();
+					assertThat( session.isReadOnly( accounts.get( 1 ) ) ).isFalse();
+				}
+		);
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsLockTimeouts.class)
+	public void testLockAll(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+							.getResultList();
+
+					statementInspector.clear();
+					session.lockAll( accounts, LockMode.PESSIMISTIC_WRITE );
+					statementInspector.assertExecutedCount( 1 );
+
+					for ( Account account : accounts ) {
+						assertThat( session.getCurrentLockMode( account ) ).isEqualTo( LockMode.PESSIMISTIC_WRITE );
+					}
+
+					// the locks are already held
+					statementInspector.clear();
+					session.lockAll( accounts, LockMode.PESSIMISTIC_WRITE );
+					statementInspector.assertExecutedCount( 0 );
+				}
+		);
+	}
+
+	@Test
+	public void testLockAllDetached(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Account> accounts = session.createSelectionQuery( "from Account order by id", Account.class )
+							.getResultList();
+					session.evict( accounts.get( ACCOUNTS - 1 ) );
+
+					statementInspector.clear();
+					assertThatThrownBy( () -> session.lockAll( accounts, LockMode.PESSIMISTIC_WRITE ) )
+							.isInstanceOf( IllegalArgumentException.class );
+					// no instance was locked
+					statementInspector.assertExecutedCount( 0 );
+					assertThat( session.getCurrentLockMode( accounts.get( 0 ) ) ).isEqualTo( LockMode.READ );
+				}
+		);
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private int balance;
+
+		public Account() {
+		}
+
+		public Account(Integer id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+}
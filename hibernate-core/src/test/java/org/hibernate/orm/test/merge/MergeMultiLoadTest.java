@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.merge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = @Setting(name = FetchSettings.MERGE_MULTI_LOAD, value = "true"))
+@DomainModel(annotatedClasses = {
+		MergeMultiLoadTest.Post.class,
+		MergeMultiLoadTest.Tag.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class MergeMultiLoadTest {
+
+	private static final int TAGS = 5;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < TAGS; i++ ) {
+						session.persist( new Tag( i, "tag " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Post" ).executeUpdate();
+					session.createMutationQuery( "delete from Tag" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testDetachedEntitiesLoadedTogether(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final Post post = new Post( 1, "Hibernate" );
+		for ( int i = 0; i < TAGS; i++ ) {
+			post.tags.add( new Tag( i, "renamed " + i ) );
+		}
+
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+					final Post merged = session.merge( post );
+					// one select for the post, and one for all the tags
+					statementInspector.assertExecutedCount( 2 );
+					assertThat( merged.tags ).hasSize( TAGS );
+					for ( Tag tag : merged.tags ) {
+						assertThat( session.contains( tag ) ).isTrue();
+					}
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final List<Tag> tags = session.createSelectionQuery( "from Tag order by id", Tag.class )
+							.getResultList();
+					assertThat( tags ).extracting( tag -> tag.name )
+							.containsExactly( "renamed 0", "renamed 1", "renamed 2", "renamed 3", "renamed 4" );
+					assertThat( session.find( Post.class, 1 ).tags ).hasSize( TAGS );
+				}
+		);
+	}
+
+	@Test
+	public void testManagedEntitiesNotLoaded(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final Post post = new Post( 1, "Hibernate" );
+		for ( int i = 0; i < TAGS; i++ ) {
+			post.tags.add( new Tag( i, "tag " + i ) );
+		}
+
+		scope.inTransaction(
+				session -> {
+					session.createSelectionQuery( "from Tag", Tag.class ).getResultList();
+					statementInspector.clear();
+					session.merge( post );
+					// only the select for the post
+					statementInspector.assertExecutedCount( 1 );
+				}
+		);
+	}
+
+	@Entity(name = "Post")
+	public static class Post {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToMany(cascade = CascadeType.MERGE)
+		@JoinTable(name = "post_tags")
+		private List<Tag> tags = new ArrayList<>();
+
+		public Post() {
+		}
+
+		public Post(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.Reading.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = JdbcSettings.ADAPTIVE_FETCH_SIZE_MAX, value = "8"),
+				@Setting(name = JdbcSettings.ADAPTIVE_FETCH_SIZE_MIN, value = "3"),
+				@Setting(name = JdbcSettings.STATEMENT_FETCH_SIZE, value = "4")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class AdaptiveFetchSizeTest {
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		final Map<String, Object> properties = scope.getSessionFactory().getProperties();
+		connectionProvider = (PreparedStatementSpyConnectionProvider) properties.get( AvailableSettings.CONNECTION_PROVIDER );
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Reading( i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Reading" ).executeUpdate()
+		);
+	}
+
+	@BeforeEach
+	public void clear() {
+		connectionProvider.clear();
+	}
+
+	@Test
+	public void testLargeResult(SessionFactoryScope scope) {
+		final String hql = "from Reading r where r.id > 0";
+		executeTwice( scope, hql );
+		assertThat( fetchSizeCalls( 0 ) ).containsExactly( 4 );
+		// 10 rows were read, so the fetch size is capped at the maximum
+		assertThat( fetchSizeCalls( 1 ) ).containsExactly( 4, 8 );
+	}
+
+	@Test
+	public void testMediumResult(SessionFactoryScope scope) {
+		final String hql = "from Reading r where r.id < 5";
+		executeTwice( scope, hql );
+		assertThat( fetchSizeCalls( 0 ) ).containsExactly( 4 );
+		// 4 rows were read, so one more is fetched per round trip
+		assertThat( fetchSizeCalls( 1 ) ).containsExactly( 4, 5 );
+	}
+
+	@Test
+	public void testSmallResult(SessionFactoryScope scope) {
+		final String hql = "from Reading r where r.id < 2";
+		executeTwice( scope, hql );
+		assertThat( fetchSizeCalls( 0 ) ).containsExactly( 4 );
+		// a single row was read, but the configured fetch size is never lowered
+		assertThat( fetchSizeCalls( 1 ) ).containsExactly( 4 );
+	}
+
+	@Test
+	public void testQueryFetchSizeTakesPrecedence(SessionFactoryScope scope) {
+		final String hql = "from Reading r where r.id > 1";
+		executeTwice( scope, hql );
+		connectionProvider.clear();
+		scope.inTransaction( session -> session.createSelectionQuery( hql, Reading.class )
+				.setFetchSize( 7 )
+				.getResultList() );
+		assertThat( fetchSizeCalls( 0 ) ).containsExactly( 4, 7 );
+	}
+
+	private static void executeTwice(SessionFactoryScope scope, String hql) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> session.createSelectionQuery( hql, Reading.class ).getResultList() );
+		}
+	}
+
+	private List<Object> fetchSizeCalls(int statementIndex) {
+		try {
+			final PreparedStatement statement = connectionProvider.getPreparedStatements().get( statementIndex );
+			return connectionProvider.spyContext.getCalls( Statement.class.getMethod( "setFetchSize", int.class ), statement )
+					.stream()
+					.map( arguments -> arguments[0] )
+					.toList();
+		}
+		catch (NoSuchMethodException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		private Integer id;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id) {
+			this.id = id;
+		}
+	}
+}
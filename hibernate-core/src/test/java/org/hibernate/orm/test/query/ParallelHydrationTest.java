@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = ParallelHydrationTest.Measurement.class)
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.PARALLEL_HYDRATION_THRESHOLD, value = "4"),
+		@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true")
+})
+@SessionFactory
+public class ParallelHydrationTest {
+	private static final int ROWS = 50;
+	// in a chunk hydrated by the pool
+	private static final int FAILING_ID = 30;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ROWS; i++ ) {
+				session.persist( new Measurement( i, "measurement " + i, i * 1.5 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testDtoProjection(SessionFactoryScope scope) {
+		final Thread callingThread = Thread.currentThread();
+		scope.inTransaction( session -> {
+			final List<Summary> summaries = session.createSelectionQuery(
+					"select new " + Summary.class.getName() + "(m.id, m.name, m.amount) from Measurement m order by m.id",
+					Summary.class
+			).getResultList();
+			assertThat( summaries ).hasSize( ROWS );
+			for ( int i = 0; i < ROWS; i++ ) {
+				final Summary summary = summaries.get( i );
+				assertThat( summary.id ).isEqualTo( i + 1 );
+				assertThat( summary.name ).isEqualTo( "measurement " + ( i + 1 ) );
+				assertThat( summary.amount ).isEqualTo( ( i + 1 ) * 1.5 );
+			}
+			assertThat( summaries ).anySatisfy( summary -> assertThat( summary.thread ).isNotSameAs( callingThread ) );
+		} );
+	}
+
+	@Test
+	public void testFailureInPool(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createSelectionQuery(
+						"select new " + FailingSummary.class.getName() + "(m.id) from Measurement m order by m.id",
+						FailingSummary.class
+				).getResultList()
+		).hasRootCauseInstanceOf( IllegalArgumentException.class )
+				.hasRootCauseMessage( "Failing measurement " + FAILING_ID ) );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Measurement", Long.class ).getSingleResult()
+		).isEqualTo( (long) ROWS ) );
+	}
+
+	@Test
+	public void testSmallResult(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<String> names = session.createSelectionQuery(
+					"select m.name from Measurement m where m.id <= 3 order by m.id",
+					String.class
+			).getResultList();
+			assertThat( names ).containsExactly( "measurement 1", "measurement 2", "measurement 3" );
+		} );
+	}
+
+	@Test
+	public void testCachedTupleProjection(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Object[]> tuples = session.createSelectionQuery(
+						"select m.id, m.name from Measurement m where m.id > 10 order by m.id desc",
+						Object[].class
+				).setCacheable( true ).getResultList();
+				assertThat( tuples ).hasSize( ROWS - 10 );
+				for ( int j = 0; j < tuples.size(); j++ ) {
+					assertThat( tuples.get( j ) ).containsExactly( ROWS - j, "measurement " + ( ROWS - j ) );
+				}
+			} );
+		}
+	}
+
+	@Test
+	public void testEntityResult(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Measurement> measurements = session.createSelectionQuery(
+					"from Measurement m order by m.id",
+					Measurement.class
+			).getResultList();
+			assertThat( measurements ).hasSize( ROWS );
+			assertThat( measurements ).allMatch( session::contains );
+			assertThat( measurements.get( ROWS - 1 ).id ).isEqualTo( ROWS );
+		} );
+	}
+
+	public static class Summary {
+		private final Thread thread = Thread.currentThread();
+		private final Integer id;
+		private final String name;
+		private final Double amount;
+
+		public Summary(Integer id, String name, Double amount) {
+			this.id = id;
+			this.name = name;
+			this.amount = amount;
+		}
+	}
+
+	public static class FailingSummary {
+		public FailingSummary(Integer id) {
+			if ( id == FAILING_ID ) {
+				throw new IllegalArgumentException( "Failing measurement " + id );
+			}
+		}
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private Double amount;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String name, Double amount) {
+			this.id = id;
+			this.name = name;
+			this.amount = amount;
+		}
+	}
+}
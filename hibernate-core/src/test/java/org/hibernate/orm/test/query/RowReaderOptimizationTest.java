@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Hibernate;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.RowReaderOptimizer;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
+
+@ServiceRegistry(
+		settings = @Setting(name = QuerySettings.ROW_READER_OPTIMIZATION_THRESHOLD, value = "2"),
+		services = @ServiceRegistry.Service(
+				role = BytecodeProvider.class,
+				impl = RowReaderOptimizationTest.RecordingBytecodeProvider.class
+		)
+)
+@DomainModel(annotatedClasses = {
+		RowReaderOptimizationTest.Author.class,
+		RowReaderOptimizationTest.Book.class
+})
+@SessionFactory
+public class RowReaderOptimizationTest {
+
+	// executions before, at, and after the threshold
+	private static final int EXECUTIONS = 4;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 3; i++ ) {
+						final Author author = new Author( i, "author " + i );
+						session.persist( author );
+						for ( int j = 0; j < 2; j++ ) {
+							session.persist( new Book( i * 2 + j, "book " + ( i * 2 + j ), author ) );
+						}
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					session.createMutationQuery( "delete from Author" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testEntityWithJoinFetch(SessionFactoryScope scope) {
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Book> books = session.createSelectionQuery(
+								"from Book b join fetch b.author order by b.id",
+								Book.class
+						).getResultList();
+						assertThat( books ).hasSize( 6 );
+						for ( int i = 0; i < books.size(); i++ ) {
+							final Book book = books.get( i );
+							assertThat( book.title ).isEqualTo( "book " + i );
+							assertThat( Hibernate.isInitialized( book.author ) ).isTrue();
+							assertThat( book.author.name ).isEqualTo( "author " + i / 2 );
+						}
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testOptimizerUsedForJoinFetch(SessionFactoryScope scope) {
+		final RecordingBytecodeProvider bytecodeProvider = (RecordingBytecodeProvider)
+				scope.getSessionFactory().getServiceRegistry().requireService( BytecodeProvider.class );
+		final int optimizerCount = bytecodeProvider.optimizers.size();
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> assertThat( session.createSelectionQuery(
+							"from Book b join fetch b.author where b.id < 100 order by b.id",
+							Book.class
+					).getResultList() ).hasSize( 6 )
+			);
+		}
+		assertThat( bytecodeProvider.failures ).hasValue( 0 );
+		// generated once, at the threshold, and used by the executions after it
+		assertThat( bytecodeProvider.optimizers ).hasSize( optimizerCount + 1 );
+		final RecordingOptimizer optimizer = bytecodeProvider.optimizers.get( optimizerCount );
+		assertThat( optimizer.resolution.getInitializers() ).isNotEmpty();
+		assertThat( optimizer.coordinatedRows ).hasValue( ( EXECUTIONS - 1 ) * 6 );
+		assertThat( optimizer.assembledRows ).hasValue( ( EXECUTIONS - 1 ) * 6 );
+	}
+
+	@Test
+	public void testCollectionFetch(SessionFactoryScope scope) {
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Author> authors = session.createSelectionQuery(
+								"from Author a join fetch a.books order by a.id",
+								Author.class
+						).getResultList();
+						assertThat( authors ).hasSize( 3 );
+						for ( Author author : authors ) {
+							assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+							assertThat( author.books ).hasSize( 2 );
+						}
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testTuple(SessionFactoryScope scope) {
+		for ( int execution = 0; execution < EXECUTIONS; execution++ ) {
+			scope.inTransaction(
+					session -> {
+						final List<Object[]> rows = session.createSelectionQuery(
+								"select b.title, a.name from Book b join b.author a order by b.id",
+								Object[].class
+						).getResultList();
+						assertThat( rows ).hasSize( 6 );
+						for ( int i = 0; i < rows.size(); i++ ) {
+							assertThat( rows.get( i ) ).containsExactly( "book " + i, "author " + i / 2 );
+						}
+					}
+			);
+		}
+	}
+
+	@Test
+	public void testGeneratedOptimizer() {
+		final BytecodeProvider bytecodeProvider = buildDefaultBytecodeProvider();
+		final RowReaderOptimizer optimizer = bytecodeProvider.getRowReaderOptimizer(
+				new AssemblersOnlyResolution( new ConstantAssembler( "a" ), new ConstantAssembler( "b" ) )
+		);
+		assertThat( optimizer ).isNotNull();
+		assertThat( optimizer.assembleFirst( null ) ).isEqualTo( "a" );
+		final Object[] row = new Object[2];
+		optimizer.assembleRow( null, row );
+		assertThat( row ).containsExactly( "a", "b" );
+		optimizer.coordinateInitializers( new InitializerData[0], new InitializerData[0], new InitializerData[0] );
+		optimizer.finishUpRow( new InitializerData[0] );
+	}
+
+	public static class RecordingBytecodeProvider extends BytecodeProviderImpl {
+		private final List<RecordingOptimizer> optimizers = new CopyOnWriteArrayList<>();
+		private final AtomicInteger failures = new AtomicInteger();
+
+		@Override
+		public RowReaderOptimizer getRowReaderOptimizer(JdbcValuesMappingResolution resolution) {
+			final RowReaderOptimizer optimizer = super.getRowReaderOptimizer( resolution );
+			if ( optimizer == null ) {
+				failures.incrementAndGet();
+				return null;
+			}
+			final RecordingOptimizer recordingOptimizer = new RecordingOptimizer( resolution, optimizer );
+			optimizers.add( recordingOptimizer );
+			return recordingOptimizer;
+		}
+	}
+
+	private static class RecordingOptimizer implements RowReaderOptimizer {
+		private final JdbcValuesMappingResolution resolution;
+		private final RowReaderOptimizer delegate;
+		private final AtomicInteger coordinatedRows = new AtomicInteger();
+		private final AtomicInteger assembledRows = new AtomicInteger();
+
+		private RecordingOptimizer(JdbcValuesMappingResolution resolution, RowReaderOptimizer delegate) {
+			this.resolution = resolution;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void coordinateInitializers(
+				InitializerData[] resultInitializersData,
+				InitializerData[] sortedForResolveInstanceData,
+				InitializerData[] initializersData) {
+			coordinatedRows.incrementAndGet();
+			delegate.coordinateInitializers( resultInitializersData, sortedForResolveInstanceData, initializersData );
+		}
+
+		@Override
+		public Object assembleFirst(RowProcessingState rowProcessingState) {
+			assembledRows.incrementAndGet();
+			return delegate.assembleFirst( rowProcessingState );
+		}
+
+		@Override
+		public void assembleRow(RowProcessingState rowProcessingState, Object[] resultRow) {
+			assembledRows.incrementAndGet();
+			delegate.assembleRow( rowProcessingState, resultRow );
+		}
+
+		@Override
+		public void finishUpRow(InitializerData[] initializersData) {
+			delegate.finishUpRow( initializersData );
+		}
+	}
+
+	public static class ConstantAssembler implements DomainResultAssembler<String> {
+		private final String value;
+
+		public ConstantAssembler(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public String assemble(RowProcessingState rowProcessingState) {
+			return value;
+		}
+
+		@Override
+		public JavaType<String> getAssembledJavaType() {
+			return StringJavaType.INSTANCE;
+		}
+	}
+
+	private static class AssemblersOnlyResolution implements JdbcValuesMappingResolution {
+		private final DomainResultAssembler<?>[] assemblers;
+
+		private AssemblersOnlyResolution(DomainResultAssembler<?>... assemblers) {
+			this.assemblers = assemblers;
+		}
+
+		@Override
+		public DomainResultAssembler<?>[] getDomainResultAssemblers() {
+			return assemblers;
+		}
+
+		@Override
+		public Initializer<?>[] getResultInitializers() {
+			return Initializer.EMPTY_ARRAY;
+		}
+
+		@Override
+		public Initializer<?>[] getInitializers() {
+			return Initializer.EMPTY_ARRAY;
+		}
+
+		@Override
+		public Initializer<?>[] getSortedForResolveInstance() {
+			return Initializer.EMPTY_ARRAY;
+		}
+
+		@Override
+		public boolean hasCollectionInitializers() {
+			return false;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.annotations.Imported;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = {
+		InstantiationWithNonPublicMembersTest.TestEntity.class,
+		InstantiationWithNonPublicMembersTest.PrivateConstructorDto.class,
+		InstantiationWithNonPublicMembersTest.RecordDto.class,
+		InstantiationWithNonPublicMembersTest.InjectionDto.class,
+		InstantiationWithNonPublicMembersTest.FailingDto.class
+})
+@SessionFactory
+public class InstantiationWithNonPublicMembersTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new TestEntity( 1, "first", 10 ) );
+			session.persist( new TestEntity( 2, "second", 20 ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from TestEntity" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testPrivateConstructor(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<PrivateConstructorDto> results = session.createQuery(
+					"select new PrivateConstructorDto(t.name, t.amount) from TestEntity t order by t.id",
+					PrivateConstructorDto.class
+			).getResultList();
+			assertThat( results ).extracting( dto -> dto.name ).containsExactly( "first", "second" );
+			assertThat( results ).extracting( dto -> dto.amount ).containsExactly( 10, 20 );
+		} );
+	}
+
+	@Test
+	public void testRecord(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<RecordDto> results = session.createQuery(
+					"select new RecordDto(t.name, t.amount) from TestEntity t order by t.id",
+					RecordDto.class
+			).getResultList();
+			assertThat( results ).containsExactly( new RecordDto( "first", 10 ), new RecordDto( "second", 20 ) );
+		} );
+	}
+
+	@Test
+	public void testImplicitRecordInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<RecordDto> results = session.createQuery(
+					"select t.name, t.amount from TestEntity t order by t.id",
+					RecordDto.class
+			).getResultList();
+			assertThat( results ).containsExactly( new RecordDto( "first", 10 ), new RecordDto( "second", 20 ) );
+		} );
+	}
+
+	@Test
+	public void testSetterAndPrivateField(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<InjectionDto> results = session.createQuery(
+					"select new InjectionDto(t.name as name, t.amount as amount) from TestEntity t order by t.id",
+					InjectionDto.class
+			).getResultList();
+			assertThat( results ).extracting( dto -> dto.name ).containsExactly( "first", "second" );
+			assertThat( results ).extracting( dto -> dto.amount ).containsExactly( 10, 20 );
+		} );
+	}
+
+	@Test
+	public void testConstructorFailure(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createQuery(
+						"select new FailingDto(t.name) from TestEntity t",
+						FailingDto.class
+				).getResultList()
+		).hasRootCauseInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int amount;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name, int amount) {
+			this.id = id;
+			this.name = name;
+			this.amount = amount;
+		}
+	}
+
+	@Imported
+	public static class PrivateConstructorDto {
+		private final String name;
+		private final int amount;
+
+		private PrivateConstructorDto(String name, int amount) {
+			this.name = name;
+			this.amount = amount;
+		}
+	}
+
+	@Imported
+	public record RecordDto(String name, int amount) {
+	}
+
+	@Imported
+	public static class InjectionDto {
+		private String name;
+		private int amount;
+
+		private InjectionDto() {
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Imported
+	public static class FailingDto {
+		public FailingDto(String name) {
+			throw new IllegalArgumentException( name );
+		}
+	}
+}
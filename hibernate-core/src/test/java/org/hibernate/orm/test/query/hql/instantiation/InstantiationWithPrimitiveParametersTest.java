@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import org.hibernate.annotations.Imported;
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ServiceRegistry(settings = @Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"))
+@DomainModel(annotatedClasses = {
+		InstantiationWithPrimitiveParametersTest.TestEntity.class,
+		InstantiationWithPrimitiveParametersTest.PrimitiveDto.class,
+		InstantiationWithPrimitiveParametersTest.MixedDto.class
+})
+@SessionFactory
+public class InstantiationWithPrimitiveParametersTest {
+
+	private static final String QUERY = "select new PrimitiveDto(t.intValue, t.longValue, t.shortValue, t.doubleValue, t.floatValue)"
+			+ " from TestEntity t where t.id = :id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new TestEntity( 1, Integer.MAX_VALUE, Long.MIN_VALUE, (short) 7, 1.5d, 2.5f ) );
+			session.persist( new TestEntity( 2, 0, null, null, null, null ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from TestEntity" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testPrimitiveParameters(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PrimitiveDto result = session.createQuery( QUERY, PrimitiveDto.class )
+					.setParameter( "id", 1 )
+					.getSingleResult();
+			assertThat( result.intValue ).isEqualTo( Integer.MAX_VALUE );
+			assertThat( result.longValue ).isEqualTo( Long.MIN_VALUE );
+			assertThat( result.shortValue ).isEqualTo( (short) 7 );
+			assertThat( result.doubleValue ).isEqualTo( 1.5d );
+			assertThat( result.floatValue ).isEqualTo( 2.5f );
+		} );
+	}
+
+	@Test
+	public void testSameColumnReadUnboxedAndBoxed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final MixedDto result = session.createQuery(
+					"select new MixedDto(t.intValue, t.intValue) from TestEntity t where t.id = 1",
+					MixedDto.class
+			).getSingleResult();
+			assertThat( result.primitive ).isEqualTo( Integer.MAX_VALUE );
+			assertThat( result.boxed ).isEqualTo( Integer.MAX_VALUE );
+		} );
+	}
+
+	@Test
+	public void testCachedPrimitiveParameters(SessionFactoryScope scope) {
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final PrimitiveDto result = session.createQuery( QUERY, PrimitiveDto.class )
+						.setParameter( "id", 1 )
+						.setCacheable( true )
+						.getSingleResult();
+				assertThat( result.intValue ).isEqualTo( Integer.MAX_VALUE );
+				assertThat( result.longValue ).isEqualTo( Long.MIN_VALUE );
+				assertThat( result.doubleValue ).isEqualTo( 1.5d );
+			} );
+		}
+	}
+
+	@Test
+	public void testZeroAndNull(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final MixedDto result = session.createQuery(
+					"select new MixedDto(t.intValue, t.intValue) from TestEntity t where t.id = 2",
+					MixedDto.class
+			).getSingleResult();
+			assertThat( result.primitive ).isEqualTo( 0 );
+			assertThat( result.boxed ).isEqualTo( 0 );
+		} );
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createQuery( QUERY, PrimitiveDto.class )
+						.setParameter( "id", 2 )
+						.getSingleResult()
+		).hasRootCauseInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private Integer intValue;
+
+		private Long longValue;
+
+		private Short shortValue;
+
+		private Double doubleValue;
+
+		private Float floatValue;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(
+				Integer id,
+				Integer intValue,
+				Long longValue,
+				Short shortValue,
+				Double doubleValue,
+				Float floatValue) {
+			this.id = id;
+			this.intValue = intValue;
+			this.longValue = longValue;
+			this.shortValue = shortValue;
+			this.doubleValue = doubleValue;
+			this.floatValue = floatValue;
+		}
+	}
+
+	@Imported
+	public static class PrimitiveDto {
+		private final int intValue;
+		private final long longValue;
+		private final short shortValue;
+		private final double doubleValue;
+		private final float floatValue;
+
+		public PrimitiveDto(int intValue, long longValue, short shortValue, double doubleValue, float floatValue) {
+			this.intValue = intValue;
+			this.longValue = longValue;
+			this.shortValue = shortValue;
+			this.doubleValue = doubleValue;
+			this.floatValue = floatValue;
+		}
+	}
+
+	@Imported
+	public static class MixedDto {
+		private final int primitive;
+		private final Integer boxed;
+
+		public MixedDto(int primitive, Integer boxed) {
+			this.primitive = primitive;
+			this.boxed = boxed;
+		}
+	}
+}
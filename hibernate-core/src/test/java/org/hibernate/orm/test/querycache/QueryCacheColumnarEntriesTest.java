@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesColumns;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryCacheColumnarEntriesTest.Measurement.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_COLUMNAR_THRESHOLD, value = "2")
+})
+public class QueryCacheColumnarEntriesTest {
+
+	private static final int MEASUREMENTS = 10;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < MEASUREMENTS; i++ ) {
+				session.persist( new Measurement(
+						i,
+						"category " + i % 3,
+						i % 4 == 0 ? null : i * 10,
+						i * 1_000_000_000_000L,
+						i / 4d
+				) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testTuples(SessionFactoryScope scope) {
+		final List<List<Object>> results = executeTwice(
+				scope,
+				"select m.id, m.category, m.amount, m.total, m.ratio from Measurement m order by m.id",
+				Object[].class
+		);
+		for ( List<Object> result : results ) {
+			assertThat( result ).hasSize( MEASUREMENTS );
+			for ( int i = 0; i < MEASUREMENTS; i++ ) {
+				assertThat( (Object[]) result.get( i ) ).containsExactly(
+						i,
+						"category " + i % 3,
+						i % 4 == 0 ? null : i * 10,
+						i * 1_000_000_000_000L,
+						i / 4d
+				);
+			}
+		}
+	}
+
+	@Test
+	public void testSingleValues(SessionFactoryScope scope) {
+		final List<List<Object>> results = executeTwice(
+				scope,
+				"select m.category from Measurement m order by m.id",
+				String.class
+		);
+		assertThat( results.get( 1 ) ).isEqualTo( results.get( 0 ) );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		final List<List<Object>> results = executeTwice(
+				scope,
+				"from Measurement m order by m.id",
+				Measurement.class
+		);
+		for ( List<Object> result : results ) {
+			assertThat( result ).hasSize( MEASUREMENTS );
+			for ( int i = 0; i < MEASUREMENTS; i++ ) {
+				final Measurement measurement = (Measurement) result.get( i );
+				assertThat( measurement.id ).isEqualTo( i );
+				assertThat( measurement.total ).isEqualTo( i * 1_000_000_000_000L );
+			}
+		}
+	}
+
+	@Test
+	public void testSerialization() {
+		final List<Object> rows = new ArrayList<>();
+		for ( int i = 0; i < MEASUREMENTS; i++ ) {
+			rows.add( new Object[] { i, "category " + i % 3, i % 4 == 0 ? null : (short) i, 2.5f * i, new byte[] { (byte) i } } );
+		}
+		final CachedJdbcValuesColumns columns = CachedJdbcValuesColumns.encode( rows );
+		assertThat( columns ).isNotNull();
+		final CachedJdbcValuesColumns copy = (CachedJdbcValuesColumns) SerializationHelper.clone( columns );
+		assertThat( copy.getRowCount() ).isEqualTo( MEASUREMENTS );
+		for ( int i = 0; i < MEASUREMENTS; i++ ) {
+			final Object[] row = (Object[]) rows.get( i );
+			for ( int j = 0; j < row.length; j++ ) {
+				assertThat( copy.getValue( i, j ) ).isEqualTo( row[j] );
+			}
+			assertThat( copy.isNull( i, 2 ) ).isEqualTo( row[2] == null );
+			assertThat( copy.getLongValue( i, 0 ) ).isEqualTo( i );
+			assertThat( copy.getDoubleValue( i, 3 ) ).isEqualTo( 2.5d * i );
+		}
+
+		// rows of different lengths cannot be encoded
+		rows.add( new Object[] { 1 } );
+		assertThat( CachedJdbcValuesColumns.encode( rows ) ).isNull();
+		assertThat( CachedJdbcValuesColumns.encode( Arrays.asList( 1, "a" ) ) ).isNotNull();
+	}
+
+	private static List<List<Object>> executeTwice(SessionFactoryScope scope, String hql, Class<?> resultType) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<List<Object>> results = new ArrayList<>();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				results.add( new ArrayList<>( session.createQuery( hql, resultType )
+						.setCacheable( true )
+						.getResultList() ) );
+				session.clear();
+			} );
+		}
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		return results;
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private String category;
+
+		private Integer amount;
+
+		private Long total;
+
+		private Double ratio;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String category, Integer amount, Long total, Double ratio) {
+			this.id = id;
+			this.category = category;
+			this.amount = amount;
+			this.total = total;
+			this.ratio = ratio;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.query.Query;
+import org.hibernate.stat.FetchAdvice;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.FETCH_ADVISOR_SAMPLING_RATE, value = "1"),
+		@Setting(name = StatisticsSettings.FETCH_ADVISOR_APPLY, value = "true"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@DomainModel(annotatedClasses = {
+		FetchAdviceTest.Customer.class,
+		FetchAdviceTest.Order.class
+})
+@SessionFactory
+public class FetchAdviceTest {
+
+	private static final int ORDERS = 12;
+	private static final String QUERY = "from CustomerOrder";
+	private static final String CUSTOMERS_QUERY = "from Customer";
+	private static final String CUSTOMERS_WITH_ORDERS_QUERY = "from Customer c left join fetch c.orders";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ORDERS; i++ ) {
+						final Customer customer = new Customer( i, "customer " + i );
+						session.persist( customer );
+						session.persist( new Order( i, customer ) );
+					}
+				}
+		);
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from CustomerOrder" ).executeUpdate();
+					session.createMutationQuery( "delete from Customer" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testFetchAdvice(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Order order : session.createSelectionQuery( QUERY, Order.class ).getResultList() ) {
+						Hibernate.initialize( order.customer );
+					}
+				}
+		);
+
+		final List<FetchAdvice> advice = scope.getSessionFactory().getStatistics().getFetchAdvice();
+		assertThat( advice ).hasSize( 1 );
+		final FetchAdvice fetchAdvice = advice.get( 0 );
+		assertThat( fetchAdvice.getKind() ).isEqualTo( FetchAdvice.Kind.FETCH );
+		assertThat( fetchAdvice.getQueryString() ).isEqualTo( QUERY );
+		assertThat( fetchAdvice.getEntityName() ).isEqualTo( Order.class.getName() );
+		assertThat( fetchAdvice.getAttributePath() ).isEqualTo( "customer" );
+		assertThat( fetchAdvice.getSampleCount() ).isEqualTo( ORDERS );
+		assertThat( fetchAdvice.getRatio() ).isEqualTo( 1.0 );
+	}
+
+	@Test
+	public void testNoAdviceForUnusedAssociation(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createSelectionQuery( QUERY, Order.class ).getResultList()
+		);
+
+		assertThat( scope.getSessionFactory().getStatistics().getFetchAdvice() ).isEmpty();
+	}
+
+	@Test
+	public void testApplyFetchAdvice(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Order order : session.createSelectionQuery( QUERY, Order.class ).getResultList() ) {
+						Hibernate.initialize( order.customer );
+					}
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final Query<Order> query = session.createQuery( QUERY, Order.class );
+					final List<Order> orders = query.getResultList();
+					assertThat( orders ).hasSize( ORDERS );
+					for ( Order order : orders ) {
+						assertThat( Hibernate.isInitialized( order.customer ) ).isTrue();
+					}
+					// the advice only applies to the execution
+					assertThat( query.getHints() ).doesNotContainKey( GraphSemantic.LOAD.getJakartaHintName() );
+				}
+		);
+
+		// the associations fetched because of the advice are not observed
+		final List<FetchAdvice> advice = scope.getSessionFactory().getStatistics().getFetchAdvice();
+		assertThat( advice ).singleElement().satisfies( fetchAdvice -> {
+			assertThat( fetchAdvice.getKind() ).isEqualTo( FetchAdvice.Kind.FETCH );
+			assertThat( fetchAdvice.getSampleCount() ).isEqualTo( ORDERS );
+		} );
+	}
+
+	@Test
+	public void testAdviceDecays(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Order order : session.createSelectionQuery( QUERY, Order.class ).getResultList() ) {
+						Hibernate.initialize( order.customer );
+					}
+				}
+		);
+		assertThat( scope.getSessionFactory().getStatistics().getFetchAdvice() ).hasSize( 1 );
+
+		// the customers are fetched because of the advice, and the results of
+		// the later executions are already managed, so nothing more is observed
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i < 100; i++ ) {
+						session.createSelectionQuery( QUERY, Order.class ).getResultList();
+					}
+				}
+		);
+		assertThat( scope.getSessionFactory().getStatistics().getFetchAdvice() ).isEmpty();
+	}
+
+	@Test
+	public void testDoNotFetchUnreadCollection(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createSelectionQuery( CUSTOMERS_WITH_ORDERS_QUERY, Customer.class ).getResultList()
+		);
+
+		final List<FetchAdvice> advice = scope.getSessionFactory().getStatistics().getFetchAdvice();
+		assertThat( advice ).singleElement().satisfies( fetchAdvice -> {
+			assertThat( fetchAdvice.getKind() ).isEqualTo( FetchAdvice.Kind.DO_NOT_FETCH );
+			assertThat( fetchAdvice.getQueryString() ).isEqualTo( CUSTOMERS_WITH_ORDERS_QUERY );
+			assertThat( fetchAdvice.getAttributePath() ).isEqualTo( "orders" );
+			assertThat( fetchAdvice.getSampleCount() ).isEqualTo( ORDERS );
+			assertThat( fetchAdvice.getRatio() ).isEqualTo( 0.0 );
+		} );
+	}
+
+	@Test
+	public void testNoAdviceForReadCollection(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Customer customer : session.createSelectionQuery( CUSTOMERS_WITH_ORDERS_QUERY, Customer.class )
+							.getResultList() ) {
+						assertThat( customer.orders ).hasSize( 1 );
+					}
+				}
+		);
+
+		assertThat( scope.getSessionFactory().getStatistics().getFetchAdvice() ).isEmpty();
+	}
+
+	@Test
+	public void testAlreadyInitializedIgnored(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Customer customer : session.createSelectionQuery( CUSTOMERS_WITH_ORDERS_QUERY, Customer.class )
+							.getResultList() ) {
+						assertThat( customer.orders ).hasSize( 1 );
+					}
+					// the customers and their orders were not fetched by this query,
+					// so the orders not being read again says nothing about it
+					assertThat( session.createSelectionQuery( CUSTOMERS_QUERY, Customer.class ).getResultList() )
+							.hasSize( ORDERS );
+				}
+		);
+
+		assertThat( scope.getSessionFactory().getStatistics().getFetchAdvice() ).isEmpty();
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "customer")
+		private List<Order> orders = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "CustomerOrder")
+	@Table(name = "customer_order")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
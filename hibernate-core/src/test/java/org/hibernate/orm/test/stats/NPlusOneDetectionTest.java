@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.SessionEventSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = {
+		@Setting(name = SessionEventSettings.N_PLUS_ONE_THRESHOLD, value = "5"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@DomainModel(annotatedClasses = {
+		NPlusOneDetectionTest.Customer.class,
+		NPlusOneDetectionTest.Order.class
+})
+@SessionFactory
+public class NPlusOneDetectionTest {
+
+	private static final int ORDERS = 10;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ORDERS; i++ ) {
+						final Customer customer = new Customer( i, "customer " + i );
+						session.persist( customer );
+						session.persist( new Order( i, customer ) );
+					}
+				}
+		);
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from CustomerOrder" ).executeUpdate();
+					session.createMutationQuery( "delete from Customer" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testLazyToOne(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Order order : session.createSelectionQuery( "from CustomerOrder", Order.class ).getResultList() ) {
+						Hibernate.initialize( order.customer );
+					}
+				}
+		);
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getNPlusOneCount() ).isEqualTo( 1 );
+		final EntityStatistics entityStatistics = statistics.getEntityStatistics( Customer.class.getName() );
+		assertThat( entityStatistics.getNPlusOneCount() ).isEqualTo( 1 );
+		assertThat( entityStatistics.getNPlusOneFetchCount() ).isEqualTo( ORDERS );
+	}
+
+	@Test
+	public void testLazyCollection(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( Customer customer : session.createSelectionQuery( "from Customer", Customer.class ).getResultList() ) {
+						Hibernate.initialize( customer.orders );
+					}
+				}
+		);
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getNPlusOneCount() ).isEqualTo( 1 );
+		final CollectionStatistics collectionStatistics =
+				statistics.getCollectionStatistics( Customer.class.getName() + ".orders" );
+		assertThat( collectionStatistics.getNPlusOneCount() ).isEqualTo( 1 );
+		assertThat( collectionStatistics.getNPlusOneFetchCount() ).isEqualTo( ORDERS );
+	}
+
+	@Test
+	public void testBelowThreshold(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders = session.createSelectionQuery( "from CustomerOrder", Order.class )
+							.setMaxResults( 4 )
+							.getResultList();
+					for ( Order order : orders ) {
+						Hibernate.initialize( order.customer );
+					}
+				}
+		);
+
+		assertThat( scope.getSessionFactory().getStatistics().getNPlusOneCount() ).isZero();
+	}
+
+	@Test
+	public void testJoinFetch(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders =
+							session.createSelectionQuery( "from CustomerOrder o join fetch o.customer", Order.class )
+									.getResultList();
+					for ( Order order : orders ) {
+						assertThat( Hibernate.isInitialized( order.customer ) ).isTrue();
+					}
+				}
+		);
+
+		assertThat( scope.getSessionFactory().getStatistics().getNPlusOneCount() ).isZero();
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "customer")
+		private List<Order> orders = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "CustomerOrder")
+	@Table(name = "customer_order")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.SessionEventSettings;
+import org.hibernate.stat.SessionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry(settings = {
+		@Setting(name = SessionEventSettings.SESSION_MEMORY_SOFT_CAP, value = "4000"),
+		@Setting(name = SessionEventSettings.SESSION_MEMORY_SOFT_CAP_EVICTION, value = "true")
+})
+@DomainModel(annotatedClasses = {
+		SessionMemoryEstimateTest.Item.class,
+		SessionMemoryEstimateTest.Parent.class,
+		SessionMemoryEstimateTest.Child.class
+})
+@SessionFactory
+public class SessionMemoryEstimateTest {
+
+	private static final int ITEMS = 50;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ITEMS; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+					final Parent parent = new Parent( 1 );
+					final Child child = new Child( 1, "child" );
+					child.parent = parent;
+					parent.children.add( child );
+					session.persist( parent );
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from MemItem" ).executeUpdate();
+			session.createMutationQuery( "delete from MemChild" ).executeUpdate();
+			session.createMutationQuery( "delete from MemParent" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEstimate(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final SessionStatistics statistics = session.getStatistics();
+					assertThat( statistics.getEstimatedMemorySize() ).isZero();
+
+					session.find( Item.class, 1 );
+					final long single = statistics.getEstimatedMemorySizeByEntityName().get( "MemItem" );
+					assertThat( single ).isPositive();
+
+					session.find( Item.class, 2 );
+					session.find( Item.class, 3 );
+					assertThat( statistics.getEstimatedMemorySizeByEntityName() ).containsEntry( "MemItem", 3 * single );
+					assertThat( statistics.getEstimatedMemorySize() ).isEqualTo( 3 * single );
+					assertThat( session.getPersistenceContextInternal().getEstimatedMemorySize() )
+							.isEqualTo( statistics.getEstimatedMemorySize() );
+
+					session.detach( session.find( Item.class, 3 ) );
+					assertThat( statistics.getEstimatedMemorySizeByEntityName() ).containsEntry( "MemItem", 2 * single );
+
+					session.clear();
+					assertThat( statistics.getEstimatedMemorySize() ).isZero();
+				}
+		);
+	}
+
+	@Test
+	public void testListenerNotified(SessionFactoryScope scope) {
+		final List<Long> notifications = new ArrayList<>();
+		scope.inTransaction(
+				session -> {
+					session.getEventListenerManager().addListener( new SessionEventListener() {
+						@Override
+						public void memorySoftCapExceeded(long estimatedSize) {
+							notifications.add( estimatedSize );
+						}
+					} );
+
+					session.createSelectionQuery( "from MemItem", Item.class ).getResultList();
+
+					assertThat( notifications ).hasSize( 1 );
+					assertThat( notifications.get( 0 ) ).isGreaterThan( 4000L );
+					// modifiable entities are never evicted
+					assertThat( session.getStatistics().getEntityCount() ).isEqualTo( ITEMS );
+				}
+		);
+	}
+
+	@Test
+	public void testReadOnlyEntitiesEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.setDefaultReadOnly( true );
+					final List<Item> first = session.createSelectionQuery( "from MemItem where id < :id order by id", Item.class )
+							.setParameter( "id", ITEMS / 2 )
+							.getResultList();
+
+					// the entities returned by a load are never evicted by that load
+					assertThat( session.getStatistics().getEntityCount() ).isEqualTo( ITEMS / 2 );
+					assertThat( first ).allMatch( session::contains );
+
+					final List<Item> second = session.createSelectionQuery( "from MemItem where id >= :id order by id", Item.class )
+							.setParameter( "id", ITEMS / 2 )
+							.getResultList();
+
+					assertThat( session.getStatistics().getEntityCount() ).isLessThan( ITEMS );
+					assertThat( second ).allMatch( session::contains );
+					// the oldest entities are evicted first
+					assertThat( session.contains( first.get( 0 ) ) ).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testEvictionDoesNotCascade(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Parent parent = session.find( Parent.class, 1 );
+					session.setReadOnly( parent, true );
+					final Child child = parent.children.get( 0 );
+					assertThat( session.isReadOnly( child ) ).isFalse();
+					child.name = "modified";
+
+					exceedSoftCap( session );
+
+					// the read-only parent is evicted, but not its modified child
+					assertThat( session.contains( parent ) ).isFalse();
+					assertThat( session.contains( child ) ).isTrue();
+				}
+		);
+		scope.inTransaction(
+				session -> assertThat( session.find( Child.class, 1 ).name ).isEqualTo( "modified" )
+		);
+	}
+
+	@Test
+	public void testCascadeTargetNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Parent parent = session.find( Parent.class, 1 );
+					final Child child = parent.children.get( 0 );
+					session.setReadOnly( child, true );
+
+					exceedSoftCap( session );
+
+					// the flush cascades from the parent to the read-only child
+					assertThat( session.contains( parent ) ).isTrue();
+					assertThat( session.contains( child ) ).isTrue();
+					assertThat( session.getStatistics().getEntityCount() ).isLessThan( ITEMS + 2 );
+				}
+		);
+	}
+
+	private static void exceedSoftCap(Session session) {
+		// the first load exceeds the cap, and the next one evicts
+		for ( int i = 0; i < 2; i++ ) {
+			session.createSelectionQuery( "from MemItem", Item.class )
+					.setReadOnly( true )
+					.getResultList();
+		}
+	}
+
+	@Entity(name = "MemParent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "MemChild")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "MemItem")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -39,6 +39,7 @@ public class JfrEventManager implements EventManager {
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
 	private static final EventType prePartialFlushEventType = EventType.getEventType( PrePartialFlushEvent.class );
+	private static final EventType nPlusOneEventType = EventType.getEventType( NPlusOneEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -523,6 +524,38 @@ public class JfrEventManager implements EventManager {
 		}
 	}
 
+	@Override
+	public NPlusOneEvent beginNPlusOneEvent() {
+		if ( nPlusOneEventType.isEnabled() ) {
+			final NPlusOneEvent nPlusOneEvent = new NPlusOneEvent();
+			nPlusOneEvent.begin();
+			return nPlusOneEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeNPlusOneEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			int fetchCount,
+			long fetchTime) {
+		if ( event != null ) {
+			final NPlusOneEvent nPlusOneEvent = (NPlusOneEvent) event;
+			nPlusOneEvent.end();
+			if ( nPlusOneEvent.shouldCommit() ) {
+				nPlusOneEvent.sessionIdentifier = getSessionIdentifier( session );
+				nPlusOneEvent.role = role;
+				nPlusOneEvent.fetchCount = fetchCount;
+				nPlusOneEvent.fetchTime = fetchTime;
+				nPlusOneEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		if ( session == null ) {
 			return null;
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(NPlusOneEvent.NAME)
+@Label("N+1 Select Detected")
+@Category("Hibernate ORM")
+@Description("The same association was fetched by many separate selects")
+@StackTrace(false)
+@AllowNonPortable
+public class NPlusOneEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.NPlusOneEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Entity Name or Collection Role")
+	public String role;
+
+	@Label("Fetch Count")
+	public int fetchCount;
+
+	@Label("Fetch Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long fetchTime;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
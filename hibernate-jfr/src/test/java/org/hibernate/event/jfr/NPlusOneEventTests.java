@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.NPlusOneEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		NPlusOneEventTests.Parent.class,
+		NPlusOneEventTests.Child.class
+})
+@SessionFactory
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.N_PLUS_ONE_THRESHOLD, value = "3")
+)
+public class NPlusOneEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 5; i++ ) {
+						final Parent parent = new Parent( i );
+						session.persist( parent );
+						session.persist( new Child( i, parent ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(NPlusOneEvent.NAME)
+	public void testNPlusOneEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		final String sessionId = scope.fromTransaction(
+				session -> {
+					for ( Child child : session.createSelectionQuery( "from Child", Child.class ).getResultList() ) {
+						Hibernate.initialize( child.parent );
+					}
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( NPlusOneEvent.NAME ) )
+				.toList();
+		assertThat( events ).hasSize( 1 );
+
+		final RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( event.getString( "role" ) ).isEqualTo( Parent.class.getName() );
+		assertThat( event.getInt( "fetchCount" ) ).isEqualTo( 5 );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}